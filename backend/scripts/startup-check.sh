@@ -0,0 +1,64 @@
+#!/usr/bin/env bash
+# Time-to-first-request check of a fast-start build.
+#
+# Starts the thin jar in DIR (with its AppCDS archive if present) RUNS times, measures the time
+# from process launch to the first HTTP response and fails if the median exceeds MAX_MS.
+# The app runs with the fast-start profile as a non-leader (no migrations) on PORT.
+#
+# usage: scripts/startup-check.sh [DIR] [MAX_MS]
+#   env: RUNS (default 3), PORT (default 18080), SPRING_PROFILES_ACTIVE (default dev),
+#        JAVA_OPTS, plus the usual DB_URL/DB_USER/DB_PASSWORD
+set -euo pipefail
+
+DIR=${1:-target/fast-start}
+MAX_MS=${2:-20000}
+RUNS=${RUNS:-3}
+PORT=${PORT:-18080}
+PROFILES="${SPRING_PROFILES_ACTIVE:-dev},fast-start"
+
+# The archive only matches the classpath it was trained with, so run from DIR like the training run
+cd "$DIR"
+JAR=$(ls ./*-fast-start.jar 2>/dev/null | head -1)
+if [ -z "$JAR" ]; then
+    echo "No fast-start jar in $DIR (build with mvn -Pfast-start package)" >&2
+    exit 2
+fi
+JAR=${JAR#./}
+CDS=()
+if [ -f application.jsa ]; then
+    CDS=(-XX:SharedArchiveFile=application.jsa)
+fi
+
+times=()
+for run in $(seq 1 "$RUNS"); do
+    start=$(date +%s%N)
+    # shellcheck disable=SC2086
+    java ${JAVA_OPTS:-} "${CDS[@]}" -jar "$JAR" --spring.profiles.active="$PROFILES" \
+        --server.port="$PORT" --binderua.startup.migration-leader=false > "startup-check-$run.log" 2>&1 &
+    pid=$!
+    elapsed=""
+    while kill -0 "$pid" 2>/dev/null; do
+        # Any HTTP status counts: the first request is answered
+        code=$(curl -s -o /dev/null -w '%{http_code}' "http://localhost:$PORT/actuator/health" || true)
+        if [ "$code" != "000" ]; then
+            elapsed=$(( ($(date +%s%N) - start) / 1000000 ))
+            break
+        fi
+        sleep 0.05
+    done
+    kill "$pid" 2>/dev/null || true
+    wait "$pid" 2>/dev/null || true
+    if [ -z "$elapsed" ]; then
+        echo "Run $run: application exited before answering, see $DIR/startup-check-$run.log" >&2
+        exit 1
+    fi
+    echo "Run $run: first request answered after $elapsed ms"
+    times+=("$elapsed")
+done
+
+median=$(printf '%s\n' "${times[@]}" | sort -n | sed -n "$(( (RUNS + 1) / 2 ))p")
+echo "Median time-to-first-request: $median ms (limit $MAX_MS ms, CDS: ${CDS[*]:-none})"
+if [ "$median" -gt "$MAX_MS" ]; then
+    echo "Startup regressed beyond the limit" >&2
+    exit 1
+fi
@@ -0,0 +1,114 @@
+package com.timetracker.service;
+
+import com.timetracker.entity.TimeEntry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One monthly payroll run over all users: sum each user's hours, compute the UoP or B2B cost,
+ * convert it to UAH and format it. The BigDecimal variant is the former ReportService /
+ * CurrencyService code, the fixed-point variant the current one.
+ *
+ * mvn -Pjmh verify -Djmh.args="PayrollBenchmark -rf json -rff target/jmh-result.json"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PayrollBenchmark {
+
+    private static final int MONTHLY_HOURS = 160;
+    private static final BigDecimal PLN_TO_UAH = new BigDecimal("10.500000");
+
+    @Param("10000")
+    private int users;
+
+    @Param("21")
+    private int entriesPerUser;
+
+    private List<List<TimeEntry>> entries;
+    private BigDecimal[] uopRates;
+    private BigDecimal[] b2bRates;
+    private CurrencyService currencyService;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        entries = new ArrayList<>(users);
+        uopRates = new BigDecimal[users];
+        b2bRates = new BigDecimal[users];
+        for (int u = 0; u < users; u++) {
+            List<TimeEntry> month = new ArrayList<>(entriesPerUser);
+            for (int e = 0; e < entriesPerUser; e++) {
+                // 0.25 to 12.00 hours in quarter steps, as booked in the UI
+                BigDecimal hours = BigDecimal.valueOf(25L * (1 + random.nextInt(48)), 2);
+                month.add(TimeEntry.builder().totalHours(hours).build());
+            }
+            entries.add(month);
+            if (random.nextBoolean()) {
+                uopRates[u] = BigDecimal.valueOf(400_000 + random.nextInt(2_000_000), 2);
+            } else {
+                b2bRates[u] = BigDecimal.valueOf(5_000 + random.nextInt(30_000), 2);
+            }
+        }
+        currencyService = new CurrencyService(null);
+    }
+
+    @Benchmark
+    public void bigDecimal(Blackhole blackhole) {
+        DecimalFormatSymbols symbols = new DecimalFormatSymbols(new Locale("uk", "UA"));
+        symbols.setGroupingSeparator(' ');
+        symbols.setDecimalSeparator(',');
+        for (int u = 0; u < users; u++) {
+            BigDecimal totalHours = entries.get(u).stream()
+                    .map(TimeEntry::getTotalHours)
+                    .reduce(BigDecimal.ZERO, BigDecimal::add);
+            BigDecimal cost = uopRates[u] != null
+                    ? totalHours.multiply(uopRates[u].divide(BigDecimal.valueOf(MONTHLY_HOURS), 2, RoundingMode.HALF_UP))
+                    : totalHours.multiply(b2bRates[u]);
+            BigDecimal uah = cost.multiply(PLN_TO_UAH).setScale(2, RoundingMode.HALF_UP);
+            // The former formatter built its symbols and format per call
+            blackhole.consume(new DecimalFormat("#,##0.00", symbols).format(uah) + " ₴");
+        }
+    }
+
+    @Benchmark
+    public void fixedPoint(Blackhole blackhole) {
+        StringBuilder out = new StringBuilder(32);
+        for (int u = 0; u < users; u++) {
+            ReportService.HoursTotal hours = ReportService.HoursTotal.of(entries.get(u));
+            BigDecimal cost;
+            if (uopRates[u] != null) {
+                long monthly = FixedPointMoney.toFixed(uopRates[u], FixedPointMoney.MINOR_SCALE);
+                cost = hours.cost(FixedPointMoney.hourlyRate(monthly, MONTHLY_HOURS), FixedPointMoney.MINOR_SCALE);
+            } else {
+                BigDecimal rate = b2bRates[u];
+                cost = hours.cost(FixedPointMoney.toFixed(rate, FixedPointMoney.MINOR_SCALE), Math.max(rate.scale(), 0));
+            }
+            BigDecimal uah = currencyService.convert(cost, PLN_TO_UAH);
+            out.setLength(0);
+            blackhole.consume(currencyService.appendCurrency(out, uah, "UA").toString());
+        }
+    }
+}
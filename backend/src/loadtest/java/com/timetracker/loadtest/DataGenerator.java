@@ -0,0 +1,492 @@
+package com.timetracker.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.Flyway;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.beans.factory.config.YamlPropertiesFactoryBean;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * Seeds a migrated database with generated users, projects, members, tasks and time entries.
+ *
+ * Distributions follow what production looks like: a few directors, about one manager per
+ * twelve employees, project popularity and task counts per project skewed (Zipf), employees in
+ * one to five projects, per-user activity log-normal, full days more common than short ones,
+ * and old months mostly approved while the current month is mostly submitted. Rows are written
+ * with COPY into tables whose secondary indexes are dropped for the load and rebuilt afterwards.
+ * All users get the password {@link #PASSWORD}; usernames start with {@link #USERNAME_PREFIX}.
+ */
+@Slf4j
+final class DataGenerator {
+
+    static final String USERNAME_PREFIX = "lt-";
+    static final String PASSWORD = "loadtest";
+
+    private static final String[] STATUSES = { "ZATWIERDZONY", "ODRZUCONY", "ZGLOSZONY" };
+    private static final String[][] WORDS = {
+            { "spotkanie", "projekt", "analiza", "wdrozenie", "raport", "testy", "poprawki", "klient",
+                    "dokumentacja", "konfiguracja", "serwer", "baza", "danych", "przeglad", "kodu" },
+            { "zustrich", "proekt", "analiz", "vprovadzhennia", "zvit", "testuvannia", "vypravlennia",
+                    "kliient", "dokumentatsiia", "nalashtuvannia", "server", "baza", "danykh", "ohliad" },
+            { "meeting", "project", "analysis", "deployment", "report", "testing", "fixes", "customer",
+                    "documentation", "configuration", "server", "database", "review", "code", "planning" }
+    };
+    private static final String[] LANGUAGES = { "PL", "UA", "EN" };
+
+    private final DataSource dataSource;
+    private final LoadTestSettings settings;
+    private final SplittableRandom random;
+
+    DataGenerator(DataSource dataSource, LoadTestSettings settings) {
+        this.dataSource = dataSource;
+        this.settings = settings;
+        this.random = new SplittableRandom(settings.seed());
+    }
+
+    void run() throws SQLException, IOException {
+        long started = System.nanoTime();
+        migrate();
+        try (Connection connection = dataSource.getConnection()) {
+            if (exists(connection)) {
+                throw new IllegalStateException("The database already holds generated data; "
+                        + "use -Dloadtest.skip-seed=true to reuse it");
+            }
+            Model model = new Model(settings, random);
+            model.userBase = nextId(connection, "users");
+            model.projectBase = nextId(connection, "projects");
+            model.taskBase = nextId(connection, "tasks");
+
+            writeUsers(connection, model);
+            writeProjects(connection, model);
+            writeTasks(connection, model);
+            List<String> indexes = dropIndexes(connection, "time_entries");
+            writeEntries(connection, model);
+            recreate(connection, indexes);
+
+            try (Statement statement = connection.createStatement()) {
+                for (String table : List.of("users", "projects", "tasks", "time_entries")) {
+                    statement.execute("select setval(pg_get_serial_sequence('" + table + "', 'id'),"
+                            + " (select max(id) from " + table + "))");
+                }
+                statement.execute("analyze");
+            }
+        }
+        log.info("Generated {} users, {} projects, {} tasks and {} entries in {} s", settings.users(),
+                settings.projects(), settings.tasks(), settings.entries(), (System.nanoTime() - started) / 1_000_000_000L);
+    }
+
+    /**
+     * Apply the application's migrations, with the placeholders from its application.yml.
+     */
+    private void migrate() {
+        YamlPropertiesFactoryBean yaml = new YamlPropertiesFactoryBean();
+        yaml.setResources(new ClassPathResource("application.yml"));
+        Properties properties = yaml.getObject();
+        Map<String, String> placeholders = new HashMap<>();
+        String prefix = "spring.flyway.placeholders.";
+        properties.stringPropertyNames().stream()
+                .filter(name -> name.startsWith(prefix))
+                .forEach(name -> placeholders.put(name.substring(prefix.length()), properties.getProperty(name)));
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration")
+                .baselineOnMigrate(true)
+                .placeholders(placeholders)
+                .load()
+                .migrate();
+    }
+
+    private static boolean exists(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(
+                     "select 1 from users where username like '" + USERNAME_PREFIX + "%' limit 1")) {
+            return rs.next();
+        }
+    }
+
+    private static long nextId(Connection connection, String table) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("select coalesce(max(id), 0) + 1 from " + table)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    private void writeUsers(Connection connection, Model model) throws SQLException, IOException {
+        String password = new BCryptPasswordEncoder(10).encode(PASSWORD);
+        try (Writer out = copy(connection, "users (id, username, email, first_name, last_name, first_name_ua,"
+                + " last_name_ua, password, role, contract_type, uop_gross_rate, b2b_hourly_net_rate, language,"
+                + " active, password_change_required)")) {
+            for (int u = 0; u < settings.users(); u++) {
+                long id = model.userBase + u;
+                String username = username(u);
+                boolean uop = random.nextDouble() < 0.65;
+                // Monthly gross around 9000 PLN, hourly B2B around 140 PLN
+                String uopRate = uop ? money(Math.max(4300, 9000 + random.nextGaussian() * 2500)) : null;
+                String b2bRate = uop ? null : money(Math.max(60, 140 + random.nextGaussian() * 40));
+                row(out, id, username, username + "@loadtest.local", "First" + u, "Last" + u, "Ім'я" + u,
+                        "Прізвище" + u, password, model.role(u), uop ? "UOP" : "B2B", uopRate, b2bRate,
+                        LANGUAGES[model.language[u]], random.nextDouble() < 0.97 ? "t" : "f", "f");
+            }
+        }
+        log.info("Generated {} users", settings.users());
+    }
+
+    private void writeProjects(Connection connection, Model model) throws SQLException, IOException {
+        try (Writer out = copy(connection, "projects (id, name, description, manager_id, active, number)")) {
+            for (int p = 0; p < settings.projects(); p++) {
+                row(out, model.projectBase + p, "Load test project " + p, null,
+                        model.userBase + model.projectManager[p], random.nextDouble() < 0.9 ? "t" : "f",
+                        String.format("LT%05d", p));
+            }
+        }
+        try (Writer out = copy(connection, "project_members (project_id, user_id)")) {
+            for (int u = 0; u < settings.users(); u++) {
+                if (model.isEmployee(u)) {
+                    for (int p : model.userProjects[u]) {
+                        row(out, model.projectBase + p, model.userBase + u);
+                    }
+                }
+            }
+        }
+        log.info("Generated {} projects with members", settings.projects());
+    }
+
+    private void writeTasks(Connection connection, Model model) throws SQLException, IOException {
+        try (Writer out = copy(connection, "tasks (id, title, description, project_id, active, created_at,"
+                + " updated_at, number, billing_type, unit_price, unit_name)")) {
+            for (int p = 0; p < settings.projects(); p++) {
+                for (int k = 0; k < model.taskCount[p]; k++) {
+                    int t = model.taskStart[p] + k;
+                    boolean unit = model.unitTask[t];
+                    row(out, model.taskBase + t, "Task " + k + " of project " + p, null, model.projectBase + p,
+                            random.nextDouble() < 0.95 ? "t" : "f", "2020-01-01 00:00:00", "2020-01-01 00:00:00",
+                            "T" + k, unit ? "UNIT" : "HOURLY", unit ? money(50 + random.nextInt(450)) : null,
+                            unit ? "szt" : null);
+                }
+            }
+        }
+        log.info("Generated {} tasks", settings.tasks());
+    }
+
+    private void writeEntries(Connection connection, Model model) throws SQLException, IOException {
+        YearMonth current = YearMonth.now();
+        LocalDate today = LocalDate.now();
+        int months = settings.months();
+        double[] monthWeights = new double[months];
+        for (int m = 0; m < months; m++) {
+            // Slow growth: the newest month has 50% more entries than the oldest
+            monthWeights[m] = 1 + 0.5 * m / months;
+        }
+        long[] perMonth = Model.apportion(settings.entries(), monthWeights);
+        StringBuilder description = new StringBuilder();
+        long written = 0;
+        try (Writer out = copy(connection, "time_entries (user_id, project_id, task_id, date, total_hours, quantity,"
+                + " description, status, approved_by, approved_at, created_at, updated_at, version)")) {
+            for (int m = 0; m < months; m++) {
+                YearMonth month = current.minusMonths(months - 1 - m);
+                List<LocalDate> days = workingDays(month, today);
+                int age = months - 1 - m;
+                for (long i = 0; i < perMonth[m] && !days.isEmpty(); i++) {
+                    int u = model.userActivity.sample(random);
+                    int[] projects = model.userProjects[u];
+                    // Earlier projects in a user's list are their main ones
+                    int p = projects[Math.min(projects.length - 1, (int) (-Math.log(1 - random.nextDouble()) * 0.8))];
+                    int t = model.taskStart[p] + random.nextInt(model.taskCount[p]);
+                    LocalDate date = days.get(random.nextInt(days.size()));
+                    String hours = null;
+                    String quantity = null;
+                    if (model.unitTask[t]) {
+                        quantity = Integer.toString(1 + random.nextInt(20));
+                    } else {
+                        hours = hours();
+                    }
+                    String status = status(age);
+                    boolean approved = status.equals(STATUSES[0]);
+                    description.setLength(0);
+                    String[] words = WORDS[model.language[u]];
+                    for (int w = 2 + random.nextInt(5); w > 0; w--) {
+                        description.append(words[random.nextInt(words.length)]).append(w > 1 ? " " : "");
+                    }
+                    row(out, model.userBase + u, model.projectBase + p, model.taskBase + t, date, hours, quantity,
+                            description, status, approved ? model.userBase + model.projectManager[p] : null,
+                            approved ? date.plusDays(3) + " 10:00:00" : null, date + " 17:00:00",
+                            date + " 17:00:00", 0);
+                    if (++written % 1_000_000 == 0) {
+                        log.info("Generated {} of {} entries", written, settings.entries());
+                    }
+                }
+            }
+        }
+        log.info("Generated {} entries", written);
+    }
+
+    private String hours() {
+        double r = random.nextDouble();
+        if (r < 0.4) {
+            return "8.00";
+        }
+        if (r < 0.6) {
+            return "4.00";
+        }
+        return money((2 + random.nextInt(31)) * 0.25);
+    }
+
+    private String status(int age) {
+        double r = random.nextDouble();
+        double approved = age >= 2 ? 0.95 : age == 1 ? 0.7 : 0.2;
+        return r < approved ? STATUSES[0] : r < approved + 0.04 ? STATUSES[1] : STATUSES[2];
+    }
+
+    private static List<LocalDate> workingDays(YearMonth month, LocalDate today) {
+        List<LocalDate> days = new ArrayList<>();
+        for (LocalDate day = month.atDay(1); !day.isAfter(month.atEndOfMonth()) && !day.isAfter(today);
+             day = day.plusDays(1)) {
+            if (day.getDayOfWeek() != DayOfWeek.SATURDAY && day.getDayOfWeek() != DayOfWeek.SUNDAY) {
+                days.add(day);
+            }
+        }
+        return days;
+    }
+
+    /**
+     * Drop a table's secondary indexes, returning their definitions.
+     */
+    private static List<String> dropIndexes(Connection connection, String table) throws SQLException {
+        List<String> definitions = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("select i.indexname, i.indexdef from pg_indexes i"
+                     + " where i.tablename = '" + table + "' and not exists (select 1 from pg_constraint c"
+                     + " where c.conname = i.indexname)")) {
+            while (rs.next()) {
+                names.add(rs.getString(1));
+                definitions.add(rs.getString(2));
+            }
+        }
+        try (Statement statement = connection.createStatement()) {
+            for (String name : names) {
+                statement.execute("drop index " + name);
+            }
+        }
+        return definitions;
+    }
+
+    private static void recreate(Connection connection, List<String> indexes) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("set maintenance_work_mem = '1GB'");
+            for (String definition : indexes) {
+                long started = System.nanoTime();
+                statement.execute(definition);
+                log.info("{} ({} s)", definition, (System.nanoTime() - started) / 1_000_000_000L);
+            }
+        }
+    }
+
+    private static Writer copy(Connection connection, String target) throws SQLException {
+        PGConnection pg = connection.unwrap(PGConnection.class);
+        return new BufferedWriter(new OutputStreamWriter(
+                new PGCopyOutputStream(pg, "copy " + target + " from stdin", 1 << 16), StandardCharsets.UTF_8),
+                1 << 16);
+    }
+
+    /**
+     * One row in COPY text format; values never contain tabs, newlines or backslashes.
+     */
+    private static void row(Writer out, Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                out.write('\t');
+            }
+            out.write(values[i] == null ? "\\N" : values[i].toString());
+        }
+        out.write('\n');
+    }
+
+    private static String money(double value) {
+        return String.format(Locale.ROOT, "%.2f", value);
+    }
+
+    static String username(int u) {
+        return String.format("%su%05d", USERNAME_PREFIX, u);
+    }
+
+    /**
+     * In-memory shape of the generated data (indexes relative to the ID bases), needed to
+     * generate consistent entries.
+     */
+    private static final class Model {
+
+        final int directors;
+        final int managers;
+        final int[] language;
+        final int[] projectManager;
+        final int[][] userProjects;
+        final int[] taskStart;
+        final int[] taskCount;
+        final boolean[] unitTask;
+        final Sampler userActivity;
+        long userBase;
+        long projectBase;
+        long taskBase;
+
+        Model(LoadTestSettings settings, SplittableRandom random) {
+            int users = settings.users();
+            int projects = settings.projects();
+            directors = Math.max(1, users / 500);
+            managers = Math.max(1, users * 2 / 25);
+            if (directors + managers >= users || settings.tasks() < projects) {
+                throw new IllegalArgumentException("Need more users than directors and managers and a task per project");
+            }
+
+            language = new int[users];
+            for (int u = 0; u < users; u++) {
+                double r = random.nextDouble();
+                language[u] = r < 0.6 ? 0 : r < 0.95 ? 1 : 2;
+            }
+
+            // Some managers run many projects
+            Sampler managerLoad = Sampler.zipf(managers, 0.8);
+            projectManager = new int[projects];
+            for (int p = 0; p < projects; p++) {
+                projectManager[p] = directors + managerLoad.sample(random);
+            }
+
+            Sampler popularity = Sampler.zipf(projects, 1.0);
+            userProjects = new int[users][];
+            List<List<Integer>> managed = new ArrayList<>();
+            for (int m = 0; m < managers; m++) {
+                managed.add(new ArrayList<>());
+            }
+            for (int p = 0; p < projects; p++) {
+                managed.get(projectManager[p] - directors).add(p);
+            }
+            for (int u = 0; u < users; u++) {
+                Set<Integer> chosen = new LinkedHashSet<>();
+                if (isManager(u) && !managed.get(u - directors).isEmpty()) {
+                    chosen.addAll(managed.get(u - directors).subList(0, Math.min(5, managed.get(u - directors).size())));
+                } else {
+                    // One to five projects, geometric
+                    int count = 1;
+                    while (count < 5 && random.nextDouble() < 0.45) {
+                        count++;
+                    }
+                    while (chosen.size() < count) {
+                        chosen.add(popularity.sample(random));
+                    }
+                }
+                userProjects[u] = chosen.stream().mapToInt(Integer::intValue).toArray();
+            }
+
+            // Every project has a task; the rest follow project popularity
+            taskCount = new int[projects];
+            Arrays.fill(taskCount, 1);
+            for (int t = projects; t < settings.tasks(); t++) {
+                taskCount[popularity.sample(random)]++;
+            }
+            taskStart = new int[projects];
+            for (int p = 1; p < projects; p++) {
+                taskStart[p] = taskStart[p - 1] + taskCount[p - 1];
+            }
+            unitTask = new boolean[settings.tasks()];
+            for (int t = 0; t < unitTask.length; t++) {
+                unitTask[t] = random.nextDouble() < 0.1;
+            }
+
+            double[] activity = new double[users];
+            for (int u = 0; u < users; u++) {
+                activity[u] = Math.exp(random.nextGaussian() * 0.5);
+            }
+            userActivity = new Sampler(activity);
+        }
+
+        boolean isManager(int u) {
+            return u >= directors && u < directors + managers;
+        }
+
+        boolean isEmployee(int u) {
+            return u >= directors + managers;
+        }
+
+        String role(int u) {
+            return u < directors ? "DYREKTOR" : isManager(u) ? "MANAGER" : "PRACOWNIK";
+        }
+
+        /**
+         * Split a total over weights, largest remainders first, so the parts add up exactly.
+         */
+        static long[] apportion(long total, double[] weights) {
+            double sum = 0;
+            for (double w : weights) {
+                sum += w;
+            }
+            long[] parts = new long[weights.length];
+            long assigned = 0;
+            for (int i = 0; i < weights.length; i++) {
+                parts[i] = (long) Math.floor(total * weights[i] / sum);
+                assigned += parts[i];
+            }
+            for (int i = 0; assigned < total; i = (i + 1) % weights.length) {
+                parts[i]++;
+                assigned++;
+            }
+            return parts;
+        }
+    }
+
+    /**
+     * Draws indexes in proportion to weights (binary search over the cumulative weights).
+     */
+    private static final class Sampler {
+
+        private final double[] cumulative;
+
+        Sampler(double[] weights) {
+            cumulative = new double[weights.length];
+            double sum = 0;
+            for (int i = 0; i < weights.length; i++) {
+                sum += weights[i];
+                cumulative[i] = sum;
+            }
+        }
+
+        static Sampler zipf(int n, double exponent) {
+            double[] weights = new double[n];
+            for (int i = 0; i < n; i++) {
+                weights[i] = 1 / Math.pow(i + 1, exponent);
+            }
+            return new Sampler(weights);
+        }
+
+        int sample(SplittableRandom random) {
+            double target = random.nextDouble() * cumulative[cumulative.length - 1];
+            int index = Arrays.binarySearch(cumulative, target);
+            return Math.min(cumulative.length - 1, index >= 0 ? index : -index - 1);
+        }
+    }
+}
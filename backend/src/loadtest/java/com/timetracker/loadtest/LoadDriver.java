@@ -0,0 +1,244 @@
+package com.timetracker.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Closed-loop HTTP load against a running application: each virtual user logs in as a sampled
+ * employee (and a manager for approvals) and repeatedly runs an operation drawn from the mix,
+ * without think time. Latencies of responses received after the warmup are recorded per
+ * operation; non-2xx responses and I/O failures count as errors.
+ */
+@Slf4j
+final class LoadDriver {
+
+    enum Operation {
+        LOGIN("POST /api/auth/login"),
+        CREATE("POST /api/time-entries"),
+        MONTH("GET /api/time-entries/user/{id}/month/{year}/{month}"),
+        APPROVE("PUT /api/time-entries/{id}/approve"),
+        REPORT("GET /api/reports/monthly");
+
+        private final String endpoint;
+
+        Operation(String endpoint) {
+            this.endpoint = endpoint;
+        }
+
+        String key() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+
+        String endpoint() {
+            return endpoint;
+        }
+    }
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    private final String baseUrl;
+    private final Population population;
+    private final LoadTestSettings settings;
+    private final HttpClient client;
+    // Submitted entries waiting for approval: generated ones first, then those created by the load
+    private final BlockingQueue<Long> toApprove = new ArrayBlockingQueue<>(100_000);
+    private final Operation[] operations;
+    private final int[] cumulativeWeights;
+
+    LoadDriver(String baseUrl, Population population, LoadTestSettings settings) {
+        this.baseUrl = baseUrl;
+        this.population = population;
+        this.settings = settings;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        population.submittedEntries().forEach(toApprove::offer);
+        this.operations = settings.mix().keySet().toArray(new Operation[0]);
+        this.cumulativeWeights = new int[operations.length];
+        int sum = 0;
+        for (int i = 0; i < operations.length; i++) {
+            sum += settings.mix().get(operations[i]);
+            cumulativeWeights[i] = sum;
+        }
+    }
+
+    /**
+     * Run the warmup and the measured period.
+     *
+     * @return Latencies per operation of the measured period
+     */
+    LoadReport run() throws InterruptedException {
+        long start = System.nanoTime();
+        long measureFrom = start + settings.warmupSeconds() * 1_000_000_000L;
+        long end = measureFrom + settings.durationSeconds() * 1_000_000_000L;
+        List<VirtualUser> users = new ArrayList<>();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < settings.threads(); i++) {
+            VirtualUser user = new VirtualUser(new SplittableRandom(settings.seed() + i), measureFrom, end);
+            users.add(user);
+            Thread thread = new Thread(user, "loadtest-" + i);
+            threads.add(thread);
+            thread.start();
+        }
+        log.info("{} virtual users started: {} s warmup, {} s measured", settings.threads(),
+                settings.warmupSeconds(), settings.durationSeconds());
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        Map<Operation, LoadReport.Recorder> merged = new EnumMap<>(Operation.class);
+        for (VirtualUser user : users) {
+            user.recorders.forEach((operation, recorder) ->
+                    merged.computeIfAbsent(operation, o -> new LoadReport.Recorder()).addAll(recorder));
+        }
+        return new LoadReport(settings, merged, settings.durationSeconds());
+    }
+
+    private Operation next(SplittableRandom random) {
+        int r = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        int i = Arrays.binarySearch(cumulativeWeights, r + 1);
+        return operations[i >= 0 ? i : -i - 1];
+    }
+
+    private final class VirtualUser implements Runnable {
+
+        private final SplittableRandom random;
+        private final long measureFrom;
+        private final long end;
+        private final Map<Operation, LoadReport.Recorder> recorders = new EnumMap<>(Operation.class);
+        private Population.Account employee;
+        private Population.Account manager;
+        private String employeeToken;
+        private String managerToken;
+
+        VirtualUser(SplittableRandom random, long measureFrom, long end) {
+            this.random = random;
+            this.measureFrom = measureFrom;
+            this.end = end;
+        }
+
+        @Override
+        public void run() {
+            employee = pick(population.employees());
+            manager = pick(population.managers());
+            employeeToken = login(employee);
+            managerToken = login(manager);
+            while (System.nanoTime() < end) {
+                Operation operation = next(random);
+                switch (operation) {
+                    case LOGIN -> {
+                        employee = pick(population.employees());
+                        employeeToken = login(employee);
+                    }
+                    case CREATE -> create();
+                    case MONTH -> {
+                        YearMonth month = YearMonth.now().minusMonths(random.nextInt(3));
+                        call(Operation.MONTH, get("/api/time-entries/user/" + employee.id() + "/month/"
+                                + month.getYear() + "/" + month.getMonthValue(), employeeToken));
+                    }
+                    case APPROVE -> {
+                        Long id = toApprove.poll();
+                        if (id != null) {
+                            call(Operation.APPROVE, request("/api/time-entries/" + id + "/approve?approverId="
+                                    + manager.id(), managerToken).PUT(HttpRequest.BodyPublishers.noBody()).build());
+                        }
+                    }
+                    case REPORT -> {
+                        YearMonth month = YearMonth.now().minusMonths(random.nextInt(12));
+                        call(Operation.REPORT, get("/api/reports/monthly?year=" + month.getYear() + "&month="
+                                + month.getMonthValue() + "&userId=" + employee.id(), employeeToken));
+                    }
+                }
+            }
+        }
+
+        private void create() {
+            LocalDate today = LocalDate.now();
+            LocalDate date = today.withDayOfMonth(1 + random.nextInt(today.getDayOfMonth()));
+            String body = "{\"userId\":" + employee.id()
+                    + ",\"taskId\":" + employee.taskIds()[random.nextInt(employee.taskIds().length)]
+                    + ",\"date\":\"" + date + "\",\"totalHours\":" + (1 + random.nextInt(8))
+                    + ",\"description\":\"load test entry\"}";
+            JsonNode created = call(Operation.CREATE, request("/api/time-entries", employeeToken)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body)).build());
+            if (created != null && created.hasNonNull("id")) {
+                toApprove.offer(created.get("id").asLong());
+            }
+        }
+
+        private String login(Population.Account account) {
+            String body = "{\"username\":\"" + account.username() + "\",\"password\":\"" + DataGenerator.PASSWORD + "\"}";
+            JsonNode response = call(Operation.LOGIN, HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/login"))
+                    .timeout(Duration.ofSeconds(30))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body)).build());
+            return response != null && response.hasNonNull("token") ? response.get("token").asText() : null;
+        }
+
+        private HttpRequest get(String path, String token) {
+            return request(path, token).GET().build();
+        }
+
+        private HttpRequest.Builder request(String path, String token) {
+            return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .timeout(Duration.ofSeconds(30))
+                    .header("Authorization", "Bearer " + token);
+        }
+
+        /**
+         * Send a request, record its latency if in the measured period and return the JSON body of a 2xx response.
+         */
+        private JsonNode call(Operation operation, HttpRequest request) {
+            long started = System.nanoTime();
+            int status;
+            String body = null;
+            try {
+                HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+                status = response.statusCode();
+                body = response.body();
+            } catch (IOException e) {
+                status = 0;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+            long finished = System.nanoTime();
+            if (started >= measureFrom && finished <= end) {
+                recorders.computeIfAbsent(operation, o -> new LoadReport.Recorder())
+                        .record(finished - started, status >= 200 && status < 300);
+            }
+            if (status < 200 || status >= 300 || body == null || body.isEmpty()) {
+                return null;
+            }
+            try {
+                return JSON.readTree(body);
+            } catch (IOException e) {
+                return null;
+            }
+        }
+
+        private <T> T pick(List<T> list) {
+            return list.get(random.nextInt(list.size()));
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.timetracker.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.extern.slf4j.Slf4j;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Latency percentiles and throughput per endpoint of one load test run, written as JSON so runs
+ * of different builds can be compared (see {@link #compare(Path)}).
+ */
+@Slf4j
+final class LoadReport {
+
+    private static final ObjectMapper JSON = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private final LoadTestSettings settings;
+    private final Map<LoadDriver.Operation, Recorder> recorders;
+    private final int seconds;
+
+    LoadReport(LoadTestSettings settings, Map<LoadDriver.Operation, Recorder> recorders, int seconds) {
+        this.settings = settings;
+        this.recorders = recorders;
+        this.seconds = seconds;
+    }
+
+    void write(Path file) throws IOException {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("label", settings.label());
+        report.put("finishedAt", Instant.now().toString());
+        report.put("settings", settings.describe());
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        Recorder total = new Recorder();
+        recorders.forEach((operation, recorder) -> {
+            endpoints.put(operation.endpoint(), summary(recorder));
+            total.addAll(recorder);
+        });
+        report.put("endpoints", endpoints);
+        report.put("total", summary(total));
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        JSON.writeValue(file.toFile(), report);
+
+        log.info(String.format(Locale.ROOT, "%-55s %9s %7s %9s %9s %9s %9s", "endpoint", "requests", "errors",
+                "req/s", "p50 ms", "p95 ms", "p99 ms"));
+        endpoints.forEach((endpoint, summary) -> log.info(line(endpoint, summary)));
+        log.info(line("total", report.get("total")));
+        log.info("Report written to {}", file.toAbsolutePath());
+    }
+
+    /**
+     * Log the change of each endpoint's percentiles and throughput against an earlier report.
+     */
+    void compare(Path baselineFile) throws IOException {
+        JsonNode baseline = JSON.readTree(baselineFile.toFile());
+        if (!baseline.path("settings").equals(JSON.readTree(JSON.writeValueAsString(settings.describe())))) {
+            log.warn("Baseline {} ran with different settings; the comparison is only indicative", baselineFile);
+        }
+        log.info("Compared with {} ({}):", baseline.path("label").asText(), baselineFile);
+        recorders.forEach((operation, recorder) -> {
+            JsonNode before = baseline.path("endpoints").path(operation.endpoint());
+            if (before.isMissingNode()) {
+                return;
+            }
+            Map<String, Object> now = summary(recorder);
+            log.info(String.format(Locale.ROOT, "%-55s p50 %s  p95 %s  p99 %s  req/s %s", operation.endpoint(),
+                    change(before.path("p50Ms").asDouble(), (double) now.get("p50Ms")),
+                    change(before.path("p95Ms").asDouble(), (double) now.get("p95Ms")),
+                    change(before.path("p99Ms").asDouble(), (double) now.get("p99Ms")),
+                    change(before.path("throughputPerSecond").asDouble(), (double) now.get("throughputPerSecond"))));
+        });
+    }
+
+    private Map<String, Object> summary(Recorder recorder) {
+        long[] sorted = Arrays.copyOf(recorder.latencies, recorder.count);
+        Arrays.sort(sorted);
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("requests", recorder.count);
+        summary.put("errors", recorder.errors);
+        summary.put("throughputPerSecond", round((double) recorder.count / seconds));
+        summary.put("p50Ms", millis(percentile(sorted, 50)));
+        summary.put("p95Ms", millis(percentile(sorted, 95)));
+        summary.put("p99Ms", millis(percentile(sorted, 99)));
+        summary.put("maxMs", millis(sorted.length > 0 ? sorted[sorted.length - 1] : 0));
+        return summary;
+    }
+
+    /**
+     * Nearest-rank percentile.
+     */
+    private static long percentile(long[] sorted, int p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(p / 100.0 * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+
+    private static double millis(long nanos) {
+        return round(nanos / 1_000_000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+
+    private static String change(double before, double now) {
+        String delta = before == 0 ? "n/a" : String.format(Locale.ROOT, "%+.1f%%", (now - before) / before * 100);
+        return String.format(Locale.ROOT, "%.2f -> %.2f (%s)", before, now, delta);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static String line(String endpoint, Object summary) {
+        Map<String, Object> s = (Map<String, Object>) summary;
+        return String.format(Locale.ROOT, "%-55s %9d %7d %9.2f %9.2f %9.2f %9.2f", endpoint, s.get("requests"),
+                s.get("errors"), s.get("throughputPerSecond"), s.get("p50Ms"), s.get("p95Ms"), s.get("p99Ms"));
+    }
+
+    /**
+     * Latencies (nanoseconds) and error count of one operation, recorded by one thread.
+     */
+    static final class Recorder {
+
+        private long[] latencies = new long[1024];
+        private int count;
+        private long errors;
+
+        void record(long nanos, boolean success) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = nanos;
+            if (!success) {
+                errors++;
+            }
+        }
+
+        void addAll(Recorder other) {
+            if (count + other.count > latencies.length) {
+                latencies = Arrays.copyOf(latencies, Math.max(latencies.length * 2, count + other.count));
+            }
+            System.arraycopy(other.latencies, 0, latencies, count, other.count);
+            count += other.count;
+            errors += other.errors;
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.timetracker.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.ds.PGSimpleDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Entry point of the loadtest Maven profile (mvn -Ploadtest verify).
+ *
+ * 1. Database: loadtest.jdbc-url, or a PostgreSQL 16 Testcontainer (needs Docker).
+ * 2. Seeding with {@link DataGenerator}, unless loadtest.skip-seed is set.
+ * 3. Application: loadtest.base-url, or the packaged jar started against the database
+ *    (prod profile, output in target/loadtest/app.log).
+ * 4. {@link LoadDriver} run; the {@link LoadReport} goes to loadtest.report and is compared with
+ *    loadtest.baseline if given.
+ */
+@Slf4j
+public final class LoadTestRunner {
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        PostgreSQLContainer<?> container = null;
+        Process app = null;
+        try {
+            PGSimpleDataSource dataSource = new PGSimpleDataSource();
+            if (settings.jdbcUrl() != null) {
+                dataSource.setURL(settings.jdbcUrl());
+                dataSource.setUser(settings.jdbcUser());
+                dataSource.setPassword(settings.jdbcPassword());
+            } else {
+                container = new PostgreSQLContainer<>("postgres:16-alpine")
+                        .withDatabaseName("binderua")
+                        .withCommand("postgres", "-c", "shared_buffers=512MB", "-c", "max_wal_size=4GB",
+                                "-c", "max_connections=200");
+                container.start();
+                dataSource.setURL(container.getJdbcUrl());
+                dataSource.setUser(container.getUsername());
+                dataSource.setPassword(container.getPassword());
+            }
+
+            if (!settings.skipSeed()) {
+                new DataGenerator(dataSource, settings).run();
+            }
+
+            String baseUrl = settings.baseUrl();
+            if (baseUrl == null) {
+                int port = freePort();
+                app = startApp(settings, dataSource, port);
+                baseUrl = "http://localhost:" + port;
+                awaitReady(baseUrl, app);
+            }
+
+            Population population = Population.load(dataSource, settings.activeUsers(), settings.seed());
+            LoadReport report = new LoadDriver(baseUrl, population, settings).run();
+            report.write(settings.report());
+            if (settings.baseline() != null) {
+                report.compare(settings.baseline());
+            }
+        } finally {
+            if (app != null) {
+                app.destroy();
+                app.waitFor();
+            }
+            if (container != null) {
+                container.stop();
+            }
+        }
+    }
+
+    private static Process startApp(LoadTestSettings settings, PGSimpleDataSource dataSource, int port)
+            throws IOException {
+        if (!Files.exists(settings.appJar())) {
+            throw new IllegalStateException("Application jar " + settings.appJar() + " not found; run mvn package first");
+        }
+        byte[] secret = new byte[64];
+        new SecureRandom().nextBytes(secret);
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(List.of(settings.appJavaOpts().split("\\s+")));
+        command.addAll(List.of("-jar", settings.appJar().toString(),
+                "--spring.profiles.active=prod",
+                "--spring.datasource.url=" + dataSource.getURL(),
+                "--spring.datasource.username=" + dataSource.getUser(),
+                "--spring.datasource.password=" + dataSource.getPassword(),
+                "--server.port=" + port,
+                "--binderua.jwt.secret=" + Base64.getEncoder().encodeToString(secret)));
+        Path appLog = settings.report().toAbsolutePath().resolveSibling("app.log");
+        Files.createDirectories(appLog.getParent());
+        log.info("Starting {} on port {} (output in {})", settings.appJar(), port, appLog);
+        return new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(appLog.toFile())
+                .start();
+    }
+
+    /**
+     * Wait until the application answers HTTP (any status), up to five minutes for large data sets.
+     */
+    private static void awaitReady(String baseUrl, Process app) throws InterruptedException {
+        HttpClient client = HttpClient.newHttpClient();
+        long deadline = System.nanoTime() + Duration.ofMinutes(5).toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!app.isAlive()) {
+                throw new IllegalStateException("The application exited with code " + app.exitValue()
+                        + "; see target/loadtest/app.log");
+            }
+            try {
+                client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/actuator/health")).build(),
+                        HttpResponse.BodyHandlers.discarding());
+                log.info("Application ready at {}", baseUrl);
+                return;
+            } catch (IOException e) {
+                Thread.sleep(500);
+            }
+        }
+        throw new IllegalStateException("The application did not answer within five minutes");
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.timetracker.loadtest;
+
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Load test knobs, read from loadtest.* system properties (set by the loadtest Maven profile).
+ * Blank values count as unset.
+ *
+ * @param users         Generated users (about 0.2% directors, 8% managers, the rest employees)
+ * @param projects      Generated projects
+ * @param tasks         Generated tasks, spread over projects by a Zipf distribution
+ * @param entries       Generated time entries
+ * @param months        Months of history the entries cover, ending with the current month
+ * @param seed          Random seed; the same seed generates the same data set
+ * @param jdbcUrl       Database to seed and sample; null to start a Testcontainers PostgreSQL
+ * @param skipSeed      Reuse data generated by an earlier run
+ * @param baseUrl       Running application to load; null to start the packaged jar
+ * @param appJar        Packaged application jar
+ * @param appJavaOpts   JVM options of the started application
+ * @param threads       Concurrent virtual users (closed loop, no think time)
+ * @param warmupSeconds Seconds of load before measuring
+ * @param durationSeconds Measured seconds
+ * @param activeUsers   Employees the virtual users log in as
+ * @param mix           Relative weight of each operation
+ * @param label         Name of the build in the report (e.g. the commit)
+ * @param report        Report file
+ * @param baseline      Earlier report to compare with, or null
+ */
+record LoadTestSettings(int users, int projects, int tasks, long entries, int months, long seed,
+                        String jdbcUrl, String jdbcUser, String jdbcPassword, boolean skipSeed,
+                        String baseUrl, Path appJar, String appJavaOpts,
+                        int threads, int warmupSeconds, int durationSeconds, int activeUsers,
+                        Map<LoadDriver.Operation, Integer> mix, String label, Path report, Path baseline) {
+
+    static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                Integer.parseInt(get("users", "5000")),
+                Integer.parseInt(get("projects", "2000")),
+                Integer.parseInt(get("tasks", "50000")),
+                Long.parseLong(get("entries", "20000000")),
+                Integer.parseInt(get("months", "24")),
+                Long.parseLong(get("seed", "42")),
+                get("jdbc-url", null),
+                get("jdbc-user", "binderua"),
+                get("jdbc-password", "binderua"),
+                Boolean.parseBoolean(get("skip-seed", "false")),
+                get("base-url", null),
+                Path.of(get("app-jar", "target/binderua-backend-1.0.0.jar")),
+                get("app-java-opts", "-Xmx4g"),
+                Integer.parseInt(get("threads", "32")),
+                Integer.parseInt(get("warmup-s", "30")),
+                Integer.parseInt(get("duration-s", "120")),
+                Integer.parseInt(get("active-users", "500")),
+                parseMix(get("mix", "login:5,create:30,month:40,approve:15,report:10")),
+                get("label", "local"),
+                Path.of(get("report", "target/loadtest/report.json")),
+                get("baseline", null) != null ? Path.of(get("baseline", null)) : null);
+    }
+
+    /**
+     * Settings that shape the results, written into the report so runs are only compared like for like.
+     */
+    Map<String, Object> describe() {
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("users", users);
+        settings.put("projects", projects);
+        settings.put("tasks", tasks);
+        settings.put("entries", entries);
+        settings.put("months", months);
+        settings.put("seed", seed);
+        settings.put("threads", threads);
+        settings.put("warmupSeconds", warmupSeconds);
+        settings.put("durationSeconds", durationSeconds);
+        settings.put("activeUsers", activeUsers);
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        mix.forEach((operation, weight) -> weights.put(operation.key(), weight));
+        settings.put("mix", weights);
+        return settings;
+    }
+
+    private static Map<LoadDriver.Operation, Integer> parseMix(String value) {
+        Map<LoadDriver.Operation, Integer> mix = new EnumMap<>(LoadDriver.Operation.class);
+        for (String part : value.split(",")) {
+            String[] kv = part.trim().split(":");
+            if (kv.length != 2) {
+                throw new IllegalArgumentException("Invalid loadtest.mix entry: " + part);
+            }
+            mix.put(LoadDriver.Operation.valueOf(kv[0].trim().toUpperCase(Locale.ROOT)), Integer.parseInt(kv[1].trim()));
+        }
+        return mix;
+    }
+
+    private static String get(String name, String defaultValue) {
+        String value = System.getProperty("loadtest." + name);
+        return value == null || value.isBlank() ? defaultValue : value.trim();
+    }
+}
@@ -0,0 +1,84 @@
+package com.timetracker.loadtest;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Generated accounts the load driver acts as: a random sample of active employees with the
+ * active hourly tasks they may book on, the active managers, and submitted entries to approve.
+ */
+record Population(List<Account> employees, List<Account> managers, List<Long> submittedEntries) {
+
+    record Account(long id, String username, long[] taskIds) {
+    }
+
+    static Population load(DataSource dataSource, int employeeCount, long seed) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            // Deterministic sample, so runs with the same seed act as the same users
+            try (PreparedStatement statement = connection.prepareStatement("select setseed(?)")) {
+                statement.setDouble(1, (seed % 1000) / 1000.0);
+                statement.execute();
+            }
+            List<Account> employees = accounts(connection, "PRACOWNIK", employeeCount);
+            List<Account> managers = accounts(connection, "MANAGER", Integer.MAX_VALUE);
+            if (employees.isEmpty() || managers.isEmpty()) {
+                throw new IllegalStateException("No generated employees or managers found; run without loadtest.skip-seed");
+            }
+            List<Long> submitted = new ArrayList<>();
+            try (PreparedStatement statement = connection.prepareStatement("select id from time_entries"
+                    + " where status = 'ZGLOSZONY' order by id desc limit 50000");
+                 ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    submitted.add(rs.getLong(1));
+                }
+            }
+            return new Population(employees, managers, submitted);
+        }
+    }
+
+    private static List<Account> accounts(Connection connection, String role, int limit) throws SQLException {
+        Map<Long, List<Long>> tasks = new HashMap<>();
+        List<Long> ids = new ArrayList<>();
+        Map<Long, String> usernames = new HashMap<>();
+        try (PreparedStatement statement = connection.prepareStatement("with sample as ("
+                + " select id, username from users where username like ? and role = ? and active"
+                + " order by random() limit ?)"
+                + " select s.id, s.username, t.id as task_id from sample s"
+                + " join project_members pm on pm.user_id = s.id"
+                + " join tasks t on t.project_id = pm.project_id and t.active and t.billing_type = 'HOURLY'"
+                + " union all"
+                + " select s.id, s.username, null from sample s")) {
+            statement.setString(1, DataGenerator.USERNAME_PREFIX + "%");
+            statement.setString(2, role);
+            statement.setInt(3, limit);
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    long id = rs.getLong("id");
+                    if (usernames.putIfAbsent(id, rs.getString("username")) == null) {
+                        ids.add(id);
+                    }
+                    long taskId = rs.getLong("task_id");
+                    if (!rs.wasNull()) {
+                        tasks.computeIfAbsent(id, k -> new ArrayList<>()).add(taskId);
+                    }
+                }
+            }
+        }
+        List<Account> accounts = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            long[] taskIds = tasks.getOrDefault(id, List.of()).stream().mapToLong(Long::longValue).toArray();
+            // Employees without a bookable hourly task cannot create entries
+            if (!role.equals("PRACOWNIK") || taskIds.length > 0) {
+                accounts.add(new Account(id, usernames.get(id), taskIds));
+            }
+        }
+        return accounts;
+    }
+}
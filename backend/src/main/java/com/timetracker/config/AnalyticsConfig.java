@@ -0,0 +1,19 @@
+package com.timetracker.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Pool scanning the analytics cube (GET /api/analytics) in parallel. It is separate from the
+ * common pool so a large group-by does not slow parallel streams elsewhere, and vice versa.
+ */
+@Configuration
+public class AnalyticsConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public ForkJoinPool analyticsPool(@Value("${binderua.analytics.parallelism:0}") int parallelism) {
+        return new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+}
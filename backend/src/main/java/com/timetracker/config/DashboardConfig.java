@@ -0,0 +1,28 @@
+package com.timetracker.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Executor of the independent queries behind GET /api/dashboard/bootstrap. It is bounded
+ * so a burst of page loads cannot take more interactive connections than its thread count;
+ * when the queue is full, bootstraps fail with TaskRejectedException (503 with Retry-After).
+ */
+@Configuration
+public class DashboardConfig {
+
+    @Bean
+    public ThreadPoolTaskExecutor dashboardExecutor(@Value("${binderua.dashboard.threads:6}") int threads,
+                                                    @Value("${binderua.dashboard.queue-capacity:60}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("dashboard-");
+        executor.setTaskDecorator(ReportingConfig.requestContextDecorator());
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+}
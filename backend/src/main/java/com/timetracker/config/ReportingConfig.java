@@ -0,0 +1,104 @@
+package com.timetracker.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.i18n.LocaleContext;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Bulkhead between interactive traffic (time entry edits, lookups) and reporting (reports,
+ * report jobs, exports). Reporting runs on its own bounded executor and its own, smaller
+ * connection pool, so a burst of heavy reports queues or is turned away with 503 instead of
+ * taking the connections and request threads interactive requests need.
+ *
+ * Both Hikari pools are beans, so their metrics are published separately
+ * (hikaricp.connections.* tagged pool=interactive and pool=reporting), as are the executor's
+ * (executor.* tagged name=reportingExecutor).
+ */
+@Configuration
+public class ReportingConfig {
+
+    /**
+     * Interactive pool, configured by spring.datasource.* and spring.datasource.hikari.*.
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource interactiveDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName(ReportingDataSource.INTERACTIVE);
+        return dataSource;
+    }
+
+    /**
+     * Reporting pool: same database, fewer connections.
+     */
+    @Bean
+    public HikariDataSource reportingDataSource(DataSourceProperties properties,
+                                                @Value("${binderua.reporting.pool-size:6}") int poolSize) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName(ReportingDataSource.REPORTING);
+        dataSource.setMaximumPoolSize(poolSize);
+        dataSource.setMinimumIdle(1);
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource interactiveDataSource, HikariDataSource reportingDataSource) {
+        ReportingDataSource dataSource = new ReportingDataSource();
+        dataSource.setTargetDataSources(Map.of(
+                ReportingDataSource.INTERACTIVE, interactiveDataSource,
+                ReportingDataSource.REPORTING, reportingDataSource));
+        dataSource.setDefaultTargetDataSource(interactiveDataSource);
+        return dataSource;
+    }
+
+    /**
+     * Executor of report and export requests. When all threads are busy and the queue is full,
+     * submissions fail with TaskRejectedException (503 with Retry-After).
+     * Tasks run with the submitting request's security and locale context.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor reportingExecutor(@Value("${binderua.reporting.threads:4}") int threads,
+                                                    @Value("${binderua.reporting.queue-capacity:20}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadFactory(ReportingDataSource.threadFactory("reporting-"));
+        executor.setTaskDecorator(requestContextDecorator());
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+
+    /**
+     * Runs tasks with the security and locale context of the thread that submitted them.
+     */
+    static TaskDecorator requestContextDecorator() {
+        return task -> {
+            SecurityContext securityContext = SecurityContextHolder.getContext();
+            LocaleContext localeContext = LocaleContextHolder.getLocaleContext();
+            return () -> {
+                SecurityContextHolder.setContext(securityContext);
+                LocaleContextHolder.setLocaleContext(localeContext);
+                try {
+                    task.run();
+                } finally {
+                    SecurityContextHolder.clearContext();
+                    LocaleContextHolder.resetLocaleContext();
+                }
+            };
+        };
+    }
+}
@@ -0,0 +1,42 @@
+package com.timetracker.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Application DataSource that sends the queries of reporting threads to the reporting
+ * connection pool and everything else to the interactive pool. A thread is a reporting thread
+ * if it was created by {@link #threadFactory(String)}, so repositories and transactions need
+ * not know which pool they run on.
+ */
+public class ReportingDataSource extends AbstractRoutingDataSource {
+
+    public static final String INTERACTIVE = "interactive";
+    public static final String REPORTING = "reporting";
+
+    private static final ThreadLocal<Boolean> REPORTING_THREAD = ThreadLocal.withInitial(() -> false);
+
+    /**
+     * Thread factory of reporting threads: named prefix-N, routed to the reporting pool.
+     */
+    public static ThreadFactory threadFactory(String prefix) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return r -> new Thread(() -> {
+            REPORTING_THREAD.set(true);
+            r.run();
+        }, prefix + threadNumber.incrementAndGet());
+    }
+
+    /**
+     * True if the current thread uses the reporting pool.
+     */
+    public static boolean isReportingThread() {
+        return REPORTING_THREAD.get();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return isReportingThread() ? REPORTING : INTERACTIVE;
+    }
+}
@@ -0,0 +1,50 @@
+package com.timetracker.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Startup behaviour for fast blue/green deploys and autoscaling.
+ *
+ * With spring.main.lazy-initialization (the fast-start profile) beans are created on first use,
+ * except the critical ones: the JPA EntityManagerFactory, which nearly every first request needs,
+ * and beans with scheduled methods, which must exist for their schedules to be registered.
+ * Only the migration leader applies Flyway migrations; other nodes validate that the schema is
+ * already migrated, so a scale-out does not contend for the migration lock.
+ */
+@Slf4j
+@Configuration
+public class StartupConfig {
+
+    @Bean
+    public static LazyInitializationExcludeFilter criticalBeansExcludeFilter() {
+        return (beanName, beanDefinition, beanType) -> beanType != null
+                && (EntityManagerFactory.class.isAssignableFrom(beanType) || hasScheduledMethods(beanType));
+    }
+
+    private static boolean hasScheduledMethods(Class<?> type) {
+        return !MethodIntrospector.selectMethods(type, (MethodIntrospector.MetadataLookup<Boolean>) method ->
+                AnnotatedElementUtils.hasAnnotation(method, Scheduled.class) ? Boolean.TRUE : null).isEmpty();
+    }
+
+    @Bean
+    public FlywayMigrationStrategy flywayMigrationStrategy(
+            @Value("${binderua.startup.migration-leader:true}") boolean migrationLeader) {
+        return flyway -> {
+            if (migrationLeader) {
+                flyway.migrate();
+            } else {
+                log.info("Not the migration leader, validating the schema only");
+                flyway.validate();
+            }
+        };
+    }
+}
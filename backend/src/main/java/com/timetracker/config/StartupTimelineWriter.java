@@ -0,0 +1,109 @@
+package com.timetracker.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Component;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes the startup timeline recorded by {@link BufferingApplicationStartup} once the application
+ * is ready: the slowest steps to the log and, if configured, all steps as JSON to a file.
+ * The buffer is drained afterwards, so the steps are not kept in memory.
+ *
+ * With binderua.startup.exit-on-ready the application exits right after writing the timeline;
+ * the fast-start build uses this for the class data sharing training run.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StartupTimelineWriter implements ApplicationListener<ApplicationReadyEvent> {
+
+    private final ApplicationStartup applicationStartup;
+    private final ObjectMapper objectMapper;
+
+    // File the full timeline is written to as JSON (default: none)
+    @Value("${binderua.startup.timeline-file:}")
+    private String timelineFile;
+
+    // Slowest steps listed in the log (default: 10)
+    @Value("${binderua.startup.log-steps:10}")
+    private int logSteps;
+
+    // Exit after startup, for the class data sharing training run (default: false)
+    @Value("${binderua.startup.exit-on-ready:false}")
+    private boolean exitOnReady;
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        if (applicationStartup instanceof BufferingApplicationStartup buffering) {
+            write(buffering.drainBufferedTimeline(), event.getTimeTaken());
+        }
+        if (exitOnReady) {
+            log.info("Startup finished, exiting (binderua.startup.exit-on-ready)");
+            System.exit(SpringApplication.exit(event.getApplicationContext()));
+        }
+    }
+
+    private void write(StartupTimeline timeline, Duration timeTaken) {
+        List<StartupTimeline.TimelineEvent> events = timeline.getEvents();
+        StringBuilder slowest = new StringBuilder();
+        events.stream()
+                .filter(e -> e.getStartupStep().getName().equals("spring.beans.instantiate"))
+                .sorted(Comparator.comparing(StartupTimeline.TimelineEvent::getDuration).reversed())
+                .limit(logSteps)
+                .forEach(e -> slowest.append(String.format("%n  %6d ms  %s",
+                        e.getDuration().toMillis(), tags(e.getStartupStep()).get("beanName"))));
+        log.info("Started in {} ms, {} startup steps recorded; slowest bean instantiations:{}",
+                timeTaken.toMillis(), events.size(), slowest);
+
+        if (timelineFile.isBlank()) {
+            return;
+        }
+        List<Map<String, Object>> steps = events.stream().map(e -> {
+            Map<String, Object> step = new LinkedHashMap<>();
+            step.put("id", e.getStartupStep().getId());
+            step.put("parentId", e.getStartupStep().getParentId());
+            step.put("name", e.getStartupStep().getName());
+            step.put("tags", tags(e.getStartupStep()));
+            step.put("startTime", e.getStartTime().toString());
+            step.put("durationMs", e.getDuration().toNanos() / 1_000_000.0);
+            return step;
+        }).toList();
+        Map<String, Object> document = new LinkedHashMap<>();
+        document.put("startTime", timeline.getStartTime().toString());
+        document.put("timeTakenMs", timeTaken.toMillis());
+        document.put("steps", steps);
+        try {
+            Path file = Path.of(timelineFile);
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            objectMapper.writerWithDefaultPrettyPrinter().writeValue(file.toFile(), document);
+            log.info("Startup timeline written to {}", file.toAbsolutePath());
+        } catch (IOException e) {
+            log.warn("Cannot write startup timeline to {}", timelineFile, e);
+        }
+    }
+
+    private static Map<String, String> tags(StartupStep step) {
+        Map<String, String> tags = new LinkedHashMap<>();
+        step.getTags().forEach(tag -> tags.put(tag.getKey(), tag.getValue()));
+        return tags;
+    }
+}
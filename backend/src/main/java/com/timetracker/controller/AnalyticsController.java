@@ -0,0 +1,44 @@
+package com.timetracker.controller;
+
+import com.timetracker.dto.AnalyticsResultDto;
+import com.timetracker.entity.TimeEntry;
+import com.timetracker.service.AnalyticsCube;
+import com.timetracker.service.AnalyticsQuery;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import java.time.YearMonth;
+
+@RestController
+@RequestMapping("/api/analytics")
+@RequiredArgsConstructor
+public class AnalyticsController {
+
+    private final AnalyticsCube analyticsCube;
+
+    /**
+     * Ad-hoc breakdown of hours and cost of the current and previous year's entries,
+     * e.g. groupBy=project,month&amp;status=ZATWIERDZONY.
+     *
+     * @param groupBy   Comma-separated dimensions: user, project, task, month, status (none for a grand total)
+     * @param from      First month (yyyy-MM), default January of the previous year
+     * @param to        Last month (yyyy-MM), default the last month with entries
+     * @return Groups with total hours, cost and entry count; 400 if a dimension is unknown
+     */
+    @GetMapping
+    @PreAuthorize("hasRole('DYREKTOR')")
+    public ResponseEntity<AnalyticsResultDto> query(
+            @RequestParam(required = false) String groupBy,
+            @RequestParam(required = false) YearMonth from,
+            @RequestParam(required = false) YearMonth to,
+            @RequestParam(required = false) Long userId,
+            @RequestParam(required = false) Long projectId,
+            @RequestParam(required = false) Long taskId,
+            @RequestParam(required = false) TimeEntry.Status status) {
+        return AnalyticsQuery.parseGroupBy(groupBy)
+                .map(dimensions -> ResponseEntity.ok(analyticsCube.query(
+                        new AnalyticsQuery(dimensions, from, to, userId, projectId, taskId, status))))
+                .orElseGet(() -> ResponseEntity.badRequest().build());
+    }
+}
@@ -0,0 +1,34 @@
+package com.timetracker.controller;
+
+import com.timetracker.dto.DashboardBootstrapDto;
+import com.timetracker.service.DashboardService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import java.time.YearMonth;
+import java.util.concurrent.CompletableFuture;
+
+@RestController
+@RequestMapping("/api/dashboard")
+@RequiredArgsConstructor
+public class DashboardController {
+
+    private final DashboardService dashboardService;
+
+    /**
+     * Initial dashboard data of the current user in one round trip.
+     *
+     * @param year Year, default current
+     * @param month Month (1-12), default current
+     * @return User, bookable projects with active tasks, the month's entries, calendar and totals
+     */
+    @GetMapping("/bootstrap")
+    public CompletableFuture<ResponseEntity<DashboardBootstrapDto>> bootstrap(
+            @RequestParam(required = false) Integer year,
+            @RequestParam(required = false) Integer month) {
+        YearMonth current = YearMonth.now();
+        return dashboardService.bootstrap(year != null ? year : current.getYear(),
+                        month != null ? month : current.getMonthValue())
+                .thenApply(ResponseEntity::ok);
+    }
+}
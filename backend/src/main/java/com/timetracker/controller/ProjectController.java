@@ -1,12 +1,19 @@
 package com.timetracker.controller;
 
+import com.timetracker.dto.ProjectSummaryDto;
 import com.timetracker.entity.Project;
+import com.timetracker.exception.ResourceNotFoundException;
 import com.timetracker.repository.ProjectRepository;
 import com.timetracker.repository.TaskRepository;
+import com.timetracker.repository.UserRepository;
+import com.timetracker.service.ProjectAccessIndex;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ResponseStatusException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 import java.util.List;
 
@@ -17,10 +24,46 @@ public class ProjectController {
 
     private final ProjectRepository projectRepository;
     private final TaskRepository taskRepository;
+    private final UserRepository userRepository;
+    private final ProjectAccessIndex projectAccessIndex;
 
+    /**
+     * All projects, or with bookable=true only those the current user may book time on.
+     */
     @GetMapping
-    public ResponseEntity<List<Project>> getAllProjects() {
-        return ResponseEntity.ok(projectRepository.findAll());
+    public ResponseEntity<List<Project>> getAllProjects(@RequestParam(defaultValue = "false") boolean bookable) {
+        List<Project> projects = projectRepository.findAll();
+        if (!bookable) {
+            return ResponseEntity.ok(projects);
+        }
+        String username = SecurityContextHolder.getContext().getAuthentication().getName();
+        Long userId = userRepository.findByUsername(username)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"))
+                .getId();
+        return ResponseEntity.ok(projectAccessIndex.filterBookable(userId, projects));
+    }
+
+    /**
+     * Paginated, filterable project listing with task and member counts (one query per page).
+     *
+     * @param active Optional active flag filter
+     * @param managerId Optional manager filter (manager_id or manager_ua_id)
+     * @param number Optional project number prefix
+     * @param q Optional case-insensitive name search
+     * @param page Page number (0-based)
+     * @param size Page size (max 500)
+     * @return Page of slim project rows ordered by number
+     */
+    @GetMapping("/page")
+    public ResponseEntity<Page<ProjectSummaryDto>> getProjectPage(
+            @RequestParam(required = false) Boolean active,
+            @RequestParam(required = false) Long managerId,
+            @RequestParam(required = false) String number,
+            @RequestParam(required = false) String q,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size) {
+        PageRequest pageRequest = PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), 500));
+        return ResponseEntity.ok(projectRepository.findSummaries(active, managerId, number, q, pageRequest));
     }
 
     @GetMapping("/{id}")
@@ -34,6 +77,7 @@ public class ProjectController {
     public ResponseEntity<Project> createProject(@RequestBody Project project) {
         // if project set active true, ensure it will have tasks later (frontend should create tasks). Accept creation but ensure validation when activating via PUT
         Project saved = projectRepository.save(project);
+        projectAccessIndex.onProjectSaved(saved);
         return ResponseEntity.ok(saved);
     }
 
@@ -48,6 +92,7 @@ public class ProjectController {
             p.setManagerId(updated.getManagerId());
             p.setActive(updated.isActive());
             Project saved = projectRepository.save(p);
+            projectAccessIndex.onProjectSaved(saved);
             return ResponseEntity.ok(saved);
         }).orElse(ResponseEntity.notFound().build());
     }
@@ -55,6 +100,7 @@ public class ProjectController {
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteProject(@PathVariable Long id) {
         projectRepository.deleteById(id);
+        projectAccessIndex.onProjectDeleted(id);
         return ResponseEntity.noContent().build();
     }
 }
@@ -1,12 +1,12 @@
 package com.timetracker.controller;
 
-import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import lombok.RequiredArgsConstructor;
+import com.timetracker.dto.MemberChangeDto;
+import com.timetracker.dto.ProjectMemberDto;
 import com.timetracker.repository.ProjectRepository;
-import com.timetracker.repository.UserRepository;
-import com.timetracker.entity.User;
+import com.timetracker.service.ProjectAccessIndex;
 import java.util.*;
 
 @RestController
@@ -14,40 +14,68 @@ import java.util.*;
 @RequiredArgsConstructor
 public class ProjectMemberController {
 
-    private final JdbcTemplate jdbcTemplate;
     private final ProjectRepository projectRepository;
-    private final UserRepository userRepository;
+    private final ProjectAccessIndex projectAccessIndex;
 
     @GetMapping
-    public ResponseEntity<List<User>> getMembers(@PathVariable Long projectId) {
+    public ResponseEntity<List<ProjectMemberDto>> getMembers(@PathVariable Long projectId) {
         if (!projectRepository.existsById(projectId)) {
             return ResponseEntity.notFound().build();
         }
-        List<Long> ids = jdbcTemplate.queryForList("select user_id from project_members where project_id = ?", Long.class, projectId);
-        if (ids.isEmpty()) return ResponseEntity.ok(Collections.emptyList());
-        List<User> users = new ArrayList<>();
-        userRepository.findAllById(ids).forEach(users::add);
-        return ResponseEntity.ok(users);
+        return ResponseEntity.ok(projectRepository.findMembers(projectId));
     }
 
     public static class MemberListPayload { public List<Long> userIds; }
 
+    public static class MemberDeltaPayload { public List<Long> add; public List<Long> remove; }
+
+    /**
+     * Replace the member set; only the difference to the current members is written.
+     */
     @PutMapping
-    public ResponseEntity<Void> replaceMembers(@PathVariable Long projectId, @RequestBody MemberListPayload payload) {
+    public ResponseEntity<MemberChangeDto> replaceMembers(@PathVariable Long projectId, @RequestBody(required = false) MemberListPayload payload) {
         if (!projectRepository.existsById(projectId)) {
             return ResponseEntity.notFound().build();
         }
-        // delete existing members
-        jdbcTemplate.update("delete from project_members where project_id = ?", projectId);
-        if (payload == null || payload.userIds == null || payload.userIds.isEmpty()) {
-            return ResponseEntity.noContent().build();
+        List<Long> userIds = payload != null && payload.userIds != null ? payload.userIds : List.of();
+        return ResponseEntity.ok(applied(projectId, projectRepository.replaceMembers(projectId, userIds)));
+    }
+
+    /**
+     * Add and/or remove individual members without sending the whole list.
+     */
+    @PatchMapping
+    public ResponseEntity<MemberChangeDto> updateMembers(@PathVariable Long projectId, @RequestBody MemberDeltaPayload payload) {
+        if (!projectRepository.existsById(projectId)) {
+            return ResponseEntity.notFound().build();
         }
-        // insert new members
-        List<Object[]> rows = new ArrayList<>();
-        for (Long uid : payload.userIds) {
-            rows.add(new Object[] { projectId, uid });
+        List<Long> add = payload.add != null ? payload.add : List.of();
+        List<Long> remove = payload.remove != null ? payload.remove : List.of();
+        if (!Collections.disjoint(add, remove)) {
+            // A user cannot be both added and removed
+            return ResponseEntity.badRequest().build();
         }
-        jdbcTemplate.batchUpdate("insert into project_members (project_id, user_id) values (?,?)", rows);
-        return ResponseEntity.noContent().build();
+        return ResponseEntity.ok(applied(projectId, projectRepository.updateMembers(projectId, add, remove)));
+    }
+
+    @PostMapping("/{userId}")
+    public ResponseEntity<MemberChangeDto> addMember(@PathVariable Long projectId, @PathVariable Long userId) {
+        if (!projectRepository.existsById(projectId)) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(applied(projectId, projectRepository.updateMembers(projectId, List.of(userId), List.of())));
+    }
+
+    @DeleteMapping("/{userId}")
+    public ResponseEntity<MemberChangeDto> removeMember(@PathVariable Long projectId, @PathVariable Long userId) {
+        if (!projectRepository.existsById(projectId)) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(applied(projectId, projectRepository.updateMembers(projectId, List.of(), List.of(userId))));
+    }
+
+    private MemberChangeDto applied(Long projectId, MemberChangeDto change) {
+        projectAccessIndex.onMembersChanged(projectId, change);
+        return change;
     }
 }
@@ -1,31 +1,122 @@
 package com.timetracker.controller;
 
 import com.timetracker.dto.ReportDto;
+import com.timetracker.dto.ReportJobDto;
+import com.timetracker.dto.ReportJobRequest;
+import com.timetracker.exception.InvalidRequestException;
+import com.timetracker.service.ReportJobService;
 import com.timetracker.service.ReportService;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
 
+/**
+ * Report endpoints. Report generation and exports run asynchronously on the reporting executor
+ * (see {@link com.timetracker.config.ReportingConfig}), so they do not hold request threads or
+ * interactive database connections; when the executor is saturated they answer 503 with Retry-After.
+ */
 @RestController
 @RequestMapping("/api/reports")
 @RequiredArgsConstructor
 public class ReportController {
 
     private final ReportService reportService;
+    private final ReportJobService reportJobService;
+    private final ThreadPoolTaskExecutor reportingExecutor;
 
     @GetMapping("/monthly")
-    public ResponseEntity<ReportDto> getMonthlyReport(
+    public CompletableFuture<ResponseEntity<ReportDto>> getMonthlyReport(
             @RequestParam int year,
             @RequestParam int month,
             @RequestParam(required = false) Long userId,
             @RequestParam(required = false) Long projectId,
-            @RequestParam(defaultValue = "PLN") String currency) {
+            @RequestParam(defaultValue = "PLN") String currency,
+            @RequestParam(defaultValue = "full") String detail,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "100") int size) {
         
         if (userId == null) {
-            throw new RuntimeException("User ID is required");
+            throw new InvalidRequestException("User ID is required");
         }
 
-        ReportDto report = reportService.generateMonthlyReport(userId, year, month, currency);
-        return ResponseEntity.ok(report);
+        ReportService.Detail reportDetail = ReportService.Detail.parse(detail);
+        int pageSize = Math.min(Math.max(size, 1), 1000);
+        return CompletableFuture.supplyAsync(() -> ResponseEntity.ok(reportService.generateMonthlyReport(
+                userId, year, month, currency, reportDetail, cursor, pageSize)), reportingExecutor);
+    }
+
+    /**
+     * Submit an asynchronous report job for a month range.
+     * Without userId the job covers all active users (MANAGER/DYREKTOR only).
+     *
+     * @param request Month range, currency and optional user
+     * @return 202 Accepted with the job status; poll GET /jobs/{id} for progress
+     */
+    @PostMapping("/jobs")
+    public ResponseEntity<ReportJobDto> submitJob(@Valid @RequestBody ReportJobRequest request) {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        boolean privileged = auth.getAuthorities().stream().anyMatch(a ->
+                "ROLE_MANAGER".equals(a.getAuthority()) || "ROLE_DYREKTOR".equals(a.getAuthority()));
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(reportJobService.submit(request, auth.getName(), privileged));
+    }
+
+    /**
+     * Status and progress of a report job submitted by the current user.
+     */
+    @GetMapping("/jobs/{id}")
+    public ResponseEntity<ReportJobDto> getJob(@PathVariable String id) {
+        return ResponseEntity.ok(reportJobService.getStatus(id, currentUsername()));
+    }
+
+    /**
+     * Download the result of a finished report job. The XLSX conversion runs on the reporting executor.
+     *
+     * @param id Job ID
+     * @param format json (default) or xlsx
+     * @return Report file as attachment
+     */
+    @GetMapping("/jobs/{id}/download")
+    public CompletableFuture<ResponseEntity<Resource>> downloadJob(@PathVariable String id,
+                                                                   @RequestParam(defaultValue = "json") String format) {
+        String owner = currentUsername();
+        return CompletableFuture.supplyAsync(() -> download(id, owner, format), reportingExecutor);
+    }
+
+    private ResponseEntity<Resource> download(String id, String owner, String format) {
+        Path file = reportJobService.getResult(id, owner, format);
+        boolean xlsx = "xlsx".equalsIgnoreCase(format);
+        return ResponseEntity.ok()
+                .contentType(xlsx
+                        ? MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet")
+                        : MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("report-" + id + (xlsx ? ".xlsx" : ".json")).build().toString())
+                .body(new FileSystemResource(file));
+    }
+
+    /**
+     * Cancel a running report job, or discard a finished one and its result.
+     */
+    @DeleteMapping("/jobs/{id}")
+    public ResponseEntity<Void> cancelJob(@PathVariable String id) {
+        reportJobService.cancel(id, currentUsername());
+        return ResponseEntity.noContent().build();
+    }
+
+    private static String currentUsername() {
+        return SecurityContextHolder.getContext().getAuthentication().getName();
     }
 }
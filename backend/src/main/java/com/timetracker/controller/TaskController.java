@@ -1,11 +1,17 @@
 package com.timetracker.controller;
 
+import com.timetracker.dto.TaskImportResultDto;
 import com.timetracker.entity.Task;
 import com.timetracker.entity.Project;
+import com.timetracker.exception.InvalidRequestException;
 import com.timetracker.repository.TaskRepository;
 import com.timetracker.repository.ProjectRepository;
+import com.timetracker.service.TaskImportService;
+import com.timetracker.service.TaskMetadataCache;
+import com.timetracker.service.TaskValidation;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -19,6 +25,8 @@ public class TaskController {
 
     private final TaskRepository taskRepository;
     private final ProjectRepository projectRepository;
+    private final TaskMetadataCache taskMetadataCache;
+    private final TaskImportService taskImportService;
 
     @GetMapping("/project/{projectId}")
     public ResponseEntity<List<Task>> getTasksByProject(@PathVariable Long projectId) {
@@ -33,43 +41,39 @@ public class TaskController {
 
         task.setProjectId(projectId);
 
-        // Validate number presence and prefix match with project number
-        if (task.getNumber() == null || task.getNumber().isBlank()) {
-            throw new RuntimeException("Task number is required");
-        }
-        // Extract first segment of project number (e.g., "20031-00" -> "20031-")
-        String projectNumber = project.getNumber();
-        int firstDash = projectNumber.indexOf('-');
-        String requiredPrefix = (firstDash > 0 ? projectNumber.substring(0, firstDash) : projectNumber) + "-";
-        if (!task.getNumber().startsWith(requiredPrefix)) {
-            throw new RuntimeException("Task number must start with " + requiredPrefix);
-        }
-        String suffix = task.getNumber().substring(requiredPrefix.length());
-        if (suffix.isEmpty()) {
-            throw new RuntimeException("Task number suffix is required after " + requiredPrefix);
-        }
-        if (suffix.length() > 5) {
-            throw new RuntimeException("Task number suffix must be at most 5 characters");
-        }
-
-        // Validate billing fields
-        if (task.getBillingType() == Task.BillingType.UNIT) {
-            if (task.getUnitPrice() == null) {
-                throw new RuntimeException("Unit price is required for UNIT billing");
-            }
-            if (task.getUnitName() == null || task.getUnitName().isBlank()) {
-                throw new RuntimeException("Unit name is required for UNIT billing");
-            }
-        } else {
-            // Clear unit fields for HOURLY
-            task.setUnitPrice(null);
-            task.setUnitName(null);
+        // Validate number prefix match with project number and billing fields
+        String error = TaskValidation.check(task, TaskValidation.requiredPrefix(project.getNumber()));
+        if (error != null) {
+            throw new InvalidRequestException(error);
         }
 
         Task saved = taskRepository.save(task);
+        taskMetadataCache.put(saved);
         return ResponseEntity.ok(saved);
     }
 
+    /**
+     * Bulk import of tasks given as a JSON array (same fields as a single create).
+     * Valid rows are inserted, invalid and duplicate rows are reported per row.
+     */
+    @PostMapping(value = "/project/{projectId}/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<TaskImportResultDto> importTasks(@PathVariable Long projectId, @RequestBody List<Task> tasks) {
+        return projectRepository.findById(projectId)
+                .map(project -> ResponseEntity.ok(taskImportService.importTasks(project, tasks)))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Bulk import of tasks from CSV with a header row
+     * (number, title, description, billingType, unitPrice, unitName, active).
+     */
+    @PostMapping(value = "/project/{projectId}/import", consumes = "text/csv")
+    public ResponseEntity<TaskImportResultDto> importTasksCsv(@PathVariable Long projectId, @RequestBody String csv) {
+        return projectRepository.findById(projectId)
+                .map(project -> ResponseEntity.ok(taskImportService.importCsv(project, csv)))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<Task> updateTask(@PathVariable Long id, @Valid @RequestBody Task updated) {
         Optional<Task> existingOpt = taskRepository.findById(id);
@@ -89,48 +93,24 @@ public class TaskController {
         }
         Project project = projOpt.get();
 
-        if (updated.getNumber() == null || updated.getNumber().isBlank()) {
-            throw new RuntimeException("Task number is required");
-        }
-        // Extract first segment of project number (e.g., "20031-00" -> "20031-")
-        String projectNumber = project.getNumber();
-        int firstDash = projectNumber.indexOf('-');
-        String requiredPrefix = (firstDash > 0 ? projectNumber.substring(0, firstDash) : projectNumber) + "-";
-        if (!updated.getNumber().startsWith(requiredPrefix)) {
-            throw new RuntimeException("Task number must start with " + requiredPrefix);
-        }
-        String suffix = updated.getNumber().substring(requiredPrefix.length());
-        if (suffix.isEmpty()) {
-            throw new RuntimeException("Task number suffix is required after " + requiredPrefix);
-        }
-        if (suffix.length() > 5) {
-            throw new RuntimeException("Task number suffix must be at most 5 characters");
+        String error = TaskValidation.check(updated, TaskValidation.requiredPrefix(project.getNumber()));
+        if (error != null) {
+            throw new InvalidRequestException(error);
         }
         t.setNumber(updated.getNumber());
-
-        if (updated.getBillingType() == Task.BillingType.UNIT) {
-            if (updated.getUnitPrice() == null) {
-                throw new RuntimeException("Unit price is required for UNIT billing");
-            }
-            if (updated.getUnitName() == null || updated.getUnitName().isBlank()) {
-                throw new RuntimeException("Unit name is required for UNIT billing");
-            }
-            t.setBillingType(Task.BillingType.UNIT);
-            t.setUnitPrice(updated.getUnitPrice());
-            t.setUnitName(updated.getUnitName());
-        } else {
-            t.setBillingType(Task.BillingType.HOURLY);
-            t.setUnitPrice(null);
-            t.setUnitName(null);
-        }
+        t.setBillingType(updated.getBillingType());
+        t.setUnitPrice(updated.getUnitPrice());
+        t.setUnitName(updated.getUnitName());
 
         Task saved = taskRepository.save(t);
+        taskMetadataCache.put(saved);
         return ResponseEntity.ok(saved);
     }
 
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteTask(@PathVariable Long id) {
         taskRepository.deleteById(id);
+        taskMetadataCache.evict(id);
         return ResponseEntity.noContent().build();
     }
 }
@@ -1,14 +1,24 @@
 package com.timetracker.controller;
 
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.timetracker.dto.CalendarDayDto;
+import com.timetracker.dto.TimeEntryImportResultDto;
 import com.timetracker.dto.TimeEntryDto;
+import com.timetracker.dto.TimeEntrySearchResultDto;
+import com.timetracker.service.TimeEntrySearchService;
 import com.timetracker.service.TimeEntryService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import java.io.InputStream;
+import java.time.LocalDate;
 import java.util.List;
 
 /**
@@ -22,6 +32,7 @@ import java.util.List;
 public class TimeController {
 
     private final TimeEntryService timeEntryService;
+    private final TimeEntrySearchService timeEntrySearchService;
 
     /**
      * Create a new time entry for a project.
@@ -34,6 +45,19 @@ public class TimeController {
         return ResponseEntity.ok(timeEntryService.createEntry(dto));
     }
 
+    /**
+     * Bulk import historical time entries from a streamed CSV upload (Content-Type: text/csv).
+     * Columns: userId or username, taskId, date, hours, quantity, description, status.
+     *
+     * @param csv Request body stream
+     * @return Imported and rejected counts with rejected line numbers
+     */
+    @PostMapping(value = "/import", consumes = "text/csv")
+    @PreAuthorize("hasRole('DYREKTOR')")
+    public ResponseEntity<TimeEntryImportResultDto> importEntries(InputStream csv) {
+        return ResponseEntity.ok(timeEntryService.importEntries(csv));
+    }
+
     /**
      * Retrieve time entries for current authenticated user.
      * Optional month/year filtering.
@@ -50,6 +74,36 @@ public class TimeController {
         return ResponseEntity.ok(timeEntryService.getCurrentUserEntries(month, year));
     }
 
+    /**
+     * Sparse variant of {@link #getEntries(Integer, Integer)}: only the requested fields are read
+     * and returned, e.g. fields=id,date,totalHours,status for a grid of hours.
+     *
+     * @param fields Comma-separated field names of TimeEntryDto
+     * @return List of entries with the requested fields; 400 if a field is unknown
+     */
+    @GetMapping(params = "fields")
+    public ResponseEntity<List<JsonSerializable>> getEntries(
+            @RequestParam(required = false) Integer month,
+            @RequestParam(required = false) Integer year,
+            @RequestParam String fields) {
+        return TimeEntryDto.FIELDS.select(fields)
+                .map(selection -> ResponseEntity.ok(
+                        selection.rows(timeEntryService.getCurrentUserEntries(month, year, selection))))
+                .orElseGet(() -> ResponseEntity.badRequest().build());
+    }
+
+    /**
+     * Stream time entry changes as Server-Sent Events ("time-entry" events with type and entry,
+     * "resync" when the client fell behind and should reload).
+     * Replaces polling for approvals and new submissions.
+     *
+     * @return Event stream for the current user
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamEvents() {
+        return timeEntryService.openEventStream();
+    }
+
     /**
      * Retrieve time entries for specific user and month.
      * Used by managers/directors to view employee entries.
@@ -67,6 +121,85 @@ public class TimeController {
         return ResponseEntity.ok(timeEntryService.getEntriesByUserAndMonth(userId, year, month));
     }
 
+    /**
+     * Sparse variant of {@link #getEntries(Long, int, int)}.
+     *
+     * @param fields Comma-separated field names of TimeEntryDto
+     * @return List of entries with the requested fields; 400 if a field is unknown
+     */
+    @GetMapping(value = "/user/{userId}/month/{year}/{month}", params = "fields")
+    public ResponseEntity<List<JsonSerializable>> getEntries(
+            @PathVariable Long userId,
+            @PathVariable int year,
+            @PathVariable int month,
+            @RequestParam String fields) {
+        return TimeEntryDto.FIELDS.select(fields)
+                .map(selection -> ResponseEntity.ok(
+                        selection.rows(timeEntryService.getEntriesByUserAndMonth(userId, year, month, selection))))
+                .orElseGet(() -> ResponseEntity.badRequest().build());
+    }
+
+    /**
+     * Full-text search over entry descriptions, best matches first among the newest ones.
+     * Only MANAGER or DYREKTOR.
+     *
+     * @param q Search words; all must match (as word prefixes)
+     * @param projectId Optional project filter
+     * @param userId Optional author filter
+     * @param from Optional first date (yyyy-MM-dd)
+     * @param to Optional last date (yyyy-MM-dd)
+     * @param cursor nextCursor of the previous page
+     * @param size Page size (1-100, default 20)
+     * @return One page of hits with highlighted fragments
+     */
+    @GetMapping("/search")
+    @PreAuthorize("hasRole('MANAGER') or hasRole('DYREKTOR')")
+    public ResponseEntity<TimeEntrySearchResultDto> search(
+            @RequestParam String q,
+            @RequestParam(required = false) Long projectId,
+            @RequestParam(required = false) Long userId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        if (q.isBlank()) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(timeEntrySearchService.search(q, projectId, userId, from, to, cursor,
+                Math.min(Math.max(size, 1), 100)));
+    }
+
+    /**
+     * Per-day aggregates of the current user's month for the calendar view.
+     *
+     * @param year Year (e.g., 2025)
+     * @param month Month (1-12)
+     * @return One record per day with entries
+     */
+    @GetMapping("/calendar")
+    public ResponseEntity<List<CalendarDayDto>> getCalendar(
+            @RequestParam int year,
+            @RequestParam int month) {
+        return ResponseEntity.ok(timeEntryService.getCurrentUserCalendar(year, month));
+    }
+
+    /**
+     * Per-day aggregates of a user's month for the calendar view.
+     * Used by managers/directors to view employee calendars.
+     *
+     * @param userId User ID whose calendar to retrieve
+     * @param year Year (e.g., 2025)
+     * @param month Month (1-12)
+     * @return One record per day with entries
+     */
+    @GetMapping("/user/{userId}/calendar/{year}/{month}")
+    public ResponseEntity<List<CalendarDayDto>> getUserCalendar(
+            @PathVariable Long userId,
+            @PathVariable int year,
+            @PathVariable int month) {
+        return ResponseEntity.ok(timeEntryService.getCalendar(userId, year, month));
+    }
+
     /**
      * Retrieve paginated time entries for a specific user.
      *
@@ -87,14 +220,16 @@ public class TimeController {
      *
      * @param id Time entry ID to approve
      * @param approverId ID of approving user (manager/director)
+     * @param version Optional entry version the approver saw; 409 if the entry changed since
      * @return Updated time entry with approved status
      */
     @PutMapping("/{id}/approve")
     @PreAuthorize("hasRole('MANAGER') or hasRole('DYREKTOR')")
     public ResponseEntity<TimeEntryDto> approveEntry(
             @PathVariable Long id,
-            @RequestParam Long approverId) {
-        return ResponseEntity.ok(timeEntryService.approveEntry(id, approverId));
+            @RequestParam Long approverId,
+            @RequestParam(required = false) Long version) {
+        return ResponseEntity.ok(timeEntryService.approveEntry(id, approverId, version));
     }
 
     /**
@@ -102,12 +237,15 @@ public class TimeController {
      * Sets status to ODRZUCONY.
      *
      * @param id Time entry ID to reject
+     * @param version Optional entry version the approver saw; 409 if the entry changed since
      * @return Updated time entry with rejected status
      */
     @PutMapping("/{id}/reject")
     @PreAuthorize("hasRole('MANAGER') or hasRole('DYREKTOR')")
-    public ResponseEntity<TimeEntryDto> rejectEntry(@PathVariable Long id) {
-        return ResponseEntity.ok(timeEntryService.rejectEntry(id));
+    public ResponseEntity<TimeEntryDto> rejectEntry(
+            @PathVariable Long id,
+            @RequestParam(required = false) Long version) {
+        return ResponseEntity.ok(timeEntryService.rejectEntry(id, version));
     }
 
     /**
@@ -1,5 +1,6 @@
 package com.timetracker.controller;
 
+import com.fasterxml.jackson.databind.JsonSerializable;
 import com.timetracker.dto.ChangePasswordRequest;
 import com.timetracker.dto.SetPasswordRequest;
 import com.timetracker.dto.UserDto;
@@ -25,6 +26,18 @@ public class UserController {
         return ResponseEntity.ok(userService.getAllUsers(pageable));
     }
 
+    /**
+     * Sparse variant of the user list: only the requested fields are read and returned,
+     * e.g. fields=id,firstName,lastName for a picker. 400 if a field is unknown.
+     */
+    @GetMapping(params = "fields")
+    @PreAuthorize("hasRole('DYREKTOR')")
+    public ResponseEntity<Page<JsonSerializable>> getAllUsers(@RequestParam String fields, Pageable pageable) {
+        return UserDto.FIELDS.select(fields)
+                .map(selection -> ResponseEntity.ok(userService.getAllUsers(selection, pageable).map(selection::row)))
+                .orElseGet(() -> ResponseEntity.badRequest().build());
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<UserDto> getUserById(@PathVariable Long id) {
         return ResponseEntity.ok(userService.getUserById(id));
@@ -0,0 +1,42 @@
+package com.timetracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * Hours and cost of time entries grouped by the requested dimensions (GET /api/analytics).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AnalyticsResultDto {
+    private List<String> groupBy;
+    private YearMonth from;
+    private YearMonth to;
+    private List<Row> rows;
+
+    /**
+     * One group; only the grouped dimensions are set.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Row {
+        private Long userId;
+        private Long projectId;
+        private Long taskId;
+        private YearMonth month;
+        private String status;
+        private BigDecimal totalHours;
+        // Cost in PLN at the users' current rates, exact (four decimal places)
+        private BigDecimal totalCost;
+        private Long entryCount;
+    }
+}
@@ -0,0 +1,32 @@
+package com.timetracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Per-day aggregate of a user's time entries for the month calendar.
+ * Only days with entries are returned.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CalendarDayDto {
+    private LocalDate date;
+    private Integer entryCount;
+    // Sum of entry hours (null if no entry has hours)
+    private BigDecimal totalHours;
+    // Sum of entry quantities (null if no entry has a quantity)
+    private BigDecimal totalQuantity;
+    // Status mix: number of entries per status
+    private Integer submitted;
+    private Integer approved;
+    private Integer rejected;
+    // HOURLY if the day has any hourly entry, otherwise UNIT
+    private String billingType;
+    private String unitName;
+}
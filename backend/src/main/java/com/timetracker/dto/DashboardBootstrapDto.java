@@ -0,0 +1,54 @@
+package com.timetracker.dto;
+
+import com.timetracker.entity.Project;
+import com.timetracker.entity.Task;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Everything the dashboard needs on load, in one response: the current user, the projects
+ * the user may book on with their active tasks, and the month's entries, calendar and totals.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DashboardBootstrapDto {
+    private UserDto user;
+    private Integer year;
+    private Integer month;
+    private List<ProjectTasks> projects;
+    private List<TimeEntryDto> entries;
+    private List<CalendarDayDto> calendar;
+    private Totals totals;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ProjectTasks {
+        private Project project;
+        private List<Task> tasks;
+    }
+
+    /**
+     * Month totals, summed from the calendar days (archived entries included).
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Totals {
+        private Integer entryCount;
+        private Integer submitted;
+        private Integer approved;
+        private Integer rejected;
+        // Sum of entry hours (null if no entry has hours)
+        private BigDecimal totalHours;
+        // Sum of entry quantities (null if no entry has a quantity)
+        private BigDecimal totalQuantity;
+    }
+}
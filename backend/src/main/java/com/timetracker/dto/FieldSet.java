@@ -0,0 +1,281 @@
+package com.timetracker.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import org.springframework.jdbc.core.RowMapper;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Named fields of a list DTO for sparse fieldsets (?fields=id,date,totalHours).
+ *
+ * Each field knows its SQL column, how to read it into the DTO and how to write it as JSON.
+ * A {@link Selection} of fields is built once per distinct field set and cached: it carries the
+ * SQL select list, a row mapper reading only those columns and the JSON writers, so a row is
+ * read and written by looping over precomputed readers and writers, without reflection.
+ * Null values are left out of the JSON, like the default property inclusion.
+ *
+ * @param <T> DTO type
+ */
+public final class FieldSet<T> {
+
+    private final Supplier<T> factory;
+    private final Map<String, Field<T>> fields;
+    private final Set<String> alwaysRead;
+    private final Map<String, Selection<T>> selections = new ConcurrentHashMap<>();
+
+    private FieldSet(Supplier<T> factory, Map<String, Field<T>> fields, Set<String> alwaysRead) {
+        this.factory = factory;
+        this.fields = fields;
+        this.alwaysRead = alwaysRead;
+    }
+
+    public static <T> Builder<T> builder(Supplier<T> factory) {
+        return new Builder<>(factory);
+    }
+
+    /**
+     * Selection of a comma-separated list of field names.
+     *
+     * @param names Field names, e.g. "id,date,totalHours"
+     * @return Selection, or empty if the list is blank or names an unknown field
+     */
+    public Optional<Selection<T>> select(String names) {
+        Set<String> requested = new TreeSet<>();
+        for (String name : names.split(",")) {
+            if (!name.isBlank()) {
+                requested.add(name.trim());
+            }
+        }
+        if (requested.isEmpty() || !fields.keySet().containsAll(requested)) {
+            return Optional.empty();
+        }
+        // Keyed by the sorted names, so the cache holds at most one selection per subset of fields
+        return Optional.of(selections.computeIfAbsent(String.join(",", requested),
+                key -> new Selection<>(this, requested)));
+    }
+
+    /**
+     * SQL column of a field, or null if there is no such field (e.g. to map sort properties).
+     */
+    public String column(String name) {
+        Field<T> field = fields.get(name);
+        return field != null ? field.column() : null;
+    }
+
+    /**
+     * Precomputed reading and writing of one set of fields.
+     */
+    public static final class Selection<T> {
+
+        private final String columns;
+        private final RowMapper<T> rowMapper;
+        private final Field<T>[] written;
+
+        @SuppressWarnings("unchecked")
+        private Selection(FieldSet<T> fieldSet, Set<String> requested) {
+            List<Field<T>> read = new ArrayList<>();
+            List<Field<T>> write = new ArrayList<>();
+            for (Field<T> field : fieldSet.fields.values()) {
+                if (requested.contains(field.name())) {
+                    write.add(field);
+                    read.add(field);
+                } else if (fieldSet.alwaysRead.contains(field.name())) {
+                    read.add(field);
+                }
+            }
+            this.columns = String.join(", ", read.stream().map(Field::column).toList());
+            this.written = write.toArray(new Field[0]);
+            ColumnReader<T>[] readers = read.stream().map(Field::reader).toArray(ColumnReader[]::new);
+            Supplier<T> factory = fieldSet.factory;
+            this.rowMapper = (rs, rowNum) -> {
+                T row = factory.get();
+                for (ColumnReader<T> reader : readers) {
+                    reader.read(rs, row);
+                }
+                return row;
+            };
+        }
+
+        /**
+         * SQL select list: the selected fields' columns plus those the repository always needs.
+         */
+        public String columns() {
+            return columns;
+        }
+
+        /**
+         * Maps rows selected with {@link #columns()}; other fields stay null.
+         */
+        public RowMapper<T> rowMapper() {
+            return rowMapper;
+        }
+
+        /**
+         * JSON view of a DTO with only the selected fields.
+         */
+        public JsonSerializable row(T value) {
+            return new Row<>(this, value);
+        }
+
+        public List<JsonSerializable> rows(List<T> values) {
+            List<JsonSerializable> rows = new ArrayList<>(values.size());
+            for (T value : values) {
+                rows.add(new Row<>(this, value));
+            }
+            return rows;
+        }
+
+        private void write(T value, JsonGenerator gen) throws IOException {
+            gen.writeStartObject();
+            for (Field<T> field : written) {
+                field.writer().write(value, gen);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    public static final class Builder<T> {
+
+        private final Supplier<T> factory;
+        private final Map<String, Field<T>> fields = new LinkedHashMap<>();
+        private final Set<String> alwaysRead = new LinkedHashSet<>();
+
+        private Builder(Supplier<T> factory) {
+            this.factory = factory;
+        }
+
+        public Builder<T> longField(String name, String column, Function<T, Long> getter, BiConsumer<T, Long> setter) {
+            SerializedString key = new SerializedString(name);
+            return add(name, column, (rs, row) -> {
+                long value = rs.getLong(column);
+                setter.accept(row, rs.wasNull() ? null : value);
+            }, (row, gen) -> {
+                Long value = getter.apply(row);
+                if (value != null) {
+                    gen.writeFieldName(key);
+                    gen.writeNumber(value);
+                }
+            });
+        }
+
+        public Builder<T> decimalField(String name, String column, Function<T, BigDecimal> getter,
+                                       BiConsumer<T, BigDecimal> setter) {
+            SerializedString key = new SerializedString(name);
+            return add(name, column, (rs, row) -> setter.accept(row, rs.getBigDecimal(column)), (row, gen) -> {
+                BigDecimal value = getter.apply(row);
+                if (value != null) {
+                    gen.writeFieldName(key);
+                    gen.writeNumber(value);
+                }
+            });
+        }
+
+        public Builder<T> stringField(String name, String column, Function<T, String> getter,
+                                      BiConsumer<T, String> setter) {
+            SerializedString key = new SerializedString(name);
+            return add(name, column, (rs, row) -> setter.accept(row, rs.getString(column)), (row, gen) -> {
+                String value = getter.apply(row);
+                if (value != null) {
+                    gen.writeFieldName(key);
+                    gen.writeString(value);
+                }
+            });
+        }
+
+        public Builder<T> booleanField(String name, String column, Function<T, Boolean> getter,
+                                       BiConsumer<T, Boolean> setter) {
+            SerializedString key = new SerializedString(name);
+            return add(name, column, (rs, row) -> {
+                boolean value = rs.getBoolean(column);
+                setter.accept(row, rs.wasNull() ? null : value);
+            }, (row, gen) -> {
+                Boolean value = getter.apply(row);
+                if (value != null) {
+                    gen.writeFieldName(key);
+                    gen.writeBoolean(value);
+                }
+            });
+        }
+
+        /**
+         * ISO date (yyyy-MM-dd), as written by the default serializer.
+         */
+        public Builder<T> dateField(String name, String column, Function<T, LocalDate> getter,
+                                    BiConsumer<T, LocalDate> setter) {
+            SerializedString key = new SerializedString(name);
+            return add(name, column, (rs, row) -> setter.accept(row, rs.getObject(column, LocalDate.class)),
+                    (row, gen) -> {
+                        LocalDate value = getter.apply(row);
+                        if (value != null) {
+                            gen.writeFieldName(key);
+                            gen.writeString(value.toString());
+                        }
+                    });
+        }
+
+        /**
+         * Fields whose columns are read even when not requested (e.g. for ordering or merging);
+         * they are still written only when requested.
+         */
+        public Builder<T> alwaysRead(String... names) {
+            alwaysRead.addAll(List.of(names));
+            return this;
+        }
+
+        public FieldSet<T> build() {
+            return new FieldSet<>(factory, Collections.unmodifiableMap(new LinkedHashMap<>(fields)), Set.copyOf(alwaysRead));
+        }
+
+        private Builder<T> add(String name, String column, ColumnReader<T> reader, FieldWriter<T> writer) {
+            fields.put(name, new Field<>(name, column, reader, writer));
+            return this;
+        }
+    }
+
+    @FunctionalInterface
+    private interface ColumnReader<T> {
+        void read(ResultSet rs, T row) throws SQLException;
+    }
+
+    @FunctionalInterface
+    private interface FieldWriter<T> {
+        void write(T row, JsonGenerator gen) throws IOException;
+    }
+
+    private record Field<T>(String name, String column, ColumnReader<T> reader, FieldWriter<T> writer) {
+    }
+
+    private record Row<T>(Selection<T> selection, T value) implements JsonSerializable {
+
+        @Override
+        public void serialize(JsonGenerator gen, SerializerProvider serializers) throws IOException {
+            selection.write(value, gen);
+        }
+
+        @Override
+        public void serializeWithType(JsonGenerator gen, SerializerProvider serializers, TypeSerializer typeSer)
+                throws IOException {
+            serialize(gen, serializers);
+        }
+    }
+}
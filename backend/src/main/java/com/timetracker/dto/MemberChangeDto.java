@@ -0,0 +1,17 @@
+package com.timetracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.List;
+
+/**
+ * User IDs actually added to and removed from a project by a membership update.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MemberChangeDto {
+    private List<Long> added;
+    private List<Long> removed;
+}
@@ -0,0 +1,26 @@
+package com.timetracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+
+/**
+ * Project member with the user fields needed to display the member list.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProjectMemberDto {
+    private Long id;
+    private String username;
+    private String firstName;
+    private String lastName;
+    private String firstNameUa;
+    private String lastNameUa;
+    private String role;
+    private Boolean active;
+    private LocalDateTime addedAt;
+}
@@ -0,0 +1,26 @@
+package com.timetracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Project row of the paginated project listing, with task and member counts.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProjectSummaryDto {
+    private Long id;
+    private String number;
+    private String name;
+    private String description;
+    private Long managerId;
+    private Long managerUaId;
+    private String managerMggp;
+    private Boolean active;
+    private Long taskCount;
+    private Long memberCount;
+}
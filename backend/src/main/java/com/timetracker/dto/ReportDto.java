@@ -10,7 +10,7 @@ import java.util.List;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class ReportDto {
     private Long id;
     private Long userId;
@@ -20,11 +20,13 @@ public class ReportDto {
     private ReportTotals totals;
     private String currency;
     private RateInfo rateInfo;
+    // Paged reports: cursor of the next page, absent on the last page
+    private String nextCursor;
 
     @Data
     @NoArgsConstructor
     @AllArgsConstructor
-    @Builder
+    @Builder(toBuilder = true)
     public static class ReportTotals {
         private BigDecimal totalHours;
         private BigDecimal totalCost;
@@ -34,9 +36,14 @@ public class ReportDto {
     @Data
     @NoArgsConstructor
     @AllArgsConstructor
-    @Builder
+    @Builder(toBuilder = true)
     public static class RateInfo {
+        // PLN to UAH rate in effect for the report month
         private BigDecimal plToUahRate;
+        // Rate applied to the report currency (omitted for PLN)
+        private BigDecimal rate;
+        private String effectiveFrom;
+        // Source and last update of the applied rate
         private String source;
         private String updatedAt;
     }
@@ -0,0 +1,24 @@
+package com.timetracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+
+/**
+ * Status of an asynchronous report job. Progress counts generated monthly reports.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReportJobDto {
+    private String id;
+    private String status;
+    private Integer completed;
+    private Integer total;
+    private LocalDateTime createdAt;
+    private LocalDateTime finishedAt;
+    private String error;
+}
@@ -0,0 +1,38 @@
+package com.timetracker.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Asynchronous report request: monthly reports for a month range,
+ * for one user or, without userId, for all active users (payroll).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReportJobRequest {
+    // Without a user ID the job covers all active users (MANAGER/DYREKTOR only)
+    private Long userId;
+
+    @NotNull(message = "From year is required")
+    private Integer fromYear;
+
+    @NotNull(message = "From month is required")
+    @Min(value = 1, message = "Month must be between 1 and 12")
+    @Max(value = 12, message = "Month must be between 1 and 12")
+    private Integer fromMonth;
+
+    @NotNull(message = "To year is required")
+    private Integer toYear;
+
+    @NotNull(message = "To month is required")
+    @Min(value = 1, message = "Month must be between 1 and 12")
+    @Max(value = 12, message = "Month must be between 1 and 12")
+    private Integer toMonth;
+
+    private String currency = "PLN";
+}
@@ -0,0 +1,35 @@
+package com.timetracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.List;
+
+/**
+ * Outcome of a bulk task import: counts and one result per input row.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskImportResultDto {
+    private Integer total;
+    private Integer imported;
+    private Integer rejected;
+    private List<RowResult> rows;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class RowResult {
+        // CSV line number, or 1-based position in a JSON array
+        private Integer line;
+        private String number;
+        // CREATED, DUPLICATE or INVALID
+        private String status;
+        private Long taskId;
+        private String message;
+    }
+}
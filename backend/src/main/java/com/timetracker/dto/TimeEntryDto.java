@@ -12,7 +12,7 @@ import java.time.LocalDate;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class TimeEntryDto {
     private Long id;
 
@@ -37,6 +37,29 @@ public class TimeEntryDto {
     private String status;
     private Long approvedBy;
 
+    // Version the client read; updates with a stale version fail with 409
+    private Long version;
+
+    /**
+     * Fields for sparse list responses (?fields=...); id and date are always read to order
+     * and merge archived entries.
+     */
+    public static final FieldSet<TimeEntryDto> FIELDS = FieldSet.builder(TimeEntryDto::new)
+            .longField("id", "id", TimeEntryDto::getId, TimeEntryDto::setId)
+            .longField("userId", "user_id", TimeEntryDto::getUserId, TimeEntryDto::setUserId)
+            .longField("projectId", "project_id", TimeEntryDto::getProjectId, TimeEntryDto::setProjectId)
+            .longField("subprojectId", "subproject_id", TimeEntryDto::getSubprojectId, TimeEntryDto::setSubprojectId)
+            .longField("taskId", "task_id", TimeEntryDto::getTaskId, TimeEntryDto::setTaskId)
+            .dateField("date", "date", TimeEntryDto::getDate, TimeEntryDto::setDate)
+            .decimalField("totalHours", "total_hours", TimeEntryDto::getTotalHours, TimeEntryDto::setTotalHours)
+            .decimalField("quantity", "quantity", TimeEntryDto::getQuantity, TimeEntryDto::setQuantity)
+            .stringField("description", "description", TimeEntryDto::getDescription, TimeEntryDto::setDescription)
+            .stringField("status", "status", TimeEntryDto::getStatus, TimeEntryDto::setStatus)
+            .longField("approvedBy", "approved_by", TimeEntryDto::getApprovedBy, TimeEntryDto::setApprovedBy)
+            .longField("version", "version", TimeEntryDto::getVersion, TimeEntryDto::setVersion)
+            .alwaysRead("id", "date")
+            .build();
+
     public static TimeEntryDto from(TimeEntry entry) {
         return TimeEntryDto.builder()
                 .id(entry.getId())
@@ -50,6 +73,7 @@ public class TimeEntryDto {
                 .description(entry.getDescription())
                 .status(entry.getStatus().name())
                 .approvedBy(entry.getApprovedBy())
+                .version(entry.getVersion())
                 .build();
     }
 }
@@ -0,0 +1,33 @@
+package com.timetracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.List;
+
+/**
+ * Outcome of a bulk time entry import. Rejects are listed up to a configured limit;
+ * rejectsTruncated tells that more rows were rejected than listed.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TimeEntryImportResultDto {
+    private Long total;
+    private Long imported;
+    private Long rejected;
+    private List<Reject> rejects;
+    private Boolean rejectsTruncated;
+    private Long durationMs;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Reject {
+        // CSV line number the rejected record starts on
+        private Integer line;
+        private String message;
+    }
+}
@@ -0,0 +1,45 @@
+package com.timetracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * One page of time entry search results, best matches first.
+ * nextCursor is set if more results follow; pass it as cursor to get the next page.
+ * truncated is set if matches exist that this search does not rank: older ones beyond the
+ * candidate limit or the entries a project/user search scans, or archived ones in the date range.
+ * Narrowing the date range reaches them.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TimeEntrySearchResultDto {
+    private List<Hit> items;
+    private String nextCursor;
+    private boolean truncated;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Hit {
+        private Long id;
+        private Long userId;
+        private Long projectId;
+        private Long taskId;
+        private LocalDate date;
+        private BigDecimal totalHours;
+        private BigDecimal quantity;
+        private String status;
+        private String description;
+        // Description fragments with the matched words between ** markers
+        private String headline;
+        private Float rank;
+    }
+}
@@ -39,6 +39,28 @@ public class UserDto {
     private Boolean active;
     private Boolean passwordChangeRequired;
 
+    /**
+     * Fields for sparse list responses (?fields=...).
+     */
+    public static final FieldSet<UserDto> FIELDS = FieldSet.builder(UserDto::new)
+            .longField("id", "id", UserDto::getId, UserDto::setId)
+            .stringField("username", "username", UserDto::getUsername, UserDto::setUsername)
+            .stringField("email", "email", UserDto::getEmail, UserDto::setEmail)
+            .stringField("firstName", "first_name", UserDto::getFirstName, UserDto::setFirstName)
+            .stringField("lastName", "last_name", UserDto::getLastName, UserDto::setLastName)
+            .stringField("firstNameUa", "first_name_ua", UserDto::getFirstNameUa, UserDto::setFirstNameUa)
+            .stringField("lastNameUa", "last_name_ua", UserDto::getLastNameUa, UserDto::setLastNameUa)
+            .stringField("role", "role", UserDto::getRole, UserDto::setRole)
+            .stringField("contractType", "contract_type", UserDto::getContractType, UserDto::setContractType)
+            .decimalField("uopGrossRate", "uop_gross_rate", UserDto::getUopGrossRate, UserDto::setUopGrossRate)
+            .decimalField("b2bHourlyNetRate", "b2b_hourly_net_rate", UserDto::getB2bHourlyNetRate,
+                    UserDto::setB2bHourlyNetRate)
+            .stringField("language", "language", UserDto::getLanguage, UserDto::setLanguage)
+            .booleanField("active", "active", UserDto::getActive, UserDto::setActive)
+            .booleanField("passwordChangeRequired", "password_change_required", UserDto::getPasswordChangeRequired,
+                    UserDto::setPasswordChangeRequired)
+            .build();
+
     public static UserDto from(User user) {
         return UserDto.builder()
             .id(user.getId())
@@ -0,0 +1,47 @@
+package com.timetracker.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Exchange rate of a currency pair, valid from effectiveFrom until the next rate of the same pair.
+ * rate = units of quoteCurrency per 1 unit of baseCurrency (e.g. PLN/UAH 10.5).
+ */
+@Entity
+@Table(name = "exchange_rates", indexes = {
+        @Index(name = "ux_exchange_rates_pair_date", columnList = "base_currency,quote_currency,effective_from", unique = true)
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ExchangeRate {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "base_currency", nullable = false, length = 3)
+    private String baseCurrency;
+
+    @Column(name = "quote_currency", nullable = false, length = 3)
+    private String quoteCurrency;
+
+    @Column(name = "effective_from", nullable = false)
+    private LocalDate effectiveFrom;
+
+    @Column(nullable = false, precision = 18, scale = 6)
+    private BigDecimal rate;
+
+    @Column(nullable = false, length = 64)
+    private String source;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
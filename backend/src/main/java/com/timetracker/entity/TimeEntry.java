@@ -70,6 +70,11 @@ public class TimeEntry {
     @Column(nullable = false)
     private LocalDateTime updatedAt;
 
+    // Optimistic lock; incremented by every update
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
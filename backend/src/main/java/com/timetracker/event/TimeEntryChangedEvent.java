@@ -0,0 +1,27 @@
+package com.timetracker.event;
+
+import com.timetracker.dto.TimeEntryDto;
+import java.time.YearMonth;
+
+/**
+ * Published by TimeEntryService after a time entry was created, changed or deleted.
+ * Listeners that derive data from entries (caches, aggregates) should handle it with
+ * {@code @TransactionalEventListener} so they only see committed changes.
+ *
+ * @param type  Kind of change
+ * @param entry Entry state after the change (state before deletion for DELETED)
+ */
+public record TimeEntryChangedEvent(Type type, TimeEntryDto entry) {
+
+    public enum Type {
+        CREATED, UPDATED, APPROVED, REJECTED, DELETED
+    }
+
+    public Long userId() {
+        return entry.getUserId();
+    }
+
+    public YearMonth period() {
+        return YearMonth.from(entry.getDate());
+    }
+}
@@ -0,0 +1,9 @@
+package com.timetracker.event;
+
+/**
+ * Published by UserService after a user's profile, contract or rates were changed or the user was deleted.
+ *
+ * @param userId ID of the changed user
+ */
+public record UserChangedEvent(Long userId) {
+}
@@ -0,0 +1,13 @@
+package com.timetracker.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * The request conflicts with existing data or the record's current state (409).
+ */
+public class ConflictException extends DomainException {
+
+    public ConflictException(String message) {
+        super(HttpStatus.CONFLICT, "conflict", message);
+    }
+}
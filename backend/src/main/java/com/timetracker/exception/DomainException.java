@@ -0,0 +1,28 @@
+package com.timetracker.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Expected business outcome (missing record, conflicting state, invalid input) reported to the
+ * client with a 4xx status. No stack trace is captured: the message says all there is to know,
+ * and bad-input traffic should not pay for filling stacks or log them.
+ */
+public abstract class DomainException extends RuntimeException {
+
+    private final HttpStatus status;
+    private final String code;
+
+    protected DomainException(HttpStatus status, String code, String message) {
+        super(message, null, false, false);
+        this.status = status;
+        this.code = code;
+    }
+
+    public HttpStatus getStatus() {
+        return status;
+    }
+
+    public String getCode() {
+        return code;
+    }
+}
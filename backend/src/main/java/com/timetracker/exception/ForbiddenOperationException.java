@@ -0,0 +1,13 @@
+package com.timetracker.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * The operation is not allowed for this account or record (403).
+ */
+public class ForbiddenOperationException extends DomainException {
+
+    public ForbiddenOperationException(String message) {
+        super(HttpStatus.FORBIDDEN, "forbidden", message);
+    }
+}
@@ -2,23 +2,33 @@ package com.timetracker.exception;
 
 import com.timetracker.dto.ErrorResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.AsyncRequestTimeoutException;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
 
 @Slf4j
 @ControllerAdvice
 public class GlobalExceptionHandler {
 
+    // Retry-After of 503 answers when the reporting executor is saturated (default: 5)
+    @Value("${binderua.reporting.retry-after-seconds:5}")
+    private int reportingRetryAfterSeconds;
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponse> handleValidationExceptions(
             MethodArgumentNotValidException ex, WebRequest request) {
@@ -51,6 +61,20 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.FORBIDDEN);
     }
 
+    @ExceptionHandler(DomainException.class)
+    public ResponseEntity<ErrorResponse> handleDomainException(
+            DomainException ex, WebRequest request) {
+
+        log.warn("{} {}: {}", ex.getStatus().value(), ex.getCode(), ex.getMessage());
+
+        ErrorResponse errorResponse = ErrorResponse.of(
+                ex.getCode(),
+                ex.getMessage(),
+                UUID.randomUUID().toString());
+
+        return new ResponseEntity<>(errorResponse, ex.getStatus());
+    }
+
     @ExceptionHandler(DataIntegrityViolationException.class)
     public ResponseEntity<ErrorResponse> handleDataIntegrityViolation(
             DataIntegrityViolationException ex, WebRequest request) {
@@ -71,6 +95,52 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
     }
 
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailure(
+            OptimisticLockingFailureException ex, WebRequest request) {
+
+        log.warn("Concurrent update: {}", ex.getMessage());
+
+        ErrorResponse errorResponse = ErrorResponse.of(
+                "conflict",
+                ex.getMessage(),
+                UUID.randomUUID().toString());
+
+        return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
+    }
+
+    @ExceptionHandler({TaskRejectedException.class, AsyncRequestTimeoutException.class})
+    public ResponseEntity<ErrorResponse> handleReportingSaturated(
+            Exception ex, WebRequest request) {
+
+        log.warn("Reporting capacity exhausted: {}", ex.getClass().getSimpleName());
+
+        ErrorResponse errorResponse = ErrorResponse.of(
+                "service_unavailable",
+                "Reporting is busy, please retry later",
+                UUID.randomUUID().toString());
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(reportingRetryAfterSeconds))
+                .body(errorResponse);
+    }
+
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<ErrorResponse> handleRejectedExecution(
+            RejectedExecutionException ex, WebRequest request) {
+
+        log.warn("Request rejected: {}", ex.getMessage());
+
+        ErrorResponse errorResponse = ErrorResponse.of(
+                "too_many_requests",
+                ex.getMessage(),
+                UUID.randomUUID().toString());
+
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, "30")
+                .body(errorResponse);
+    }
+
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<ErrorResponse> handleRuntimeException(
             RuntimeException ex, WebRequest request) {
@@ -0,0 +1,13 @@
+package com.timetracker.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Input rejected by a business rule (400).
+ */
+public class InvalidRequestException extends DomainException {
+
+    public InvalidRequestException(String message) {
+        super(HttpStatus.BAD_REQUEST, "invalid_request", message);
+    }
+}
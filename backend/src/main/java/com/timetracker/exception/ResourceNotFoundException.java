@@ -0,0 +1,13 @@
+package com.timetracker.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * A requested record does not exist (404).
+ */
+public class ResourceNotFoundException extends DomainException {
+
+    public ResourceNotFoundException(String message) {
+        super(HttpStatus.NOT_FOUND, "not_found", message);
+    }
+}
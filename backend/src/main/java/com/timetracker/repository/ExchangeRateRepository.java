@@ -0,0 +1,31 @@
+package com.timetracker.repository;
+
+import com.timetracker.entity.ExchangeRate;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Repository
+public interface ExchangeRateRepository extends JpaRepository<ExchangeRate, Long> {
+
+    /**
+     * Insert a rate or update the existing rate of the same pair and date.
+     * Rows are only touched when rate or source changed, so updated_at reflects real changes.
+     */
+    @Modifying
+    @Query(value = "insert into exchange_rates (base_currency, quote_currency, effective_from, rate, source, updated_at)"
+            + " values (:base, :quote, :effectiveFrom, :rate, :source, current_timestamp)"
+            + " on conflict (base_currency, quote_currency, effective_from) do update"
+            + " set rate = excluded.rate, source = excluded.source, updated_at = excluded.updated_at"
+            + " where exchange_rates.rate <> excluded.rate or exchange_rates.source <> excluded.source",
+            nativeQuery = true)
+    int upsert(@Param("base") String base,
+               @Param("quote") String quote,
+               @Param("effectiveFrom") LocalDate effectiveFrom,
+               @Param("rate") BigDecimal rate,
+               @Param("source") String source);
+}
@@ -8,9 +8,10 @@ import org.springframework.stereotype.Repository;
 import java.util.List;
 
 @Repository
-public interface ProjectRepository extends JpaRepository<Project, Long> {
+public interface ProjectRepository extends JpaRepository<Project, Long>, ProjectRepositoryCustom {
     Page<Project> findByManagerIdAndActive(Long managerId, boolean active, Pageable pageable);
     List<Project> findByManagerId(Long managerId);
+    List<Project> findByManagerUaId(Long managerUaId);
     List<Project> findByActiveTrue();
     Page<Project> findByActive(boolean active, Pageable pageable);
 }
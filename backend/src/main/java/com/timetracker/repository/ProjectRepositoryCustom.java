@@ -0,0 +1,51 @@
+package com.timetracker.repository;
+
+import com.timetracker.dto.MemberChangeDto;
+import com.timetracker.dto.ProjectMemberDto;
+import com.timetracker.dto.ProjectSummaryDto;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Project listing queries returning slim rows with aggregated counts, and project membership.
+ */
+public interface ProjectRepositoryCustom {
+
+    /**
+     * Page of projects ordered by number and ID, with task and member counts,
+     * computed in one query. Null filters are ignored.
+     *
+     * @param active       Only active or only inactive projects
+     * @param managerId    Projects managed by this user (manager_id or manager_ua_id)
+     * @param numberPrefix Project number starts with this prefix (case-sensitive)
+     * @param search       Project name contains this text (case-insensitive)
+     * @param pageable     Page number and size; sort is ignored
+     */
+    Page<ProjectSummaryDto> findSummaries(Boolean active, Long managerId, String numberPrefix, String search,
+                                          Pageable pageable);
+
+    /**
+     * Members of a project ordered by last and first name.
+     */
+    List<ProjectMemberDto> findMembers(Long projectId);
+
+    /**
+     * Add and remove members in one statement. Unknown user IDs and users that are already
+     * (or not) members are skipped, so only rows that change are written.
+     *
+     * @param add    User IDs to add
+     * @param remove User IDs to remove
+     * @return User IDs actually added and removed
+     */
+    MemberChangeDto updateMembers(Long projectId, Collection<Long> add, Collection<Long> remove);
+
+    /**
+     * Make the given users the exact member set of a project in one statement,
+     * writing only the difference to the current members.
+     *
+     * @return User IDs actually added and removed
+     */
+    MemberChangeDto replaceMembers(Long projectId, Collection<Long> userIds);
+}
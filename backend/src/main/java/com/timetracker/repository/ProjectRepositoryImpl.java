@@ -0,0 +1,179 @@
+package com.timetracker.repository;
+
+import com.timetracker.dto.MemberChangeDto;
+import com.timetracker.dto.ProjectMemberDto;
+import com.timetracker.dto.ProjectSummaryDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.sql.Array;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * JDBC implementation of {@link ProjectRepositoryCustom}.
+ * Task and member counts come from grouped subqueries joined once to the filtered projects,
+ * and the total row count from a window function, so a page costs a single statement.
+ *
+ * Membership updates are single statements over user ID arrays: data-modifying CTEs delete and
+ * insert only the rows that change and report them, so unchanged members keep their rows
+ * (and added_at) and concurrent edits do not rewrite each other's rows.
+ */
+@RequiredArgsConstructor
+public class ProjectRepositoryImpl implements ProjectRepositoryCustom {
+
+    // Final select of the membership statements: the added and removed user IDs
+    private static final String CHANGE_SELECT =
+            " select (select coalesce(array_agg(user_id order by user_id), '{}') from added) as added,"
+                    + " (select coalesce(array_agg(user_id order by user_id), '{}') from removed) as removed";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Page<ProjectSummaryDto> findSummaries(Boolean active, Long managerId, String numberPrefix, String search,
+                                                 Pageable pageable) {
+        StringBuilder where = new StringBuilder(" where true");
+        List<Object> args = new ArrayList<>();
+        if (active != null) {
+            where.append(" and p.active = ?");
+            args.add(active);
+        }
+        if (managerId != null) {
+            where.append(" and (p.manager_id = ? or p.manager_ua_id = ?)");
+            args.add(managerId);
+            args.add(managerId);
+        }
+        if (numberPrefix != null && !numberPrefix.isBlank()) {
+            where.append(" and p.number like ?");
+            args.add(escapeLike(numberPrefix.trim()) + "%");
+        }
+        if (search != null && !search.isBlank()) {
+            where.append(" and p.name ilike ?");
+            args.add("%" + escapeLike(search.trim()) + "%");
+        }
+
+        List<Object> pageArgs = new ArrayList<>(args);
+        pageArgs.add(pageable.getPageSize());
+        pageArgs.add(pageable.getOffset());
+        long[] total = { -1 };
+        List<ProjectSummaryDto> content = jdbcTemplate.query(
+                "select p.id, p.number, p.name, p.description, p.manager_id, p.manager_ua_id, p.manager_mggp,"
+                        + " p.active, coalesce(t.task_count, 0) as task_count,"
+                        + " coalesce(m.member_count, 0) as member_count, count(*) over () as total_count"
+                        + " from projects p"
+                        + " left join (select project_id, count(*) as task_count from tasks group by project_id) t"
+                        + " on t.project_id = p.id"
+                        + " left join (select project_id, count(*) as member_count from project_members"
+                        + " group by project_id) m on m.project_id = p.id"
+                        + where
+                        + " order by p.number, p.id limit ? offset ?",
+                (rs, i) -> {
+                    total[0] = rs.getLong("total_count");
+                    return ProjectSummaryDto.builder()
+                            .id(rs.getLong("id"))
+                            .number(rs.getString("number"))
+                            .name(rs.getString("name"))
+                            .description(rs.getString("description"))
+                            .managerId(rs.getObject("manager_id", Long.class))
+                            .managerUaId(rs.getObject("manager_ua_id", Long.class))
+                            .managerMggp(rs.getString("manager_mggp"))
+                            .active(rs.getObject("active", Boolean.class))
+                            .taskCount(rs.getLong("task_count"))
+                            .memberCount(rs.getLong("member_count"))
+                            .build();
+                },
+                pageArgs.toArray());
+
+        if (total[0] < 0) {
+            // Page past the end: no row carried the window count
+            total[0] = content.isEmpty() && pageable.getOffset() > 0
+                    ? jdbcTemplate.queryForObject("select count(*) from projects p" + where, Long.class, args.toArray())
+                    : 0;
+        }
+        return new PageImpl<>(content, pageable, total[0]);
+    }
+
+    @Override
+    public List<ProjectMemberDto> findMembers(Long projectId) {
+        return jdbcTemplate.query(
+                "select u.id, u.username, u.first_name, u.last_name, u.first_name_ua, u.last_name_ua, u.role,"
+                        + " u.active, pm.added_at"
+                        + " from project_members pm join users u on u.id = pm.user_id"
+                        + " where pm.project_id = ?"
+                        + " order by u.last_name, u.first_name, u.id",
+                (rs, i) -> {
+                    Timestamp addedAt = rs.getTimestamp("added_at");
+                    return ProjectMemberDto.builder()
+                            .id(rs.getLong("id"))
+                            .username(rs.getString("username"))
+                            .firstName(rs.getString("first_name"))
+                            .lastName(rs.getString("last_name"))
+                            .firstNameUa(rs.getString("first_name_ua"))
+                            .lastNameUa(rs.getString("last_name_ua"))
+                            .role(rs.getString("role"))
+                            .active(rs.getObject("active", Boolean.class))
+                            .addedAt(addedAt != null ? addedAt.toLocalDateTime() : null)
+                            .build();
+                },
+                projectId);
+    }
+
+    @Override
+    public MemberChangeDto updateMembers(Long projectId, Collection<Long> add, Collection<Long> remove) {
+        return jdbcTemplate.queryForObject(
+                "with removed as ("
+                        + " delete from project_members where project_id = ? and user_id = any(?::bigint[])"
+                        + " returning user_id),"
+                        + " added as ("
+                        + " insert into project_members (project_id, user_id)"
+                        + " select distinct ?::bigint, u.id from unnest(?::bigint[]) as w(user_id)"
+                        + " join users u on u.id = w.user_id"
+                        + " on conflict do nothing returning user_id)"
+                        + CHANGE_SELECT,
+                (rs, i) -> change(rs),
+                projectId, ids(remove), projectId, ids(add));
+    }
+
+    @Override
+    public MemberChangeDto replaceMembers(Long projectId, Collection<Long> userIds) {
+        return jdbcTemplate.queryForObject(
+                "with wanted as ("
+                        + " select distinct u.id as user_id from unnest(?::bigint[]) as w(user_id)"
+                        + " join users u on u.id = w.user_id),"
+                        + " removed as ("
+                        + " delete from project_members where project_id = ?"
+                        + " and user_id not in (select user_id from wanted)"
+                        + " returning user_id),"
+                        + " added as ("
+                        + " insert into project_members (project_id, user_id)"
+                        + " select ?, user_id from wanted"
+                        + " on conflict do nothing returning user_id)"
+                        + CHANGE_SELECT,
+                (rs, i) -> change(rs),
+                ids(userIds), projectId, projectId);
+    }
+
+    private static Long[] ids(Collection<Long> userIds) {
+        return userIds == null ? new Long[0] : userIds.stream().filter(Objects::nonNull).toArray(Long[]::new);
+    }
+
+    private static MemberChangeDto change(ResultSet rs) throws SQLException {
+        return new MemberChangeDto(longs(rs.getArray("added")), longs(rs.getArray("removed")));
+    }
+
+    private static List<Long> longs(Array array) throws SQLException {
+        return Arrays.stream((Object[]) array.getArray()).map(v -> ((Number) v).longValue()).toList();
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
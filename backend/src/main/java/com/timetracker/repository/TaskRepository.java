@@ -4,10 +4,12 @@ import com.timetracker.entity.Task;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface TaskRepository extends JpaRepository<Task, Long> {
     List<Task> findByProjectId(Long projectId);
     long countByProjectId(Long projectId);
+    List<Task> findByProjectIdInAndActiveTrue(Collection<Long> projectIds);
 }
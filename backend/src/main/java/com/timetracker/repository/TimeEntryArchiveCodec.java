@@ -0,0 +1,115 @@
+package com.timetracker.repository;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.timetracker.entity.TimeEntry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Encodes archived time entries as a gzip-compressed JSON array and back.
+ * Keys are kept short because archive payloads hold a whole month per user and task;
+ * user, task and month are stored as columns of the archive row and are not repeated per entry.
+ * Decoding restores every column of the original entry, including audit timestamps and the
+ * optimistic-lock version. Payloads written before the version was archived decode with version 0,
+ * the value V18 gave every entry that existed before versioning.
+ */
+@Component
+@RequiredArgsConstructor
+public class TimeEntryArchiveCodec {
+
+    private static final TypeReference<List<ArchivedEntry>> ENTRY_LIST = new TypeReference<>() {};
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Compress entries of a single user/task archive row.
+     *
+     * @param entries Entries to archive (all sharing the same user and task)
+     * @return gzip-compressed JSON payload
+     */
+    public byte[] encode(List<TimeEntry> entries) {
+        List<ArchivedEntry> compact = entries.stream().map(ArchivedEntry::from).toList();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (OutputStream out = new GZIPOutputStream(bytes)) {
+            objectMapper.writeValue(out, compact);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot encode archived time entries", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Reconstruct the original entries of an archive row.
+     *
+     * @param payload gzip-compressed JSON payload
+     * @param userId  User ID stored on the archive row
+     * @param taskId  Task ID stored on the archive row
+     * @return Detached TimeEntry entities equal to the ones that were archived
+     */
+    public List<TimeEntry> decode(byte[] payload, Long userId, Long taskId) {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(payload))) {
+            List<ArchivedEntry> compact = objectMapper.readValue(in, ENTRY_LIST);
+            return compact.stream().map(e -> e.toEntry(userId, taskId)).toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot decode archived time entries", e);
+        }
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record ArchivedEntry(
+            @JsonProperty("i") Long id,
+            @JsonProperty("p") Long projectId,
+            @JsonProperty("sp") Long subprojectId,
+            @JsonProperty("d") LocalDate date,
+            @JsonProperty("h") BigDecimal totalHours,
+            @JsonProperty("q") BigDecimal quantity,
+            @JsonProperty("ds") String description,
+            @JsonProperty("s") TimeEntry.Status status,
+            @JsonProperty("ab") Long approvedBy,
+            @JsonProperty("aa") LocalDateTime approvedAt,
+            @JsonProperty("ca") LocalDateTime createdAt,
+            @JsonProperty("ua") LocalDateTime updatedAt,
+            @JsonProperty("v") Long version) {
+
+        static ArchivedEntry from(TimeEntry e) {
+            return new ArchivedEntry(e.getId(), e.getProjectId(), e.getSubprojectId(), e.getDate(),
+                    e.getTotalHours(), e.getQuantity(), e.getDescription(), e.getStatus(),
+                    e.getApprovedBy(), e.getApprovedAt(), e.getCreatedAt(), e.getUpdatedAt(), e.getVersion());
+        }
+
+        TimeEntry toEntry(Long userId, Long taskId) {
+            return TimeEntry.builder()
+                    .id(id)
+                    .userId(userId)
+                    .taskId(taskId)
+                    .projectId(projectId)
+                    .subprojectId(subprojectId)
+                    .date(date)
+                    .totalHours(totalHours)
+                    .quantity(quantity)
+                    .description(description)
+                    .status(status)
+                    .approvedBy(approvedBy)
+                    .approvedAt(approvedAt)
+                    .createdAt(createdAt)
+                    .updatedAt(updatedAt)
+                    .version(version != null ? version : 0L)
+                    .build();
+        }
+    }
+}
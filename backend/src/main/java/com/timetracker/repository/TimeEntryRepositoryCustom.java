@@ -0,0 +1,124 @@
+package com.timetracker.repository;
+
+import com.timetracker.dto.CalendarDayDto;
+import com.timetracker.dto.FieldSet;
+import com.timetracker.dto.TimeEntryDto;
+import com.timetracker.dto.TimeEntrySearchResultDto;
+import com.timetracker.entity.TimeEntry;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Time entry read queries that span both the hot time_entries table and the cold
+ * time_entries_archive table. Callers of {@link TimeEntryRepository} get archived entries
+ * reconstructed transparently, as if they had never left the hot table.
+ * Also single-statement conditional updates of hot entries, guarded by the version column.
+ */
+public interface TimeEntryRepositoryCustom {
+
+    List<TimeEntry> findByUserIdAndDateBetween(Long userId, LocalDate from, LocalDate to);
+
+    List<TimeEntry> findByUserId(Long userId);
+
+    /**
+     * A user's entries, optionally in a date range, reading only the selected columns (sparse
+     * fieldsets), ordered by date and ID. Archived entries are decoded in full and merged in.
+     *
+     * @param from   Optional first date
+     * @param to     Optional last date
+     * @param fields Selected fields of {@link TimeEntryDto#FIELDS}
+     */
+    List<TimeEntryDto> findByUserIdAndDateBetween(Long userId, LocalDate from, LocalDate to,
+                                                  FieldSet.Selection<TimeEntryDto> fields);
+
+    List<TimeEntry> findByProjectIdAndDateBetween(Long projectId, LocalDate from, LocalDate to);
+
+    /**
+     * Pass every entry dated on or after a date, hot and archived, to an action, in no particular
+     * order. Only the ID, user, project, task, date, hours and status are read.
+     *
+     * @param userId Optional user filter
+     */
+    void forEachSince(LocalDate from, Long userId, Consumer<TimeEntry> action);
+
+    List<TimeEntry> findByUserIdAndYearAndMonth(Long userId, int year, int month);
+
+    List<TimeEntry> findByProjectIdAndYearAndMonth(Long projectId, int year, int month);
+
+    /**
+     * Entry count, approved count and hour sum of a user's entries in a date range,
+     * answered from aggregates without loading entries where possible.
+     */
+    TimeEntryTotals sumByUserIdAndDateBetween(Long userId, LocalDate from, LocalDate to);
+
+    /**
+     * One page of a user's entries in a date range, ordered by date and ID, starting after
+     * the given (date, id) position (keyset pagination).
+     *
+     * @param afterDate Date of the last entry of the previous page, or null for the first page
+     * @param afterId   ID of the last entry of the previous page, or null for the first page
+     * @param limit     Maximum number of entries
+     */
+    List<TimeEntry> findPageByUserIdAndDateBetween(Long userId, LocalDate from, LocalDate to,
+                                                   LocalDate afterDate, Long afterId, int limit);
+
+    /**
+     * Per-day totals and status counts of a user's entries in a date range, ordered by date.
+     */
+    List<CalendarDayDto> findCalendarDays(Long userId, LocalDate from, LocalDate to);
+
+    /**
+     * Set the non-null amount and description fields of an entry in one UPDATE ... RETURNING
+     * statement, incrementing its version. Only the given columns are written.
+     *
+     * @param taskId          Task the caller validated the amounts against; the row must still have it
+     * @param expectedVersion Version the caller read, or null to skip the optimistic lock check
+     * @return Updated entry, or empty if no row matched the ID, task and version
+     */
+    Optional<TimeEntry> updateAmounts(Long id, Long taskId, Long expectedVersion,
+                                      BigDecimal totalHours, BigDecimal quantity, String description);
+
+    /**
+     * Set the status of an entry in one UPDATE ... RETURNING statement, incrementing its version.
+     * Approver and approval time are written only when given.
+     *
+     * @param expectedVersion Version the caller read, or null to skip the optimistic lock check
+     * @return Updated entry, or empty if no row matched the ID and version
+     */
+    Optional<TimeEntry> updateStatus(Long id, Long expectedVersion, TimeEntry.Status status,
+                                     Long approvedBy, LocalDateTime approvedAt);
+
+    /**
+     * One page of hot entries whose description matches a text search query, ordered by rank
+     * and ID (both descending), starting after the given (rank, id) position (keyset pagination).
+     * The query is parsed with each language's configuration and matches entries indexed with any
+     * of them. Only the newest matches (by date) are ranked, so a common word costs no more than
+     * a rare one. With a project or user filter, words that are not rare are checked entry by entry
+     * in the filter's newest entries (read along its date index), since the full-text index would
+     * read every entry they match in any project; older entries are then not searched. The page
+     * tells whether either limit cut off older matches.
+     * Archived entries are not searched (see {@link #hasArchivedEntries}).
+     *
+     * @param tsquery    Query in to_tsquery syntax
+     * @param projectId  Optional project filter
+     * @param userId     Optional author filter
+     * @param from       Optional first date
+     * @param to         Optional last date
+     * @param afterRank  Rank of the last hit of the previous page, or null for the first page
+     * @param afterId    ID of the last hit of the previous page, or null for the first page
+     * @param limits     Candidate and scan limits
+     * @param limit      Maximum number of hits
+     */
+    TimeEntrySearchPage search(String tsquery, Long projectId, Long userId, LocalDate from, LocalDate to,
+                               Float afterRank, Long afterId, TimeEntrySearchLimits limits, int limit);
+
+    /**
+     * Whether time_entries_archive holds entries of the given project and/or user in the months
+     * the date range touches (any month if a bound is null).
+     */
+    boolean hasArchivedEntries(Long projectId, Long userId, LocalDate from, LocalDate to);
+}
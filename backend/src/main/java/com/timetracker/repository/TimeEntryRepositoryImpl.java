@@ -0,0 +1,538 @@
+package com.timetracker.repository;
+
+import com.timetracker.dto.CalendarDayDto;
+import com.timetracker.dto.FieldSet;
+import com.timetracker.dto.TimeEntryDto;
+import com.timetracker.dto.TimeEntrySearchResultDto;
+import com.timetracker.entity.TimeEntry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.math.BigDecimal;
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+/**
+ * JDBC implementation of {@link TimeEntryRepositoryCustom}.
+ * Hot rows are selected with plain date-range predicates so the (user_id, date) index is used;
+ * archive rows are located by their month key and decompressed in memory.
+ * Results are ordered by date and ID.
+ * Updates are single UPDATE ... RETURNING statements that write only the changed columns,
+ * so no prior SELECT (and no transaction around it) is needed.
+ */
+@RequiredArgsConstructor
+public class TimeEntryRepositoryImpl implements TimeEntryRepositoryCustom {
+
+    private static final Comparator<TimeEntry> BY_DATE_AND_ID =
+            Comparator.comparing(TimeEntry::getDate).thenComparing(TimeEntry::getId);
+    private static final String SEARCH_COLUMNS = "t.id, t.user_id, t.project_id, t.task_id, t.date, t.total_hours,"
+            + " t.quantity, t.status, t.description, t.search_config, t.search_vector";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TimeEntryArchiveCodec archiveCodec;
+
+    @Override
+    public List<TimeEntry> findByUserIdAndDateBetween(Long userId, LocalDate from, LocalDate to) {
+        List<TimeEntry> hot = jdbcTemplate.query(
+                "select " + TimeEntryRowMapper.COLUMNS + " from time_entries"
+                        + " where user_id = ? and date >= ? and date <= ? order by date, id",
+                TimeEntryRowMapper.INSTANCE, userId, from, to);
+        List<TimeEntry> archived = readArchive(
+                "select user_id, task_id, payload from time_entries_archive"
+                        + " where user_id = ? and period >= ? and period <= ?",
+                userId, YearMonth.from(from).atDay(1), YearMonth.from(to).atDay(1));
+        return merge(hot, archived, from, to, null);
+    }
+
+    @Override
+    public List<TimeEntry> findByUserId(Long userId) {
+        List<TimeEntry> hot = jdbcTemplate.query(
+                "select " + TimeEntryRowMapper.COLUMNS + " from time_entries where user_id = ? order by date, id",
+                TimeEntryRowMapper.INSTANCE, userId);
+        List<TimeEntry> archived = readArchive(
+                "select user_id, task_id, payload from time_entries_archive where user_id = ?", userId);
+        return merge(hot, archived, null, null, null);
+    }
+
+    @Override
+    public List<TimeEntryDto> findByUserIdAndDateBetween(Long userId, LocalDate from, LocalDate to,
+                                                         FieldSet.Selection<TimeEntryDto> fields) {
+        StringBuilder where = new StringBuilder("user_id = ?");
+        List<Object> args = new ArrayList<>(List.of(userId));
+        if (from != null) {
+            where.append(" and date >= ?");
+            args.add(from);
+        }
+        if (to != null) {
+            where.append(" and date <= ?");
+            args.add(to);
+        }
+        List<TimeEntryDto> hot = jdbcTemplate.query(
+                "select " + fields.columns() + " from time_entries where " + where + " order by date, id",
+                fields.rowMapper(), args.toArray());
+
+        List<TimeEntry> archived = from != null && to != null
+                ? readArchive("select user_id, task_id, payload from time_entries_archive"
+                        + " where user_id = ? and period >= ? and period <= ?",
+                userId, YearMonth.from(from).atDay(1), YearMonth.from(to).atDay(1))
+                : readArchive("select user_id, task_id, payload from time_entries_archive where user_id = ?", userId);
+        List<TimeEntry> merged = merge(List.of(), archived, from, to, null);
+        if (merged.isEmpty()) {
+            return hot;
+        }
+        List<TimeEntryDto> result = new ArrayList<>(hot.size() + merged.size());
+        result.addAll(hot);
+        merged.forEach(e -> result.add(TimeEntryDto.from(e)));
+        result.sort(Comparator.comparing(TimeEntryDto::getDate).thenComparing(TimeEntryDto::getId));
+        return result;
+    }
+
+    @Override
+    public List<TimeEntry> findByProjectIdAndDateBetween(Long projectId, LocalDate from, LocalDate to) {
+        List<TimeEntry> hot = jdbcTemplate.query(
+                "select " + TimeEntryRowMapper.COLUMNS + " from time_entries"
+                        + " where project_id = ? and date >= ? and date <= ? order by date, id",
+                TimeEntryRowMapper.INSTANCE, projectId, from, to);
+        List<TimeEntry> archived = readArchive(
+                "select user_id, task_id, payload from time_entries_archive"
+                        + " where project_id = ? and period >= ? and period <= ?",
+                projectId, YearMonth.from(from).atDay(1), YearMonth.from(to).atDay(1));
+        return merge(hot, archived, from, to, projectId);
+    }
+
+    @Override
+    public void forEachSince(LocalDate from, Long userId, Consumer<TimeEntry> action) {
+        String userFilter = userId != null ? " and user_id = ?" : "";
+        Object[] args = userId != null ? new Object[] { from, userId } : new Object[] { from };
+        jdbcTemplate.query("select id, user_id, project_id, task_id, date, total_hours, status from time_entries"
+                + " where date >= ?" + userFilter, rs -> {
+            TimeEntry entry = new TimeEntry();
+            entry.setId(rs.getLong("id"));
+            entry.setUserId(rs.getLong("user_id"));
+            entry.setProjectId(rs.getObject("project_id", Long.class));
+            entry.setTaskId(rs.getObject("task_id", Long.class));
+            entry.setDate(rs.getObject("date", LocalDate.class));
+            entry.setTotalHours(rs.getBigDecimal("total_hours"));
+            entry.setStatus(TimeEntry.Status.valueOf(rs.getString("status")));
+            action.accept(entry);
+        }, args);
+        Object[] archiveArgs = userId != null
+                ? new Object[] { YearMonth.from(from).atDay(1), userId }
+                : new Object[] { YearMonth.from(from).atDay(1) };
+        for (TimeEntry entry : readArchive("select user_id, task_id, payload from time_entries_archive"
+                + " where period >= ?" + userFilter, archiveArgs)) {
+            if (!entry.getDate().isBefore(from)) {
+                action.accept(entry);
+            }
+        }
+    }
+
+    @Override
+    public List<TimeEntry> findByUserIdAndYearAndMonth(Long userId, int year, int month) {
+        YearMonth ym = YearMonth.of(year, month);
+        return findByUserIdAndDateBetween(userId, ym.atDay(1), ym.atEndOfMonth());
+    }
+
+    @Override
+    public List<TimeEntry> findByProjectIdAndYearAndMonth(Long projectId, int year, int month) {
+        YearMonth ym = YearMonth.of(year, month);
+        return findByProjectIdAndDateBetween(projectId, ym.atDay(1), ym.atEndOfMonth());
+    }
+
+    @Override
+    public TimeEntryTotals sumByUserIdAndDateBetween(Long userId, LocalDate from, LocalDate to) {
+        TimeEntryTotals hot = jdbcTemplate.queryForObject(
+                "select count(*) as entry_count, count(*) filter (where status = 'ZATWIERDZONY') as approved_count,"
+                        + " sum(total_hours) as total_hours from time_entries"
+                        + " where user_id = ? and date >= ? and date <= ?",
+                (rs, i) -> new TimeEntryTotals(rs.getLong("entry_count"), rs.getLong("approved_count"),
+                        rs.getBigDecimal("total_hours")),
+                userId, from, to);
+
+        LocalDate firstPeriod = YearMonth.from(from).atDay(1);
+        LocalDate lastPeriod = YearMonth.from(to).atDay(1);
+        if (from.equals(firstPeriod) && to.equals(YearMonth.from(to).atEndOfMonth())) {
+            // Whole months: archive rows carry their own totals, no payload decoding needed
+            TimeEntryTotals archived = jdbcTemplate.queryForObject(
+                    "select coalesce(sum(entry_count), 0) as entry_count, sum(total_hours) as total_hours"
+                            + " from time_entries_archive where user_id = ? and period >= ? and period <= ?",
+                    (rs, i) -> new TimeEntryTotals(rs.getLong("entry_count"), rs.getLong("entry_count"),
+                            rs.getBigDecimal("total_hours")),
+                    userId, firstPeriod, lastPeriod);
+            return combine(hot, archived);
+        }
+
+        List<TimeEntry> archived = merge(List.of(), readArchive(
+                "select user_id, task_id, payload from time_entries_archive"
+                        + " where user_id = ? and period >= ? and period <= ?",
+                userId, firstPeriod, lastPeriod), from, to, null);
+        BigDecimal hours = archived.stream().map(TimeEntry::getTotalHours).reduce(null, TimeEntryRepositoryImpl::add);
+        return combine(hot, new TimeEntryTotals(archived.size(), archived.size(), hours));
+    }
+
+    @Override
+    public List<TimeEntry> findPageByUserIdAndDateBetween(Long userId, LocalDate from, LocalDate to,
+                                                          LocalDate afterDate, Long afterId, int limit) {
+        List<TimeEntry> hot;
+        LocalDate archiveFrom = from;
+        if (afterDate == null) {
+            hot = jdbcTemplate.query(
+                    "select " + TimeEntryRowMapper.COLUMNS + " from time_entries"
+                            + " where user_id = ? and date >= ? and date <= ? order by date, id limit ?",
+                    TimeEntryRowMapper.INSTANCE, userId, from, to, limit);
+        } else {
+            hot = jdbcTemplate.query(
+                    "select " + TimeEntryRowMapper.COLUMNS + " from time_entries"
+                            + " where user_id = ? and date >= ? and date <= ? and (date, id) > (?, ?)"
+                            + " order by date, id limit ?",
+                    TimeEntryRowMapper.INSTANCE, userId, afterDate.isAfter(from) ? afterDate : from, to,
+                    afterDate, afterId, limit);
+            archiveFrom = afterDate.isAfter(from) ? afterDate : from;
+        }
+
+        List<TimeEntry> archived = readArchive(
+                "select user_id, task_id, payload from time_entries_archive"
+                        + " where user_id = ? and period >= ? and period <= ?",
+                userId, YearMonth.from(archiveFrom).atDay(1), YearMonth.from(to).atDay(1));
+        if (archived.isEmpty()) {
+            return hot;
+        }
+        if (afterDate != null) {
+            archived.removeIf(e -> e.getDate().isBefore(afterDate)
+                    || (e.getDate().equals(afterDate) && e.getId() <= afterId));
+        }
+        List<TimeEntry> page = merge(hot, archived, from, to, null);
+        return page.size() > limit ? new ArrayList<>(page.subList(0, limit)) : page;
+    }
+
+    private static TimeEntryTotals combine(TimeEntryTotals a, TimeEntryTotals b) {
+        return new TimeEntryTotals(a.entryCount() + b.entryCount(), a.approvedCount() + b.approvedCount(),
+                add(a.totalHours(), b.totalHours()));
+    }
+
+    @Override
+    public List<CalendarDayDto> findCalendarDays(Long userId, LocalDate from, LocalDate to) {
+        TreeMap<LocalDate, CalendarDayDto> days = new TreeMap<>();
+        jdbcTemplate.query(
+                "select e.date, count(*) as entry_count, sum(e.total_hours) as total_hours,"
+                        + " sum(e.quantity) as total_quantity,"
+                        + " count(*) filter (where e.status = 'ZGLOSZONY') as submitted,"
+                        + " count(*) filter (where e.status = 'ZATWIERDZONY') as approved,"
+                        + " count(*) filter (where e.status = 'ODRZUCONY') as rejected,"
+                        + " bool_or(coalesce(t.billing_type, 'HOURLY') = 'HOURLY') as has_hourly,"
+                        + " max(t.unit_name) as unit_name"
+                        + " from time_entries e left join tasks t on t.id = e.task_id"
+                        + " where e.user_id = ? and e.date >= ? and e.date <= ?"
+                        + " group by e.date order by e.date",
+                rs -> {
+                    LocalDate date = rs.getDate("date").toLocalDate();
+                    days.put(date, CalendarDayDto.builder()
+                            .date(date)
+                            .entryCount(rs.getInt("entry_count"))
+                            .totalHours(rs.getBigDecimal("total_hours"))
+                            .totalQuantity(rs.getBigDecimal("total_quantity"))
+                            .submitted(rs.getInt("submitted"))
+                            .approved(rs.getInt("approved"))
+                            .rejected(rs.getInt("rejected"))
+                            .billingType(rs.getBoolean("has_hourly") ? "HOURLY" : "UNIT")
+                            .unitName(rs.getString("unit_name"))
+                            .build());
+                },
+                userId, from, to);
+
+        List<TimeEntry> archived = readArchive(
+                "select user_id, task_id, payload from time_entries_archive"
+                        + " where user_id = ? and period >= ? and period <= ?",
+                userId, YearMonth.from(from).atDay(1), YearMonth.from(to).atDay(1));
+        if (!archived.isEmpty()) {
+            addArchivedDays(days, archived, from, to);
+        }
+        return new ArrayList<>(days.values());
+    }
+
+    /**
+     * Add archived (always approved) entries to the per-day aggregates.
+     * Archive rows hold whole months, so entries outside the range are skipped.
+     */
+    private void addArchivedDays(Map<LocalDate, CalendarDayDto> days, List<TimeEntry> archived,
+                                 LocalDate from, LocalDate to) {
+        Long[] taskIds = archived.stream().map(TimeEntry::getTaskId).distinct().toArray(Long[]::new);
+        Map<Long, String[]> tasks = new HashMap<>();
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement("select id, billing_type, unit_name from tasks where id = any(?)");
+            Array array = con.createArrayOf("bigint", taskIds);
+            ps.setArray(1, array);
+            return ps;
+        }, rs -> {
+            tasks.put(rs.getLong("id"), new String[] { rs.getString("billing_type"), rs.getString("unit_name") });
+        });
+
+        for (TimeEntry e : archived) {
+            if (e.getDate().isBefore(from) || e.getDate().isAfter(to)) continue;
+            String[] task = tasks.getOrDefault(e.getTaskId(), new String[] { null, null });
+            boolean hourly = task[0] == null || "HOURLY".equals(task[0]);
+            CalendarDayDto day = days.computeIfAbsent(e.getDate(), d -> CalendarDayDto.builder()
+                    .date(d).entryCount(0).submitted(0).approved(0).rejected(0).billingType("UNIT").build());
+            day.setEntryCount(day.getEntryCount() + 1);
+            day.setApproved(day.getApproved() + 1);
+            day.setTotalHours(add(day.getTotalHours(), e.getTotalHours()));
+            day.setTotalQuantity(add(day.getTotalQuantity(), e.getQuantity()));
+            if (hourly) {
+                day.setBillingType("HOURLY");
+            }
+            if (task[1] != null && (day.getUnitName() == null || task[1].compareTo(day.getUnitName()) > 0)) {
+                day.setUnitName(task[1]);
+            }
+        }
+    }
+
+    private static BigDecimal add(BigDecimal a, BigDecimal b) {
+        return a == null ? b : b == null ? a : a.add(b);
+    }
+
+    @Override
+    public TimeEntrySearchPage search(String tsquery, Long projectId, Long userId, LocalDate from, LocalDate to,
+                                      Float afterRank, Long afterId, TimeEntrySearchLimits limits, int limit) {
+        StringBuilder filter = new StringBuilder("true");
+        List<Object> filterArgs = new ArrayList<>();
+        if (projectId != null) {
+            filter.append(" and t.project_id = ?");
+            filterArgs.add(projectId);
+        }
+        if (userId != null) {
+            filter.append(" and t.user_id = ?");
+            filterArgs.add(userId);
+        }
+        if (from != null) {
+            filter.append(" and t.date >= ?");
+            filterArgs.add(from);
+        }
+        if (to != null) {
+            filter.append(" and t.date <= ?");
+            filterArgs.add(to);
+        }
+        int candidates = limits.candidates();
+        // The plan depends on how common the words are (GIN index for rare ones, newest-first scan
+        // for common ones), so a generic plan cached for the prepared statement would be wrong
+        jdbcTemplate.execute("set local plan_cache_mode = force_custom_plan");
+
+        if ((projectId != null || userId != null) && jdbcTemplate.queryForObject(
+                "select binderua_search_estimate(?)", Long.class, tsquery) > limits.indexMatches()) {
+            // The GIN index would read every entry matching each word in any project. Instead the
+            // newest entries of the filter are read along its date index and checked one by one;
+            // ts_match_vq keeps the planner from estimating the check and switching back to the index.
+            // Older entries of the filter are not searched, like matches beyond the candidate limit.
+            String window = "select w.* from (select " + SEARCH_COLUMNS + " from time_entries t where " + filter
+                    + " order by t.date desc, t.id desc limit ?) w"
+                    + " where ts_match_vq(w.search_vector, binderua_search_query(?))"
+                    + " order by w.date desc, w.id desc limit ?";
+            List<Object> windowArgs = new ArrayList<>(filterArgs);
+            windowArgs.add(limits.filterScanRows());
+            windowArgs.add(tsquery);
+            windowArgs.add(candidates);
+            SearchCandidates ranked = rankCandidates(window, windowArgs, tsquery, afterRank, afterId, limit);
+            return new TimeEntrySearchPage(ranked.hits(), ranked.count() >= candidates
+                    || exceedsRows(filter, filterArgs, limits.filterScanRows()));
+        }
+
+        String newest = "select " + SEARCH_COLUMNS + " from time_entries t"
+                + " where t.search_vector @@ binderua_search_query(?) and " + filter
+                + " order by t.date desc, t.id desc limit ?";
+        List<Object> newestArgs = new ArrayList<>(List.of(tsquery));
+        newestArgs.addAll(filterArgs);
+        newestArgs.add(candidates);
+        SearchCandidates ranked = rankCandidates(newest, newestArgs, tsquery, afterRank, afterId, limit);
+        return new TimeEntrySearchPage(ranked.hits(), ranked.count() >= candidates);
+    }
+
+    /**
+     * Ranks the candidates (the newest matches, selected by the given query) and returns one
+     * page of them, with the number of candidates.
+     */
+    private SearchCandidates rankCandidates(String candidatesSql, List<Object> candidateArgs, String tsquery,
+                                            Float afterRank, Long afterId, int limit) {
+        List<Object> args = new ArrayList<>(List.of(tsquery, tsquery));
+        args.addAll(candidateArgs);
+        String after = "";
+        if (afterRank != null && afterId != null) {
+            after = " where (m.rank, m.id) < (?, ?)";
+            args.add(afterRank);
+            args.add(afterId);
+        }
+        args.add(limit);
+        long[] candidateCount = { -1 };
+        // Ranks are computed for the newest matches; headlines, which re-parse the text, only for the page
+        List<TimeEntrySearchResultDto.Hit> hits = jdbcTemplate.query(
+                "select p.*, ts_headline(p.search_config, coalesce(p.description, ''),"
+                        + " binderua_search_query(?), 'StartSel=**, StopSel=**, MaxFragments=2, MinWords=5,"
+                        + " MaxWords=15') as headline"
+                        + " from (select m.* from (select c.*, ts_rank(c.search_vector, binderua_search_query(?)) as rank,"
+                        + " count(*) over () as candidate_count from (" + candidatesSql + ") c) m"
+                        + after + " order by m.rank desc, m.id desc limit ?) p"
+                        + " order by p.rank desc, p.id desc",
+                (rs, i) -> {
+                    candidateCount[0] = rs.getLong("candidate_count");
+                    return TimeEntrySearchResultDto.Hit.builder()
+                            .id(rs.getLong("id"))
+                            .userId(rs.getLong("user_id"))
+                            .projectId(rs.getObject("project_id", Long.class))
+                            .taskId(rs.getLong("task_id"))
+                            .date(rs.getObject("date", LocalDate.class))
+                            .totalHours(rs.getBigDecimal("total_hours"))
+                            .quantity(rs.getBigDecimal("quantity"))
+                            .status(rs.getString("status"))
+                            .description(rs.getString("description"))
+                            .headline(rs.getString("headline"))
+                            .rank(rs.getFloat("rank"))
+                            .build();
+                },
+                args.toArray());
+
+        if (candidateCount[0] < 0) {
+            // No row on this page carried the candidate count
+            candidateCount[0] = afterRank != null
+                    ? jdbcTemplate.queryForObject("select count(*) from (" + candidatesSql + ") c", Long.class,
+                            candidateArgs.toArray())
+                    : 0;
+        }
+        return new SearchCandidates(hits, candidateCount[0]);
+    }
+
+    /**
+     * Whether more than the given number of hot entries pass the filter (index-only count).
+     */
+    private boolean exceedsRows(CharSequence filter, List<Object> filterArgs, int rows) {
+        List<Object> args = new ArrayList<>(filterArgs);
+        args.add(rows + 1);
+        return jdbcTemplate.queryForObject(
+                "select count(*) from (select 1 from time_entries t where " + filter + " limit ?) f", Long.class,
+                args.toArray()) > rows;
+    }
+
+    private record SearchCandidates(List<TimeEntrySearchResultDto.Hit> hits, long count) {
+    }
+
+    @Override
+    public boolean hasArchivedEntries(Long projectId, Long userId, LocalDate from, LocalDate to) {
+        StringBuilder where = new StringBuilder("true");
+        List<Object> args = new ArrayList<>();
+        if (projectId != null) {
+            where.append(" and project_id = ?");
+            args.add(projectId);
+        }
+        if (userId != null) {
+            where.append(" and user_id = ?");
+            args.add(userId);
+        }
+        if (from != null) {
+            where.append(" and period >= ?");
+            args.add(YearMonth.from(from).atDay(1));
+        }
+        if (to != null) {
+            where.append(" and period <= ?");
+            args.add(YearMonth.from(to).atDay(1));
+        }
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "select exists (select 1 from time_entries_archive where " + where + ")", Boolean.class,
+                args.toArray()));
+    }
+
+    @Override
+    public Optional<TimeEntry> updateAmounts(Long id, Long taskId, Long expectedVersion,
+                                             BigDecimal totalHours, BigDecimal quantity, String description) {
+        StringBuilder set = new StringBuilder();
+        List<Object> args = new ArrayList<>();
+        if (totalHours != null) {
+            set.append("total_hours = ?, ");
+            args.add(totalHours);
+        }
+        if (quantity != null) {
+            set.append("quantity = ?, ");
+            args.add(quantity);
+        }
+        if (description != null) {
+            set.append("description = ?, ");
+            args.add(description);
+        }
+        return update(set, args, id, taskId, expectedVersion);
+    }
+
+    @Override
+    public Optional<TimeEntry> updateStatus(Long id, Long expectedVersion, TimeEntry.Status status,
+                                            Long approvedBy, LocalDateTime approvedAt) {
+        StringBuilder set = new StringBuilder("status = ?, ");
+        List<Object> args = new ArrayList<>();
+        args.add(status.name());
+        if (approvedBy != null) {
+            set.append("approved_by = ?, ");
+            args.add(approvedBy);
+        }
+        if (approvedAt != null) {
+            set.append("approved_at = ?, ");
+            args.add(approvedAt);
+        }
+        return update(set, args, id, null, expectedVersion);
+    }
+
+    /**
+     * Run an UPDATE of the given SET list plus version and updated_at, matching the ID and,
+     * if given, the task and the expected version.
+     */
+    private Optional<TimeEntry> update(StringBuilder set, List<Object> args, Long id, Long taskId,
+                                       Long expectedVersion) {
+        StringBuilder sql = new StringBuilder("update time_entries set ").append(set)
+                .append("version = version + 1, updated_at = ? where id = ?");
+        args.add(LocalDateTime.now());
+        args.add(id);
+        if (taskId != null) {
+            sql.append(" and task_id = ?");
+            args.add(taskId);
+        }
+        if (expectedVersion != null) {
+            sql.append(" and version = ?");
+            args.add(expectedVersion);
+        }
+        sql.append(" returning ").append(TimeEntryRowMapper.COLUMNS);
+        return jdbcTemplate.query(sql.toString(), TimeEntryRowMapper.INSTANCE, args.toArray())
+                .stream().findFirst();
+    }
+
+    private List<TimeEntry> readArchive(String sql, Object... args) {
+        List<TimeEntry> entries = new ArrayList<>();
+        jdbcTemplate.query(sql, rs -> {
+            entries.addAll(archiveCodec.decode(rs.getBytes("payload"), rs.getLong("user_id"), rs.getLong("task_id")));
+        }, args);
+        return entries;
+    }
+
+    /**
+     * Combine hot and archived entries. Archive rows cover whole months, so archived entries
+     * are filtered to the requested date range (and project) before merging.
+     */
+    private static List<TimeEntry> merge(List<TimeEntry> hot, List<TimeEntry> archived,
+                                         LocalDate from, LocalDate to, Long projectId) {
+        if (archived.isEmpty()) {
+            return hot;
+        }
+        List<TimeEntry> result = new ArrayList<>(hot.size() + archived.size());
+        result.addAll(hot);
+        for (TimeEntry e : archived) {
+            if (from != null && e.getDate().isBefore(from)) continue;
+            if (to != null && e.getDate().isAfter(to)) continue;
+            if (projectId != null && !projectId.equals(e.getProjectId())) continue;
+            result.add(e);
+        }
+        result.sort(BY_DATE_AND_ID);
+        return result;
+    }
+}
@@ -0,0 +1,53 @@
+package com.timetracker.repository;
+
+import com.timetracker.entity.TimeEntry;
+import org.springframework.jdbc.core.RowMapper;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * Maps rows of the time_entries table to detached TimeEntry entities.
+ * Used by the JDBC-backed repository queries; select {@link #COLUMNS} to get every mapped column.
+ */
+public class TimeEntryRowMapper implements RowMapper<TimeEntry> {
+
+    public static final TimeEntryRowMapper INSTANCE = new TimeEntryRowMapper();
+
+    public static final String COLUMNS = "id, user_id, task_id, project_id, subproject_id, date, total_hours, "
+            + "quantity, description, status, approved_by, approved_at, created_at, updated_at, version";
+
+    @Override
+    public TimeEntry mapRow(ResultSet rs, int rowNum) throws SQLException {
+        Date date = rs.getDate("date");
+        return TimeEntry.builder()
+                .id(rs.getLong("id"))
+                .userId(rs.getLong("user_id"))
+                .taskId(rs.getLong("task_id"))
+                .projectId(getLong(rs, "project_id"))
+                .subprojectId(getLong(rs, "subproject_id"))
+                .date(date != null ? date.toLocalDate() : null)
+                .totalHours(rs.getBigDecimal("total_hours"))
+                .quantity(rs.getBigDecimal("quantity"))
+                .description(rs.getString("description"))
+                .status(TimeEntry.Status.valueOf(rs.getString("status")))
+                .approvedBy(getLong(rs, "approved_by"))
+                .approvedAt(getDateTime(rs, "approved_at"))
+                .createdAt(getDateTime(rs, "created_at"))
+                .updatedAt(getDateTime(rs, "updated_at"))
+                .version(rs.getLong("version"))
+                .build();
+    }
+
+    private static Long getLong(ResultSet rs, String column) throws SQLException {
+        long value = rs.getLong(column);
+        return rs.wasNull() ? null : value;
+    }
+
+    private static LocalDateTime getDateTime(ResultSet rs, String column) throws SQLException {
+        Timestamp ts = rs.getTimestamp(column);
+        return ts != null ? ts.toLocalDateTime() : null;
+    }
+}
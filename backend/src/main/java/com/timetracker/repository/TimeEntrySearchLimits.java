@@ -0,0 +1,13 @@
+package com.timetracker.repository;
+
+/**
+ * How much work one search may do.
+ *
+ * @param candidates     Maximum number of newest matches ranked
+ * @param filterScanRows Newest entries of a project or user filter checked one by one when the
+ *                       full-text index is not used; older entries are not searched
+ * @param indexMatches   Estimated total matches of the search terms (summed over the terms) up to
+ *                       which a filtered search goes straight to the full-text index
+ */
+public record TimeEntrySearchLimits(int candidates, int filterScanRows, long indexMatches) {
+}
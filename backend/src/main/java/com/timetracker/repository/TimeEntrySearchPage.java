@@ -0,0 +1,13 @@
+package com.timetracker.repository;
+
+import com.timetracker.dto.TimeEntrySearchResultDto;
+import java.util.List;
+
+/**
+ * One page of ranked search hits.
+ *
+ * @param hits      Hits of the page, best first
+ * @param truncated Whether the candidate limit was reached, so older matches were not ranked
+ */
+public record TimeEntrySearchPage(List<TimeEntrySearchResultDto.Hit> hits, boolean truncated) {
+}
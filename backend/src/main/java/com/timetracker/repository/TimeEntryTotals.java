@@ -0,0 +1,13 @@
+package com.timetracker.repository;
+
+import java.math.BigDecimal;
+
+/**
+ * Aggregate of a user's entries in a period, including archived entries.
+ *
+ * @param entryCount    Number of entries
+ * @param approvedCount Number of entries with status ZATWIERDZONY
+ * @param totalHours    Sum of entry hours, null if no entry has hours
+ */
+public record TimeEntryTotals(long entryCount, long approvedCount, BigDecimal totalHours) {
+}
@@ -0,0 +1,21 @@
+package com.timetracker.repository;
+
+import com.timetracker.dto.FieldSet;
+import com.timetracker.dto.UserDto;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * User listing reading only requested columns (sparse fieldsets).
+ */
+public interface UserRepositoryCustom {
+
+    /**
+     * Page of users with only the selected columns read.
+     *
+     * @param fields   Selected fields of {@link UserDto#FIELDS}
+     * @param pageable Page number and size; sort by field names of the field set (others are
+     *                 ignored), then by ID
+     */
+    Page<UserDto> findPage(FieldSet.Selection<UserDto> fields, Pageable pageable);
+}
@@ -0,0 +1,54 @@
+package com.timetracker.repository;
+
+import com.timetracker.dto.FieldSet;
+import com.timetracker.dto.UserDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import java.util.List;
+
+/**
+ * JDBC implementation of {@link UserRepositoryCustom}. The total row count comes from a window
+ * function, so a page costs a single statement.
+ */
+@RequiredArgsConstructor
+public class UserRepositoryImpl implements UserRepositoryCustom {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Page<UserDto> findPage(FieldSet.Selection<UserDto> fields, Pageable pageable) {
+        StringBuilder orderBy = new StringBuilder(" order by ");
+        for (Sort.Order order : pageable.getSort()) {
+            // Only field set columns reach the SQL; the names are constants, not request text
+            String column = UserDto.FIELDS.column(order.getProperty());
+            if (column != null) {
+                orderBy.append(column).append(order.isAscending() ? " asc, " : " desc, ");
+            }
+        }
+        orderBy.append("id");
+
+        long[] total = { -1 };
+        RowMapper<UserDto> mapper = fields.rowMapper();
+        List<UserDto> content = jdbcTemplate.query(
+                "select " + fields.columns() + ", count(*) over () as total_count from users"
+                        + orderBy + " limit ? offset ?",
+                (rs, i) -> {
+                    total[0] = rs.getLong("total_count");
+                    return mapper.mapRow(rs, i);
+                },
+                pageable.getPageSize(), pageable.getOffset());
+
+        if (total[0] < 0) {
+            // Page past the end: no row carried the window count
+            total[0] = content.isEmpty() && pageable.getOffset() > 0
+                    ? jdbcTemplate.queryForObject("select count(*) from users", Long.class)
+                    : 0;
+        }
+        return new PageImpl<>(content, pageable, total[0]);
+    }
+}
@@ -0,0 +1,572 @@
+package com.timetracker.service;
+
+import com.timetracker.dto.AnalyticsResultDto;
+import com.timetracker.dto.TimeEntryDto;
+import com.timetracker.entity.TimeEntry;
+import com.timetracker.entity.User;
+import com.timetracker.event.TimeEntryChangedEvent;
+import com.timetracker.event.UserChangedEvent;
+import com.timetracker.exception.InvalidRequestException;
+import com.timetracker.repository.TimeEntryRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * In-memory columnar copy of the current and previous year's time entries for ad-hoc
+ * group-by queries (hours, cost and entry count by any combination of user, project, task,
+ * month and status), answered without touching the database.
+ *
+ * Each entry is one row across primitive arrays; users, projects and tasks are dictionary-encoded
+ * to dense int codes, months are counted from January of the previous year and hours are fixed
+ * point (hundredths). Cost is hours times the user's hourly rate, computed exactly as in
+ * ReportService. A query splits the rows into chunks scanned in parallel on the analytics pool;
+ * each chunk groups into a primitive hash table keyed by the grouped codes packed into one long,
+ * and the chunk tables are merged.
+ *
+ * Loaded at startup and rebuilt nightly (which also moves the window at the turn of the year and
+ * drops deleted rows). In between, committed TimeEntryService writes are applied in place and a
+ * UserChangedEvent (rate change, deletion, import) reloads the user's rows and rate.
+ */
+@Slf4j
+@Component
+public class AnalyticsCube {
+
+    private static final byte DELETED = -1;
+    private static final TimeEntry.Status[] STATUSES = TimeEntry.Status.values();
+    private static final AnalyticsQuery.Dimension[] DIMENSIONS = AnalyticsQuery.Dimension.values();
+    private static final Comparator<AnalyticsResultDto.Row> ROW_ORDER =
+            Comparator.comparing(AnalyticsResultDto.Row::getUserId, Comparator.nullsFirst(Comparator.naturalOrder()))
+                    .thenComparing(AnalyticsResultDto.Row::getProjectId, Comparator.nullsFirst(Comparator.naturalOrder()))
+                    .thenComparing(AnalyticsResultDto.Row::getTaskId, Comparator.nullsFirst(Comparator.naturalOrder()))
+                    .thenComparing(AnalyticsResultDto.Row::getMonth, Comparator.nullsFirst(Comparator.naturalOrder()))
+                    .thenComparing(AnalyticsResultDto.Row::getStatus, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    private final TimeEntryRepository timeEntryRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ForkJoinPool analyticsPool;
+
+    // Standard monthly working hours of the UoP hourly rate (default: 160)
+    @Value("${binderua.rates.monthly-hours:160}")
+    private int monthlyHours;
+
+    // Rows scanned by one parallel task (default: 65536)
+    @Value("${binderua.analytics.chunk-size:65536}")
+    private int chunkSize;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // Guarded by lock
+    private Columns columns = new Columns(firstMonth());
+    // Changes to apply again to the columns being loaded; non-null while a reload runs (guarded by lock)
+    private List<Consumer<Columns>> replay;
+
+    public AnalyticsCube(TimeEntryRepository timeEntryRepository, JdbcTemplate jdbcTemplate,
+                         ForkJoinPool analyticsPool, MeterRegistry registry) {
+        this.timeEntryRepository = timeEntryRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.analyticsPool = analyticsPool;
+        Gauge.builder("binderua.analytics.rows", this, AnalyticsCube::rows)
+                .description("Time entries in the analytics cube").register(registry);
+    }
+
+    /**
+     * Load the cube from the database. Queries keep using the previous columns meanwhile;
+     * writes committed during the load are applied to both.
+     */
+    @PostConstruct
+    public synchronized void reload() {
+        long started = System.nanoTime();
+        Columns loaded = new Columns(firstMonth());
+        write(() -> replay = new ArrayList<>());
+        try {
+            loadRates(loaded, null);
+            timeEntryRepository.forEachSince(loaded.first.atDay(1), null, loaded::upsert);
+        } catch (RuntimeException e) {
+            write(() -> replay = null);
+            throw e;
+        }
+        write(() -> {
+            replay.forEach(change -> change.accept(loaded));
+            replay = null;
+            columns = loaded;
+        });
+        log.info("Analytics cube loaded: {} entries since {} in {} ms", loaded.live(), loaded.first,
+                (System.nanoTime() - started) / 1_000_000);
+    }
+
+    @Scheduled(cron = "${binderua.analytics.reload-cron:0 0 3 * * *}")
+    public void reloadScheduled() {
+        reload();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTimeEntryChanged(TimeEntryChangedEvent event) {
+        TimeEntryDto entry = event.entry();
+        if (event.type() == TimeEntryChangedEvent.Type.DELETED) {
+            apply(c -> c.delete(entry.getId()));
+            return;
+        }
+        long hours = entry.getTotalHours() != null
+                ? FixedPointMoney.toFixed(entry.getTotalHours(), FixedPointMoney.HOURS_SCALE) : 0;
+        TimeEntry.Status status = TimeEntry.Status.valueOf(entry.getStatus());
+        apply(c -> c.upsert(entry.getId(), entry.getUserId(), entry.getProjectId(), entry.getTaskId(),
+                entry.getDate(), hours, status));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        Long userId = event.userId();
+        Columns user = new Columns(firstMonth());
+        loadRates(user, userId);
+        List<TimeEntry> entries = new ArrayList<>();
+        timeEntryRepository.forEachSince(user.first.atDay(1), userId, entries::add);
+        long rate = user.rate(user.users.find(userId));
+        apply(c -> {
+            c.deleteUser(userId);
+            c.setRate(userId, rate);
+            entries.forEach(c::upsert);
+        });
+    }
+
+    /**
+     * Group and sum the entries matching a query.
+     *
+     * @return Rows ordered by the grouped dimensions; months outside the cube are not covered
+     */
+    public AnalyticsResultDto query(AnalyticsQuery query) {
+        lock.readLock().lock();
+        try {
+            return columns.query(query, analyticsPool, chunkSize);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int rows() {
+        lock.readLock().lock();
+        try {
+            return columns.live();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void apply(Consumer<Columns> change) {
+        write(() -> {
+            change.accept(columns);
+            if (replay != null) {
+                replay.add(change);
+            }
+        });
+    }
+
+    private void write(Runnable action) {
+        lock.writeLock().lock();
+        try {
+            action.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Hourly rates in minor units, as ReportService computes them (0 without a rate).
+     */
+    private void loadRates(Columns target, Long userId) {
+        String sql = "select id, contract_type, uop_gross_rate, b2b_hourly_net_rate from users";
+        Object[] args = userId != null ? new Object[] { userId } : new Object[0];
+        jdbcTemplate.query(userId != null ? sql + " where id = ?" : sql, rs -> {
+            String contractType = rs.getString("contract_type");
+            BigDecimal uop = rs.getBigDecimal("uop_gross_rate");
+            BigDecimal b2b = rs.getBigDecimal("b2b_hourly_net_rate");
+            long rate = 0;
+            if (User.ContractType.UOP.name().equals(contractType) && uop != null) {
+                rate = FixedPointMoney.hourlyRate(FixedPointMoney.toFixed(uop, FixedPointMoney.MINOR_SCALE),
+                        monthlyHours);
+            } else if (User.ContractType.B2B.name().equals(contractType) && b2b != null) {
+                rate = FixedPointMoney.toFixed(b2b, FixedPointMoney.MINOR_SCALE);
+            }
+            target.setRate(rs.getLong("id"), rate);
+        }, args);
+    }
+
+    private static YearMonth firstMonth() {
+        return YearMonth.of(LocalDate.now().getYear() - 1, 1);
+    }
+
+    /**
+     * The column arrays; not thread-safe, accessed under the cube's lock.
+     */
+    private static final class Columns {
+
+        private final YearMonth first;
+        private final Dictionary users = new Dictionary();
+        private final Dictionary projects = new Dictionary();
+        private final Dictionary tasks = new Dictionary();
+        // Hourly rate in minor units by user code
+        private long[] rates = new long[16];
+        // Row of each entry ID (deleted rows are removed)
+        private final Map<Long, Integer> rowsById = new HashMap<>();
+
+        private int size;
+        private int deleted;
+        private int maxMonth;
+        private long[] ids = new long[1024];
+        private int[] userCodes = new int[1024];
+        private int[] projectCodes = new int[1024];
+        private int[] taskCodes = new int[1024];
+        private int[] months = new int[1024];
+        // Status ordinal, or DELETED
+        private byte[] statuses = new byte[1024];
+        // Hours in hundredths
+        private long[] hours = new long[1024];
+
+        Columns(YearMonth first) {
+            this.first = first;
+        }
+
+        int live() {
+            return size - deleted;
+        }
+
+        long rate(int userCode) {
+            return userCode >= 0 && userCode < rates.length ? rates[userCode] : 0;
+        }
+
+        void setRate(Long userId, long rate) {
+            int code = users.code(userId);
+            if (code >= rates.length) {
+                rates = Arrays.copyOf(rates, Math.max(rates.length * 2, code + 1));
+            }
+            rates[code] = rate;
+        }
+
+        void upsert(TimeEntry entry) {
+            long hundredths = entry.getTotalHours() != null
+                    ? FixedPointMoney.toFixed(entry.getTotalHours(), FixedPointMoney.HOURS_SCALE) : 0;
+            upsert(entry.getId(), entry.getUserId(), entry.getProjectId(), entry.getTaskId(), entry.getDate(),
+                    hundredths, entry.getStatus());
+        }
+
+        void upsert(Long id, Long userId, Long projectId, Long taskId, LocalDate date, long hundredths,
+                    TimeEntry.Status status) {
+            int month = (date.getYear() - first.getYear()) * 12 + date.getMonthValue() - first.getMonthValue();
+            if (month < 0) {
+                delete(id);
+                return;
+            }
+            Integer row = rowsById.get(id);
+            int i;
+            if (row != null) {
+                i = row;
+            } else {
+                i = append();
+                ids[i] = id;
+                rowsById.put(id, i);
+            }
+            userCodes[i] = users.code(userId);
+            projectCodes[i] = projects.code(projectId);
+            taskCodes[i] = tasks.code(taskId);
+            months[i] = month;
+            statuses[i] = (byte) status.ordinal();
+            hours[i] = hundredths;
+            maxMonth = Math.max(maxMonth, month);
+        }
+
+        void delete(Long id) {
+            Integer row = rowsById.remove(id);
+            if (row != null) {
+                statuses[row] = DELETED;
+                deleted++;
+            }
+        }
+
+        void deleteUser(Long userId) {
+            int code = users.find(userId);
+            if (code < 0) {
+                return;
+            }
+            for (int i = 0; i < size; i++) {
+                if (userCodes[i] == code && statuses[i] != DELETED) {
+                    rowsById.remove(ids[i]);
+                    statuses[i] = DELETED;
+                    deleted++;
+                }
+            }
+        }
+
+        private int append() {
+            if (size == ids.length) {
+                int capacity = ids.length * 2;
+                ids = Arrays.copyOf(ids, capacity);
+                userCodes = Arrays.copyOf(userCodes, capacity);
+                projectCodes = Arrays.copyOf(projectCodes, capacity);
+                taskCodes = Arrays.copyOf(taskCodes, capacity);
+                months = Arrays.copyOf(months, capacity);
+                statuses = Arrays.copyOf(statuses, capacity);
+                hours = Arrays.copyOf(hours, capacity);
+            }
+            return size++;
+        }
+
+        AnalyticsResultDto query(AnalyticsQuery query, ForkJoinPool pool, int chunkSize) {
+            YearMonth from = query.from() == null || query.from().isBefore(first) ? first : query.from();
+            YearMonth to = query.to() != null ? query.to() : first.plusMonths(maxMonth);
+            AnalyticsResultDto result = AnalyticsResultDto.builder()
+                    .groupBy(query.groupBy().stream().map(d -> d.name().toLowerCase(Locale.ROOT)).toList())
+                    .from(from)
+                    .to(to)
+                    .rows(List.of())
+                    .build();
+
+            Filter filter = new Filter(filterCode(users, query.userId()), filterCode(projects, query.projectId()),
+                    filterCode(tasks, query.taskId()),
+                    query.status() != null ? query.status().ordinal() : -1,
+                    (int) first.until(from, ChronoUnit.MONTHS),
+                    (int) Math.min(Integer.MAX_VALUE, first.until(to, ChronoUnit.MONTHS)));
+            if (filter.user == Filter.NO_MATCH || filter.project == Filter.NO_MATCH || filter.task == Filter.NO_MATCH
+                    || filter.toMonth < filter.fromMonth) {
+                return result;
+            }
+
+            int[] cardinalities = { users.size(), projects.size(), tasks.size(), maxMonth + 1, STATUSES.length };
+            int[] shifts = new int[DIMENSIONS.length];
+            int[] bits = new int[DIMENSIONS.length];
+            int used = 0;
+            for (AnalyticsQuery.Dimension d : DIMENSIONS) {
+                bits[d.ordinal()] = Math.max(1, 32 - Integer.numberOfLeadingZeros(cardinalities[d.ordinal()] - 1));
+                if (query.groupBy().contains(d)) {
+                    shifts[d.ordinal()] = used;
+                    used += bits[d.ordinal()];
+                } else {
+                    shifts[d.ordinal()] = -1;
+                }
+            }
+            if (used > 63) {
+                throw new InvalidRequestException("Too many distinct values to group by " + query.groupBy()
+                        + ", group by fewer dimensions");
+            }
+
+            long[] userRates = Arrays.copyOf(rates, users.size());
+            int chunks = Math.max(1, (size + chunkSize - 1) / chunkSize);
+            List<ForkJoinTask<Groups>> parts = new ArrayList<>(chunks);
+            for (int c = 0; c < chunks; c++) {
+                int start = c * chunkSize;
+                int end = Math.min(size, start + chunkSize);
+                parts.add(pool.submit(() -> scan(start, end, filter, shifts, userRates)));
+            }
+            Groups groups = parts.get(0).join();
+            for (int c = 1; c < chunks; c++) {
+                groups.merge(parts.get(c).join());
+            }
+
+            List<AnalyticsResultDto.Row> rows = new ArrayList<>(groups.size);
+            for (int slot = 0; slot < groups.keys.length; slot++) {
+                if (groups.used[slot]) {
+                    rows.add(row(groups, slot, shifts, bits));
+                }
+            }
+            rows.sort(ROW_ORDER);
+            result.setRows(rows);
+            return result;
+        }
+
+        private Groups scan(int start, int end, Filter filter, int[] shifts, long[] userRates) {
+            int userShift = shifts[AnalyticsQuery.Dimension.USER.ordinal()];
+            int projectShift = shifts[AnalyticsQuery.Dimension.PROJECT.ordinal()];
+            int taskShift = shifts[AnalyticsQuery.Dimension.TASK.ordinal()];
+            int monthShift = shifts[AnalyticsQuery.Dimension.MONTH.ordinal()];
+            int statusShift = shifts[AnalyticsQuery.Dimension.STATUS.ordinal()];
+            Groups groups = new Groups();
+            for (int i = start; i < end; i++) {
+                int status = statuses[i];
+                int user = userCodes[i];
+                int project = projectCodes[i];
+                int task = taskCodes[i];
+                int month = months[i];
+                if (status == DELETED
+                        || (filter.status >= 0 && status != filter.status)
+                        || (filter.user >= 0 && user != filter.user)
+                        || (filter.project >= 0 && project != filter.project)
+                        || (filter.task >= 0 && task != filter.task)
+                        || month < filter.fromMonth || month > filter.toMonth) {
+                    continue;
+                }
+                long key = 0;
+                if (userShift >= 0) key |= (long) user << userShift;
+                if (projectShift >= 0) key |= (long) project << projectShift;
+                if (taskShift >= 0) key |= (long) task << taskShift;
+                if (monthShift >= 0) key |= (long) month << monthShift;
+                if (statusShift >= 0) key |= (long) status << statusShift;
+                groups.add(key, hours[i], hours[i] * userRates[user], 1);
+            }
+            return groups;
+        }
+
+        private AnalyticsResultDto.Row row(Groups groups, int slot, int[] shifts, int[] bits) {
+            long key = groups.keys[slot];
+            AnalyticsResultDto.Row.RowBuilder row = AnalyticsResultDto.Row.builder()
+                    .totalHours(FixedPointMoney.toDecimal(groups.hours[slot], FixedPointMoney.HOURS_SCALE))
+                    .totalCost(FixedPointMoney.toDecimal(groups.costs[slot], FixedPointMoney.COST_SCALE))
+                    .entryCount(groups.counts[slot]);
+            for (AnalyticsQuery.Dimension d : DIMENSIONS) {
+                int shift = shifts[d.ordinal()];
+                if (shift < 0) {
+                    continue;
+                }
+                int code = (int) ((key >>> shift) & ((1L << bits[d.ordinal()]) - 1));
+                switch (d) {
+                    case USER -> row.userId(users.id(code));
+                    case PROJECT -> row.projectId(projects.id(code));
+                    case TASK -> row.taskId(tasks.id(code));
+                    case MONTH -> row.month(first.plusMonths(code));
+                    case STATUS -> row.status(STATUSES[code].name());
+                }
+            }
+            return row.build();
+        }
+
+        private static int filterCode(Dictionary dictionary, Long id) {
+            if (id == null) {
+                return Filter.ANY;
+            }
+            int code = dictionary.find(id);
+            return code >= 0 ? code : Filter.NO_MATCH;
+        }
+    }
+
+    /**
+     * Codes to match per dimension (ANY for no filter) and the month code range.
+     */
+    private record Filter(int user, int project, int task, int status, int fromMonth, int toMonth) {
+        static final int ANY = -1;
+        static final int NO_MATCH = -2;
+    }
+
+    /**
+     * Dense int codes of IDs; code 0 stands for null (e.g. an entry without a task).
+     */
+    private static final class Dictionary {
+
+        private final Map<Long, Integer> codes = new HashMap<>();
+        private long[] ids = new long[16];
+        private int size = 1;
+
+        int code(Long id) {
+            if (id == null) {
+                return 0;
+            }
+            Integer code = codes.get(id);
+            if (code != null) {
+                return code;
+            }
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size] = id;
+            codes.put(id, size);
+            return size++;
+        }
+
+        int find(Long id) {
+            Integer code = codes.get(id);
+            return code != null ? code : -1;
+        }
+
+        Long id(int code) {
+            return code == 0 ? null : ids[code];
+        }
+
+        int size() {
+            return size;
+        }
+    }
+
+    /**
+     * Open-addressing hash table of group sums keyed by packed dimension codes.
+     */
+    private static final class Groups {
+
+        private long[] keys = new long[64];
+        private long[] hours = new long[64];
+        private long[] costs = new long[64];
+        private long[] counts = new long[64];
+        private boolean[] used = new boolean[64];
+        private int size;
+
+        void add(long key, long hundredths, long cost, long count) {
+            int mask = keys.length - 1;
+            int slot = slot(key, mask);
+            while (used[slot] && keys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            if (!used[slot]) {
+                if ((size + 1) * 2 > keys.length) {
+                    grow();
+                    add(key, hundredths, cost, count);
+                    return;
+                }
+                used[slot] = true;
+                keys[slot] = key;
+                size++;
+            }
+            hours[slot] += hundredths;
+            costs[slot] += cost;
+            counts[slot] += count;
+        }
+
+        void merge(Groups other) {
+            for (int slot = 0; slot < other.keys.length; slot++) {
+                if (other.used[slot]) {
+                    add(other.keys[slot], other.hours[slot], other.costs[slot], other.counts[slot]);
+                }
+            }
+        }
+
+        private void grow() {
+            long[] oldKeys = keys;
+            long[] oldHours = hours;
+            long[] oldCosts = costs;
+            long[] oldCounts = counts;
+            boolean[] oldUsed = used;
+            int capacity = oldKeys.length * 2;
+            keys = new long[capacity];
+            hours = new long[capacity];
+            costs = new long[capacity];
+            counts = new long[capacity];
+            used = new boolean[capacity];
+            size = 0;
+            for (int slot = 0; slot < oldKeys.length; slot++) {
+                if (oldUsed[slot]) {
+                    add(oldKeys[slot], oldHours[slot], oldCosts[slot], oldCounts[slot]);
+                }
+            }
+        }
+
+        private static int slot(long key, int mask) {
+            return (int) ((key * 0x9E3779B97F4A7C15L) >>> 32) & mask;
+        }
+    }
+}
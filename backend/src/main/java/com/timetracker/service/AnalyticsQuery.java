@@ -0,0 +1,50 @@
+package com.timetracker.service;
+
+import com.timetracker.entity.TimeEntry;
+import java.time.YearMonth;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Group-by and filters of an analytics cube query. Null filters match everything.
+ *
+ * @param groupBy   Dimensions to group by; empty for one grand total
+ * @param from      First month
+ * @param to        Last month
+ * @param userId    Optional user filter
+ * @param projectId Optional project filter
+ * @param taskId    Optional task filter
+ * @param status    Optional status filter
+ */
+public record AnalyticsQuery(Set<Dimension> groupBy, YearMonth from, YearMonth to, Long userId, Long projectId,
+                             Long taskId, TimeEntry.Status status) {
+
+    public enum Dimension {
+        USER, PROJECT, TASK, MONTH, STATUS
+    }
+
+    /**
+     * Dimensions of a comma-separated list, e.g. "user,month".
+     *
+     * @return Dimensions (empty for a blank list), or empty if the list names an unknown dimension
+     */
+    public static Optional<Set<Dimension>> parseGroupBy(String names) {
+        Set<Dimension> dimensions = EnumSet.noneOf(Dimension.class);
+        if (names == null) {
+            return Optional.of(dimensions);
+        }
+        for (String name : names.split(",")) {
+            if (name.isBlank()) {
+                continue;
+            }
+            try {
+                dimensions.add(Dimension.valueOf(name.trim().toUpperCase(Locale.ROOT)));
+            } catch (IllegalArgumentException e) {
+                return Optional.empty();
+            }
+        }
+        return Optional.of(dimensions);
+    }
+}
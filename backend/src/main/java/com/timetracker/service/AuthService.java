@@ -4,6 +4,9 @@ import com.timetracker.dto.AuthRequest;
 import com.timetracker.dto.AuthResponse;
 import com.timetracker.dto.UserDto;
 import com.timetracker.entity.User;
+import com.timetracker.exception.ConflictException;
+import com.timetracker.exception.ForbiddenOperationException;
+import com.timetracker.exception.InvalidRequestException;
 import com.timetracker.repository.UserRepository;
 import com.timetracker.security.JwtUtil;
 import lombok.RequiredArgsConstructor;
@@ -34,19 +37,19 @@ public class AuthService {
      *
      * @param request Login request containing username and password
      * @return Authentication response with JWT token, expiration, and user details
-     * @throws RuntimeException if user not found, account inactive, or invalid
-     *                          credentials
+     * @throws InvalidRequestException if user not found or invalid credentials
+     * @throws ForbiddenOperationException if the account is inactive
      */
     @Transactional
     public AuthResponse login(AuthRequest request) {
         User user = userRepository.findByUsername(request.getUsername())
-                .orElseThrow(() -> new RuntimeException("User not found"));
+                .orElseThrow(() -> new InvalidRequestException("User not found"));
 
         log.info("Login attempt for user: {}", request.getUsername());
 
         // Check if user account is active (soft-delete check)
         if (!user.getActive()) {
-            throw new RuntimeException("User account is deactivated");
+            throw new ForbiddenOperationException("User account is deactivated");
         }
 
         // Verify password using BCrypt
@@ -57,7 +60,7 @@ public class AuthService {
 
         if (!matches) {
             log.error("Password mismatch for user: {}", request.getUsername());
-            throw new RuntimeException("Invalid credentials");
+            throw new InvalidRequestException("Invalid credentials");
         }
 
         // Generate JWT token with user role and language embedded in claims
@@ -83,15 +86,15 @@ public class AuthService {
      *
      * @param userDto User registration data
      * @return Created user DTO (password excluded)
-     * @throws RuntimeException if username or email already exists
+     * @throws ConflictException if username or email already exists
      */
     @Transactional
     public UserDto register(UserDto userDto) {
         if (userRepository.existsByUsername(userDto.getUsername())) {
-            throw new RuntimeException("Username already exists");
+            throw new ConflictException("Username already exists");
         }
         if (userRepository.existsByEmail(userDto.getEmail())) {
-            throw new RuntimeException("Email already exists");
+            throw new ConflictException("Email already exists");
         }
 
         User user = User.builder()
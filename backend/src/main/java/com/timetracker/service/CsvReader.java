@@ -0,0 +1,143 @@
+package com.timetracker.service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Streaming reader of CSV records (RFC 4180: comma separated, double quotes, "" inside quotes,
+ * quoted line breaks). Each record carries the line number it starts on, for error reports.
+ * Blank lines and a leading byte order mark are skipped. The caller closes the reader.
+ */
+public class CsvReader {
+
+    private final Reader reader;
+    private int line = 1;
+    private int pending = -2;
+    private boolean started;
+
+    public CsvReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Next record, or null at the end of the input.
+     */
+    public Record next() {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean empty = true;
+        int start = line;
+        int c;
+        while ((c = read()) != -1) {
+            if (quoted) {
+                if (c == '"') {
+                    int n = read();
+                    if (n == '"') {
+                        field.append('"');
+                        continue;
+                    }
+                    quoted = false;
+                    unread(n);
+                } else {
+                    if (c == '\n') {
+                        line++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+                empty = false;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+                empty = false;
+            } else if (c == '\n' || c == '\r') {
+                if (c == '\r') {
+                    int n = read();
+                    if (n != '\n') {
+                        unread(n);
+                    }
+                }
+                line++;
+                if (!empty || field.length() > 0) {
+                    fields.add(field.toString());
+                    return new Record(start, fields);
+                }
+                start = line;
+            } else {
+                field.append((char) c);
+            }
+        }
+        if (!empty || field.length() > 0) {
+            fields.add(field.toString());
+            return new Record(start, fields);
+        }
+        return null;
+    }
+
+    /**
+     * Map of header names to column indexes. Names are matched case-insensitively,
+     * ignoring spaces and underscores (unit_price, Unit Price and unitPrice are the same column).
+     */
+    public static Map<String, Integer> columns(Record header) {
+        Map<String, Integer> columns = new HashMap<>();
+        for (int c = 0; c < header.fields().size(); c++) {
+            columns.put(normalize(header.fields().get(c)), c);
+        }
+        return columns;
+    }
+
+    private static String normalize(String name) {
+        return name.trim().toLowerCase(Locale.ROOT).replace("_", "").replace(" ", "");
+    }
+
+    private int read() {
+        try {
+            if (pending != -2) {
+                int c = pending;
+                pending = -2;
+                return c;
+            }
+            int c = reader.read();
+            // Spreadsheet exports often start with a byte order mark
+            if (!started) {
+                started = true;
+                if (c == '\uFEFF') {
+                    c = reader.read();
+                }
+            }
+            return c;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read CSV input", e);
+        }
+    }
+
+    private void unread(int c) {
+        pending = c;
+    }
+
+    /**
+     * One CSV record.
+     */
+    public record Record(int line, List<String> fields) {
+
+        /**
+         * Value of a named column, or null if the column is missing or the value is blank.
+         */
+        public String get(Map<String, Integer> columns, String name) {
+            Integer index = columns.get(normalize(name));
+            if (index == null || index >= fields.size()) {
+                return null;
+            }
+            String value = fields.get(index);
+            return value.isBlank() ? null : value.trim();
+        }
+    }
+}
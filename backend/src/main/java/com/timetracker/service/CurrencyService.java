@@ -1,13 +1,11 @@
 package com.timetracker.service;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.math.RoundingMode;
-import java.text.DecimalFormat;
-import java.text.DecimalFormatSymbols;
-import java.util.Locale;
+import java.time.LocalDate;
 
 /**
  * Service handling currency conversion and locale-specific formatting.
@@ -18,18 +16,34 @@ import java.util.Locale;
 @RequiredArgsConstructor
 public class CurrencyService {
 
-    // Exchange rate PLN to UAH, configurable in application.yml (default: 10.5)
-    @Value("${binderua.rates.pl-to-uah}")
-    private BigDecimal plToUahRate;
+    private final ExchangeRateService exchangeRateService;
 
     /**
-     * Convert amount from PLN to UAH using configured exchange rate.
+     * Convert amount from PLN to UAH using the exchange rate in effect today.
      *
      * @param plnAmount Amount in Polish Zloty
      * @return Amount in Ukrainian Hryvnia, rounded to 2 decimal places
      */
     public BigDecimal convertPLNtoUAH(BigDecimal plnAmount) {
-        return plnAmount.multiply(plToUahRate).setScale(2, RoundingMode.HALF_UP);
+        return convert(plnAmount, exchangeRateService.current().rateOn("PLN", "UAH", LocalDate.now()).rate());
+    }
+
+    /**
+     * Convert an amount with an exchange rate: amount * rate, rounded HALF_UP to 2 decimal places.
+     *
+     * @param amount Amount in the base currency
+     * @param rate Units of target currency per unit of base currency
+     * @return Converted amount, rounded to 2 decimal places
+     */
+    public BigDecimal convert(BigDecimal amount, BigDecimal rate) {
+        try {
+            // Fixed-point path; same HALF_UP rounding of the exact product as the BigDecimal formula
+            long fixed = FixedPointMoney.toFixed(amount, FixedPointMoney.COST_SCALE);
+            long converted = FixedPointMoney.multiplyByRate(fixed, FixedPointMoney.COST_SCALE, rate, RoundingMode.HALF_UP);
+            return FixedPointMoney.toDecimal(converted, FixedPointMoney.MINOR_SCALE);
+        } catch (ArithmeticException e) {
+            return amount.multiply(rate).setScale(2, RoundingMode.HALF_UP);
+        }
     }
 
     /**
@@ -45,40 +59,106 @@ public class CurrencyService {
      * @return Formatted currency string with proper separators and symbol placement
      */
     public String formatCurrency(BigDecimal amount, String language) {
-        DecimalFormatSymbols symbols;
-        String currencySymbol;
+        return appendCurrency(new StringBuilder(24), amount, language).toString();
+    }
 
-        switch (language.toUpperCase()) {
-            case "UA":
-                // Ukrainian: 1 234,56 ₴ (space thousands, comma decimal)
-                symbols = new DecimalFormatSymbols(new Locale("uk", "UA"));
-                symbols.setGroupingSeparator(' ');
-                symbols.setDecimalSeparator(',');
-                currencySymbol = " ₴";
-                break;
-            case "EN":
-                // English: $1,234.56
-                symbols = new DecimalFormatSymbols(Locale.US);
-                symbols.setGroupingSeparator(',');
-                symbols.setDecimalSeparator('.');
-                currencySymbol = "$";
-                break;
-            case "PL":
-            default:
-                // Polish: 1 234,56 zł (space thousands, comma decimal)
-                symbols = new DecimalFormatSymbols(new Locale("pl", "PL"));
-                symbols.setGroupingSeparator(' ');
-                symbols.setDecimalSeparator(',');
-                currencySymbol = " zł";
-                break;
+    /**
+     * Append a formatted currency amount to a caller-owned buffer.
+     * Produces exactly the output of a DecimalFormat("#,##0.00") with the language's symbols:
+     * HALF_EVEN rounding to two decimals, grouping by three, and a leading '-' for any negative
+     * amount (even one that rounds to zero). Uses only the immutable per-language FormatSpec,
+     * so it is safe to call concurrently; reuse one StringBuilder per thread when formatting many rows.
+     *
+     * @param out Buffer to append to
+     * @param amount Numeric amount to format
+     * @param language Language code (PL, UA, EN) determining format rules
+     * @return The same buffer, for chaining
+     */
+    public StringBuilder appendCurrency(StringBuilder out, BigDecimal amount, String language) {
+        if (amount == null) {
+            throw new IllegalArgumentException("Cannot format given Object as a Number");
         }
+        FormatSpec spec = FormatSpec.forLanguage(language);
+        BigDecimal rounded = amount.setScale(2, RoundingMode.HALF_EVEN);
 
-        DecimalFormat formatter = new DecimalFormat("#,##0.00", symbols);
-        
-        if ("EN".equalsIgnoreCase(language)) {
-            return currencySymbol + formatter.format(amount);
+        out.append(spec.prefix);
+        if (amount.signum() < 0) {
+            out.append('-');
+        }
+        BigInteger unscaled = rounded.unscaledValue().abs();
+        if (unscaled.bitLength() < 63) {
+            appendDigits(out, unscaled.longValue(), spec);
         } else {
-            return formatter.format(amount) + currencySymbol;
+            appendDigits(out, unscaled.toString(), spec);
+        }
+        return out.append(spec.suffix);
+    }
+
+    // Integer part with grouping, then decimal separator and two fraction digits
+    private static void appendDigits(StringBuilder out, long cents, FormatSpec spec) {
+        long units = cents / 100;
+        int fraction = (int) (cents % 100);
+        long divisor = 1;
+        int digits = 1;
+        while (divisor <= units / 10) {
+            divisor *= 10;
+            digits++;
+        }
+        for (; digits > 0; digits--, divisor /= 10) {
+            out.append((char) ('0' + (units / divisor) % 10));
+            if (digits > 1 && (digits - 1) % 3 == 0) {
+                out.append(spec.groupingSeparator);
+            }
+        }
+        out.append(spec.decimalSeparator)
+                .append((char) ('0' + fraction / 10))
+                .append((char) ('0' + fraction % 10));
+    }
+
+    // Fallback for amounts beyond the long range
+    private static void appendDigits(StringBuilder out, String cents, FormatSpec spec) {
+        int integerDigits = cents.length() - 2;
+        for (int i = 0; i < integerDigits; i++) {
+            out.append(cents.charAt(i));
+            int remaining = integerDigits - i - 1;
+            if (remaining > 0 && remaining % 3 == 0) {
+                out.append(spec.groupingSeparator);
+            }
+        }
+        out.append(spec.decimalSeparator).append(cents, integerDigits, cents.length());
+    }
+
+    /**
+     * Precomputed, immutable formatting rules per language.
+     * Replaces building Locale/DecimalFormatSymbols/DecimalFormat on every call.
+     */
+    private enum FormatSpec {
+        // Polish: 1 234,56 zł (space thousands, comma decimal)
+        PL(' ', ',', "", " zł"),
+        // Ukrainian: 1 234,56 ₴ (space thousands, comma decimal)
+        UA(' ', ',', "", " ₴"),
+        // English: $1,234.56
+        EN(',', '.', "$", "");
+
+        private final char groupingSeparator;
+        private final char decimalSeparator;
+        private final String prefix;
+        private final String suffix;
+
+        FormatSpec(char groupingSeparator, char decimalSeparator, String prefix, String suffix) {
+            this.groupingSeparator = groupingSeparator;
+            this.decimalSeparator = decimalSeparator;
+            this.prefix = prefix;
+            this.suffix = suffix;
+        }
+
+        static FormatSpec forLanguage(String language) {
+            if ("UA".equalsIgnoreCase(language)) {
+                return UA;
+            } else if ("EN".equalsIgnoreCase(language)) {
+                return EN;
+            }
+            return PL;
         }
     }
 }
@@ -0,0 +1,122 @@
+package com.timetracker.service;
+
+import com.timetracker.dto.CalendarDayDto;
+import com.timetracker.dto.DashboardBootstrapDto;
+import com.timetracker.dto.TimeEntryDto;
+import com.timetracker.dto.UserDto;
+import com.timetracker.entity.Project;
+import com.timetracker.entity.Task;
+import com.timetracker.entity.User;
+import com.timetracker.exception.ResourceNotFoundException;
+import com.timetracker.repository.ProjectRepository;
+import com.timetracker.repository.TaskRepository;
+import com.timetracker.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+/**
+ * Assembles the dashboard's initial data (see {@link DashboardBootstrapDto}) in one request
+ * instead of one round trip per project, entry list and calendar.
+ *
+ * The user is looked up on the request thread; the three independent parts (projects with
+ * tasks, entries, calendar) then run concurrently on the bounded dashboard executor, so the
+ * response takes about as long as the slowest of them. Totals are summed from the calendar.
+ */
+@Service
+@RequiredArgsConstructor
+public class DashboardService {
+
+    private final UserRepository userRepository;
+    private final ProjectRepository projectRepository;
+    private final TaskRepository taskRepository;
+    private final ProjectAccessIndex projectAccessIndex;
+    private final TimeEntryService timeEntryService;
+    private final ThreadPoolTaskExecutor dashboardExecutor;
+
+    /**
+     * Dashboard data of the currently authenticated user for a month.
+     *
+     * @param year  Year (e.g., 2025)
+     * @param month Month (1-12)
+     * @return Future completed when all parts are loaded
+     * @throws ResourceNotFoundException if authenticated user not found in database
+     * @throws org.springframework.core.task.TaskRejectedException if the dashboard executor is saturated
+     */
+    public CompletableFuture<DashboardBootstrapDto> bootstrap(int year, int month) {
+        String username = SecurityContextHolder.getContext().getAuthentication().getName();
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+        YearMonth ym = YearMonth.of(year, month);
+
+        CompletableFuture<List<DashboardBootstrapDto.ProjectTasks>> projects =
+                CompletableFuture.supplyAsync(() -> bookableProjects(user.getId()), dashboardExecutor);
+        CompletableFuture<List<TimeEntryDto>> entries = CompletableFuture.supplyAsync(
+                () -> timeEntryService.getEntriesByUserAndMonth(user.getId(), year, month), dashboardExecutor);
+        CompletableFuture<List<CalendarDayDto>> calendar = CompletableFuture.supplyAsync(
+                () -> timeEntryService.getCalendar(user.getId(), year, month), dashboardExecutor);
+
+        return CompletableFuture.allOf(projects, entries, calendar).thenApply(done -> DashboardBootstrapDto.builder()
+                .user(UserDto.from(user))
+                .year(ym.getYear())
+                .month(ym.getMonthValue())
+                .projects(projects.join())
+                .entries(entries.join())
+                .calendar(calendar.join())
+                .totals(totals(calendar.join()))
+                .build());
+    }
+
+    /**
+     * Projects the user may book on, each with its active tasks (one task query for all).
+     */
+    private List<DashboardBootstrapDto.ProjectTasks> bookableProjects(Long userId) {
+        List<Project> projects = projectAccessIndex.filterBookable(userId, projectRepository.findAll());
+        if (projects.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, List<Task>> tasks = taskRepository
+                .findByProjectIdInAndActiveTrue(projects.stream().map(Project::getId).toList())
+                .stream()
+                .collect(Collectors.groupingBy(Task::getProjectId));
+        return projects.stream()
+                .map(p -> new DashboardBootstrapDto.ProjectTasks(p, tasks.getOrDefault(p.getId(), List.of())))
+                .toList();
+    }
+
+    private static DashboardBootstrapDto.Totals totals(List<CalendarDayDto> days) {
+        int entryCount = 0;
+        int submitted = 0;
+        int approved = 0;
+        int rejected = 0;
+        BigDecimal hours = null;
+        BigDecimal quantity = null;
+        for (CalendarDayDto day : days) {
+            entryCount += day.getEntryCount();
+            submitted += day.getSubmitted();
+            approved += day.getApproved();
+            rejected += day.getRejected();
+            hours = add(hours, day.getTotalHours());
+            quantity = add(quantity, day.getTotalQuantity());
+        }
+        return DashboardBootstrapDto.Totals.builder()
+                .entryCount(entryCount)
+                .submitted(submitted)
+                .approved(approved)
+                .rejected(rejected)
+                .totalHours(hours)
+                .totalQuantity(quantity)
+                .build();
+    }
+
+    private static BigDecimal add(BigDecimal a, BigDecimal b) {
+        return a == null ? b : b == null ? a : a.add(b);
+    }
+}
@@ -0,0 +1,18 @@
+package com.timetracker.service;
+
+import com.timetracker.entity.ExchangeRate;
+import java.util.List;
+
+/**
+ * Source of exchange rates polled by {@link ExchangeRateService}.
+ * Selected with binderua.rates.provider (stub or file).
+ */
+public interface ExchangeRateProvider {
+
+    /**
+     * Fetch the rates known to this provider. Returned entities are not persisted yet.
+     *
+     * @return Rates with base/quote currency, effectiveFrom, rate and source set
+     */
+    List<ExchangeRate> fetchRates();
+}
@@ -0,0 +1,77 @@
+package com.timetracker.service;
+
+import com.timetracker.entity.ExchangeRate;
+import com.timetracker.repository.ExchangeRateRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Keeps the effective-dated exchange rates in memory.
+ *
+ * A scheduled refresher pulls rates from the configured {@link ExchangeRateProvider},
+ * upserts them into exchange_rates (which keeps the history) and rebuilds an immutable
+ * {@link ExchangeRateSnapshot} that is swapped in atomically. Conversions read the current
+ * snapshot without locks or database access. The snapshot version only changes when the
+ * loaded rates differ, so it can be used as a cache key component.
+ */
+@Slf4j
+@Service
+public class ExchangeRateService {
+
+    private final ExchangeRateRepository exchangeRateRepository;
+    private final ExchangeRateProvider provider;
+    private final TransactionTemplate transactionTemplate;
+    private final AtomicReference<ExchangeRateSnapshot> snapshot = new AtomicReference<>(ExchangeRateSnapshot.empty());
+
+    public ExchangeRateService(ExchangeRateRepository exchangeRateRepository, ExchangeRateProvider provider,
+                               PlatformTransactionManager transactionManager) {
+        this.exchangeRateRepository = exchangeRateRepository;
+        this.provider = provider;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @PostConstruct
+    void loadOnStartup() {
+        refresh();
+    }
+
+    /**
+     * Current immutable rate snapshot. Callers converting several amounts should
+     * fetch it once so all conversions use the same rates.
+     */
+    public ExchangeRateSnapshot current() {
+        return snapshot.get();
+    }
+
+    /**
+     * Pull rates from the provider, persist them and publish a new snapshot.
+     * A failing provider keeps the rates already stored in the database.
+     */
+    @Scheduled(fixedDelayString = "${binderua.rates.refresh-interval-ms:3600000}",
+            initialDelayString = "${binderua.rates.refresh-interval-ms:3600000}")
+    public synchronized void refresh() {
+        try {
+            List<ExchangeRate> fetched = provider.fetchRates();
+            transactionTemplate.executeWithoutResult(status -> fetched.forEach(r -> exchangeRateRepository.upsert(
+                    r.getBaseCurrency(), r.getQuoteCurrency(), r.getEffectiveFrom(), r.getRate(), r.getSource())));
+        } catch (RuntimeException e) {
+            log.error("Exchange rate refresh from provider failed, keeping stored rates", e);
+        }
+        reload();
+    }
+
+    private void reload() {
+        ExchangeRateSnapshot previous = snapshot.get();
+        ExchangeRateSnapshot next = ExchangeRateSnapshot.of(previous.getVersion() + 1, exchangeRateRepository.findAll());
+        if (!next.sameRates(previous)) {
+            snapshot.set(next);
+            log.info("Loaded exchange rates, snapshot version {}", next.getVersion());
+        }
+    }
+}
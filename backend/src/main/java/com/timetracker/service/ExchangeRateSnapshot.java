@@ -0,0 +1,104 @@
+package com.timetracker.service;
+
+import com.timetracker.entity.ExchangeRate;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Immutable view of all exchange rates: one date-navigable map per currency pair.
+ * Instances are never modified after construction and are swapped atomically by
+ * {@link ExchangeRateService}, so readers need no locks and no database access.
+ */
+public final class ExchangeRateSnapshot {
+
+    private final long version;
+    private final LocalDateTime loadedAt;
+    private final Map<String, NavigableMap<LocalDate, Rate>> ratesByPair;
+
+    private ExchangeRateSnapshot(long version, LocalDateTime loadedAt, Map<String, NavigableMap<LocalDate, Rate>> ratesByPair) {
+        this.version = version;
+        this.loadedAt = loadedAt;
+        this.ratesByPair = ratesByPair;
+    }
+
+    static ExchangeRateSnapshot empty() {
+        return new ExchangeRateSnapshot(0, LocalDateTime.now(), Map.of());
+    }
+
+    /**
+     * Build a snapshot from persisted rates.
+     */
+    static ExchangeRateSnapshot of(long version, List<ExchangeRate> rates) {
+        Map<String, TreeMap<LocalDate, Rate>> building = new HashMap<>();
+        for (ExchangeRate r : rates) {
+            BigDecimal rate = r.getRate().stripTrailingZeros();
+            if (rate.scale() < 0) {
+                rate = rate.setScale(0);
+            }
+            building.computeIfAbsent(pair(r.getBaseCurrency(), r.getQuoteCurrency()), k -> new TreeMap<>())
+                    .put(r.getEffectiveFrom(), new Rate(rate, r.getEffectiveFrom(), r.getSource(), r.getUpdatedAt()));
+        }
+        Map<String, NavigableMap<LocalDate, Rate>> frozen = new HashMap<>();
+        building.forEach((pair, byDate) -> frozen.put(pair, Collections.unmodifiableNavigableMap(byDate)));
+        return new ExchangeRateSnapshot(version, LocalDateTime.now(), Map.copyOf(frozen));
+    }
+
+    /**
+     * Rate of a pair in effect on the given date: the latest rate with effectiveFrom on or before it.
+     * Dates before the first known rate resolve to the oldest rate of the pair.
+     *
+     * @param base  Base currency (e.g. PLN)
+     * @param quote Quote currency (e.g. UAH)
+     * @param date  Day the rate should apply to
+     * @return Rate in effect
+     * @throws IllegalStateException if no rate is known for the pair
+     */
+    public Rate rateOn(String base, String quote, LocalDate date) {
+        NavigableMap<LocalDate, Rate> byDate = ratesByPair.get(pair(base, quote));
+        if (byDate == null || byDate.isEmpty()) {
+            throw new IllegalStateException("No exchange rate for " + pair(base, quote));
+        }
+        Map.Entry<LocalDate, Rate> entry = byDate.floorEntry(date);
+        return entry != null ? entry.getValue() : byDate.firstEntry().getValue();
+    }
+
+    /**
+     * True if at least one rate is known for the pair, i.e. {@link #rateOn} will not fail for it.
+     */
+    public boolean hasPair(String base, String quote) {
+        NavigableMap<LocalDate, Rate> byDate = ratesByPair.get(pair(base, quote));
+        return byDate != null && !byDate.isEmpty();
+    }
+
+    /**
+     * Version of the rate data; changes only when a refresh loaded different rates.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    public LocalDateTime getLoadedAt() {
+        return loadedAt;
+    }
+
+    boolean sameRates(ExchangeRateSnapshot other) {
+        return ratesByPair.equals(other.ratesByPair);
+    }
+
+    private static String pair(String base, String quote) {
+        return base.toUpperCase() + "/" + quote.toUpperCase();
+    }
+
+    /**
+     * A single effective-dated rate.
+     */
+    public record Rate(BigDecimal rate, LocalDate effectiveFrom, String source, LocalDateTime updatedAt) {
+    }
+}
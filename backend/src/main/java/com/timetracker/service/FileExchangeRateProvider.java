@@ -0,0 +1,61 @@
+package com.timetracker.service;
+
+import com.timetracker.entity.ExchangeRate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Rate provider reading a local CSV file, e.g. exported from the NBP tables.
+ *
+ * Format, one rate per line (blank lines and lines starting with '#' are ignored):
+ *   base,quote,effective_from,rate[,source]
+ *   PLN,UAH,2025-12-01,10.42,nbp-a-233
+ */
+@Component
+@ConditionalOnProperty(name = "binderua.rates.provider", havingValue = "file")
+public class FileExchangeRateProvider implements ExchangeRateProvider {
+
+    @Value("${binderua.rates.file}")
+    private Path file;
+
+    @Override
+    public List<ExchangeRate> fetchRates() {
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read exchange rate file " + file, e);
+        }
+
+        String defaultSource = "file:" + file.getFileName();
+        List<ExchangeRate> rates = new ArrayList<>();
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i).trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            String[] cols = line.split(",");
+            if (cols.length < 4) {
+                throw new IllegalStateException("Invalid exchange rate line " + (i + 1) + " in " + file);
+            }
+            rates.add(ExchangeRate.builder()
+                    .baseCurrency(cols[0].trim().toUpperCase())
+                    .quoteCurrency(cols[1].trim().toUpperCase())
+                    .effectiveFrom(LocalDate.parse(cols[2].trim()))
+                    .rate(new BigDecimal(cols[3].trim()))
+                    .source(cols.length > 4 && !cols[4].isBlank() ? cols[4].trim() : defaultSource)
+                    .build());
+        }
+        return rates;
+    }
+}
@@ -0,0 +1,183 @@
+package com.timetracker.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Fixed-point arithmetic for hours and money on primitive longs.
+ *
+ * Values are unscaled longs with an explicit decimal scale:
+ * - hours in hundredths of an hour (scale 2, matches time_entries.total_hours NUMERIC(5,2))
+ * - money in minor units, i.e. grosze/kopiyky/cents (scale 2, matches rate columns NUMERIC(10,2))
+ * - cost = hours * rate in ten-thousandths of a currency unit (scale 4)
+ *
+ * Every rounding step takes an explicit RoundingMode, so callers can reproduce the
+ * BigDecimal formulas used by ReportService digit for digit. Conversions from BigDecimal
+ * and multiplications throw ArithmeticException when a value does not fit exactly;
+ * callers fall back to BigDecimal in that case.
+ */
+public final class FixedPointMoney {
+
+    public static final int HOURS_SCALE = 2;
+    public static final int MINOR_SCALE = 2;
+    public static final int COST_SCALE = HOURS_SCALE + MINOR_SCALE;
+
+    private static final long[] POWERS_OF_TEN = {
+            1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L,
+            1_000_000_000L, 10_000_000_000L, 100_000_000_000L, 1_000_000_000_000L,
+            10_000_000_000_000L, 100_000_000_000_000L, 1_000_000_000_000_000L, 10_000_000_000_000_000L,
+            100_000_000_000_000_000L, 1_000_000_000_000_000_000L
+    };
+
+    private FixedPointMoney() {
+    }
+
+    /**
+     * Convert a decimal to an unscaled long at the given scale without rounding.
+     *
+     * @param value Decimal value (e.g. 7.50)
+     * @param scale Target scale (e.g. 2 for hundredths)
+     * @return Unscaled value (e.g. 750)
+     * @throws ArithmeticException if the value has more fraction digits than the scale or overflows a long
+     */
+    public static long toFixed(BigDecimal value, int scale) {
+        return value.setScale(scale, RoundingMode.UNNECESSARY).unscaledValue().longValueExact();
+    }
+
+    /**
+     * Convert an unscaled long back to a decimal with the given scale.
+     */
+    public static BigDecimal toDecimal(long unscaled, int scale) {
+        return BigDecimal.valueOf(unscaled, scale);
+    }
+
+    /**
+     * Hourly rate in minor units from a monthly rate, as monthlyRate.divide(monthlyHours, 2, HALF_UP).
+     *
+     * @param monthlyRateMinor Monthly gross rate in minor units
+     * @param monthlyHours     Standard monthly working hours (binderua.rates.monthly-hours)
+     * @return Hourly rate in minor units
+     */
+    public static long hourlyRate(long monthlyRateMinor, int monthlyHours) {
+        return divide(monthlyRateMinor, monthlyHours, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Cost of hours at an hourly rate; exact, in ten-thousandths (COST_SCALE).
+     *
+     * @param hundredths Hours in hundredths of an hour
+     * @param rateMinor  Hourly rate in minor units
+     * @return Cost at COST_SCALE
+     * @throws ArithmeticException on overflow
+     */
+    public static long cost(long hundredths, long rateMinor) {
+        return Math.multiplyExact(hundredths, rateMinor);
+    }
+
+    /**
+     * Multiply an amount by an exchange rate and round to minor units,
+     * as amount.multiply(rate).setScale(2, mode).
+     *
+     * @param amount      Unscaled amount
+     * @param amountScale Scale of the amount
+     * @param rate        Exchange rate (any scale)
+     * @param mode        Rounding mode applied once, to the exact product
+     * @return Converted amount in minor units
+     */
+    public static long multiplyByRate(long amount, int amountScale, BigDecimal rate, RoundingMode mode) {
+        BigDecimal r = rate.stripTrailingZeros();
+        int rateScale = Math.max(r.scale(), 0);
+        long product = Math.multiplyExact(amount, toFixed(r, rateScale));
+        return rescale(product, amountScale + rateScale, MINOR_SCALE, mode);
+    }
+
+    /**
+     * Divide an amount by an exchange rate and round to minor units,
+     * as amount.divide(rate, 2, mode).
+     *
+     * @param amount      Unscaled amount
+     * @param amountScale Scale of the amount
+     * @param rate        Exchange rate, must be positive
+     * @param mode        Rounding mode applied once, to the exact quotient
+     * @return Converted amount in minor units
+     */
+    public static long divideByRate(long amount, int amountScale, BigDecimal rate, RoundingMode mode) {
+        BigDecimal r = rate.stripTrailingZeros();
+        int rateScale = Math.max(r.scale(), 0);
+        long divisor = Math.multiplyExact(toFixed(r, rateScale), pow10(amountScale));
+        long dividend = Math.multiplyExact(amount, pow10(rateScale + MINOR_SCALE));
+        return divide(dividend, divisor, mode);
+    }
+
+    /**
+     * Change the scale of an unscaled value, rounding when digits are dropped.
+     */
+    public static long rescale(long unscaled, int fromScale, int toScale, RoundingMode mode) {
+        if (toScale >= fromScale) {
+            return Math.multiplyExact(unscaled, pow10(toScale - fromScale));
+        }
+        return divide(unscaled, pow10(fromScale - toScale), mode);
+    }
+
+    /**
+     * Integer division with BigDecimal rounding semantics.
+     *
+     * @param dividend Dividend
+     * @param divisor  Divisor, non-zero
+     * @param mode     Rounding mode for the discarded fraction
+     * @return Rounded quotient
+     * @throws ArithmeticException if mode is UNNECESSARY and the division is inexact, or an operand
+     *                             is Long.MIN_VALUE (its magnitude does not fit a long)
+     */
+    public static long divide(long dividend, long divisor, RoundingMode mode) {
+        if (dividend == Long.MIN_VALUE || divisor == Long.MIN_VALUE) {
+            throw new ArithmeticException("Operand out of range");
+        }
+        long quotient = dividend / divisor;
+        long remainder = dividend % divisor;
+        if (remainder == 0) {
+            return quotient;
+        }
+        int signum = (dividend < 0) == (divisor < 0) ? 1 : -1;
+        // Compare |remainder| with |divisor| / 2 without overflow
+        long absRemainder = Math.abs(remainder);
+        long absDivisor = Math.abs(divisor);
+        int half = Long.compare(absRemainder, absDivisor - absRemainder);
+
+        boolean increment;
+        switch (mode) {
+            case UP:
+                increment = true;
+                break;
+            case DOWN:
+                increment = false;
+                break;
+            case CEILING:
+                increment = signum > 0;
+                break;
+            case FLOOR:
+                increment = signum < 0;
+                break;
+            case HALF_UP:
+                increment = half >= 0;
+                break;
+            case HALF_DOWN:
+                increment = half > 0;
+                break;
+            case HALF_EVEN:
+                increment = half > 0 || (half == 0 && (quotient & 1) != 0);
+                break;
+            case UNNECESSARY:
+            default:
+                throw new ArithmeticException("Rounding necessary");
+        }
+        return increment ? quotient + signum : quotient;
+    }
+
+    static long pow10(int exponent) {
+        if (exponent < 0 || exponent >= POWERS_OF_TEN.length) {
+            throw new ArithmeticException("Scale out of range: " + exponent);
+        }
+        return POWERS_OF_TEN[exponent];
+    }
+}
@@ -0,0 +1,215 @@
+package com.timetracker.service;
+
+import com.timetracker.dto.MemberChangeDto;
+import com.timetracker.entity.Project;
+import com.timetracker.entity.User;
+import com.timetracker.event.UserChangedEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * In-memory index of which projects each user may book time on, so authorization checks on the
+ * time entry write path and in list filtering cost a bit lookup instead of a project_members query.
+ *
+ * A user may book on a project if the user is a director, a member of the project, or its
+ * (PL or UA) manager. Projects without any members are open to everyone; assigning the first
+ * member restricts the project.
+ *
+ * Project sets are bitmaps indexed by project ID. They are never modified after being published:
+ * writers replace them under the index lock, readers take no lock. The index is loaded at startup
+ * and kept current by ProjectMemberController and ProjectController writes and by user changes;
+ * writes bypassing those (SQL maintenance, other instances) are picked up by {@link #reload()}.
+ */
+@Slf4j
+@Component
+public class ProjectAccessIndex {
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile Map<Long, BitSet> membersByUser = Map.of();
+    private volatile Map<Long, BitSet> managedByUser = Map.of();
+    private volatile Map<Long, Integer> memberCounts = Map.of();
+    private volatile Map<Long, long[]> managersByProject = Map.of();
+    private volatile Set<Long> directors = Set.of();
+
+    public ProjectAccessIndex(JdbcTemplate jdbcTemplate, MeterRegistry registry) {
+        this.jdbcTemplate = jdbcTemplate;
+        Gauge.builder("binderua.project.access.users", this, i -> i.membersByUser.size())
+                .description("Users with project memberships in the access index").register(registry);
+    }
+
+    /**
+     * Load the whole index from the database.
+     */
+    @PostConstruct
+    public synchronized void reload() {
+        Map<Long, BitSet> members = new ConcurrentHashMap<>();
+        Map<Long, Integer> counts = new ConcurrentHashMap<>();
+        jdbcTemplate.query("select project_id, user_id from project_members", rs -> {
+            long projectId = rs.getLong("project_id");
+            members.computeIfAbsent(rs.getLong("user_id"), k -> new BitSet()).set(bit(projectId));
+            counts.merge(projectId, 1, Integer::sum);
+        });
+
+        Map<Long, BitSet> managed = new ConcurrentHashMap<>();
+        Map<Long, long[]> managers = new ConcurrentHashMap<>();
+        jdbcTemplate.query("select id, manager_id, manager_ua_id from projects", rs -> {
+            long projectId = rs.getLong("id");
+            long[] ids = managerIds(rs.getObject("manager_id", Long.class), rs.getObject("manager_ua_id", Long.class));
+            managers.put(projectId, ids);
+            for (long managerId : ids) {
+                managed.computeIfAbsent(managerId, k -> new BitSet()).set(bit(projectId));
+            }
+        });
+
+        Set<Long> directorIds = ConcurrentHashMap.newKeySet();
+        directorIds.addAll(jdbcTemplate.queryForList("select id from users where role = ?", Long.class,
+                User.Role.DYREKTOR.name()));
+
+        membersByUser = members;
+        memberCounts = counts;
+        managedByUser = managed;
+        managersByProject = managers;
+        directors = directorIds;
+        log.info("Project access index loaded: {} members, {} projects, {} directors",
+                members.size(), managers.size(), directorIds.size());
+    }
+
+    /**
+     * Check whether a user may book time on a project.
+     */
+    public boolean canBook(Long userId, Long projectId) {
+        if (userId == null || projectId == null) {
+            return false;
+        }
+        if (directors.contains(userId) || !memberCounts.containsKey(projectId)) {
+            return true;
+        }
+        int bit = bit(projectId);
+        return contains(membersByUser.get(userId), bit) || contains(managedByUser.get(userId), bit);
+    }
+
+    /**
+     * Keep the projects a user may book on, in their original order.
+     */
+    public List<Project> filterBookable(Long userId, List<Project> projects) {
+        return projects.stream().filter(p -> canBook(userId, p.getId())).toList();
+    }
+
+    /**
+     * Apply a membership change written by ProjectMemberController.
+     */
+    public synchronized void onMembersChanged(Long projectId, MemberChangeDto change) {
+        int bit = bit(projectId);
+        Map<Long, BitSet> members = new ConcurrentHashMap<>(membersByUser);
+        change.getAdded().forEach(userId -> update(members, userId, b -> b.set(bit)));
+        change.getRemoved().forEach(userId -> update(members, userId, b -> b.clear(bit)));
+        Map<Long, Integer> counts = new ConcurrentHashMap<>(memberCounts);
+        int count = counts.getOrDefault(projectId, 0) + change.getAdded().size() - change.getRemoved().size();
+        if (count > 0) {
+            counts.put(projectId, count);
+        } else {
+            counts.remove(projectId);
+        }
+        membersByUser = members;
+        memberCounts = counts;
+    }
+
+    /**
+     * Record the managers of a created or updated project.
+     */
+    public synchronized void onProjectSaved(Project project) {
+        long[] ids = managerIds(project.getManagerId(), project.getManagerUaId());
+        replaceManagers(project.getId(), ids);
+    }
+
+    /**
+     * Forget a deleted project, including its memberships.
+     */
+    public synchronized void onProjectDeleted(Long projectId) {
+        replaceManagers(projectId, new long[0]);
+        int bit = bit(projectId);
+        Map<Long, BitSet> members = new ConcurrentHashMap<>(membersByUser);
+        members.keySet().forEach(userId -> update(members, userId, b -> b.clear(bit)));
+        Map<Long, Integer> counts = new ConcurrentHashMap<>(memberCounts);
+        counts.remove(projectId);
+        membersByUser = members;
+        memberCounts = counts;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void onUserChanged(UserChangedEvent event) {
+        List<String> roles = jdbcTemplate.queryForList("select role from users where id = ?", String.class,
+                event.userId());
+        Set<Long> directorIds = ConcurrentHashMap.newKeySet();
+        directorIds.addAll(directors);
+        if (roles.contains(User.Role.DYREKTOR.name())) {
+            directorIds.add(event.userId());
+        } else {
+            directorIds.remove(event.userId());
+        }
+        directors = directorIds;
+    }
+
+    private void replaceManagers(Long projectId, long[] ids) {
+        int bit = bit(projectId);
+        Map<Long, BitSet> managed = new ConcurrentHashMap<>(managedByUser);
+        Map<Long, long[]> managers = new ConcurrentHashMap<>(managersByProject);
+        long[] previous = managers.remove(projectId);
+        if (previous != null) {
+            for (long managerId : previous) {
+                update(managed, managerId, b -> b.clear(bit));
+            }
+        }
+        if (ids.length > 0) {
+            managers.put(projectId, ids);
+            for (long managerId : ids) {
+                update(managed, managerId, b -> b.set(bit));
+            }
+        }
+        managedByUser = managed;
+        managersByProject = managers;
+    }
+
+    /**
+     * Copy-on-write update of one user's bitmap; empty bitmaps are dropped.
+     */
+    private static void update(Map<Long, BitSet> index, Long userId, Consumer<BitSet> change) {
+        BitSet current = index.get(userId);
+        BitSet copy = current != null ? (BitSet) current.clone() : new BitSet();
+        change.accept(copy);
+        if (copy.isEmpty()) {
+            index.remove(userId);
+        } else {
+            index.put(userId, copy);
+        }
+    }
+
+    private static boolean contains(BitSet projects, int bit) {
+        return projects != null && projects.get(bit);
+    }
+
+    private static long[] managerIds(Long managerId, Long managerUaId) {
+        if (managerId == null) {
+            return managerUaId == null ? new long[0] : new long[] { managerUaId };
+        }
+        return managerUaId == null || managerUaId.equals(managerId)
+                ? new long[] { managerId }
+                : new long[] { managerId, managerUaId };
+    }
+
+    private static int bit(long projectId) {
+        return Math.toIntExact(projectId);
+    }
+}
@@ -0,0 +1,205 @@
+package com.timetracker.service;
+
+import com.timetracker.dto.ReportDto;
+import com.timetracker.event.TimeEntryChangedEvent;
+import com.timetracker.event.UserChangedEvent;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import java.time.YearMonth;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Size-bounded LRU cache of generated monthly reports.
+ *
+ * Keys carry the exchange rate snapshot version and a data version of the user's month,
+ * so a changed entry, user or rate produces a new key instead of requiring a lookup-and-delete;
+ * stale reports are never served and simply age out of the LRU order.
+ *
+ * Data versions come from one global sequence. An entry write bumps its (user, month);
+ * a user change bumps the user, which covers all of the user's months. The effective version
+ * of a month is the larger of both. Versions are bumped after commit, and ReportService reads the
+ * version before loading data, so a report is never stored under a version newer than its data.
+ *
+ * Reports of closed months with approved entries only are kept until evicted or invalidated.
+ * All other reports expire after the configured TTL, which bounds staleness from writes that
+ * bypass TimeEntryService (SQL maintenance, other instances).
+ *
+ * The version maps are bounded too: once they hold more than four times max-entries versions,
+ * those of months and users without a cached report are dropped and a version floor, which
+ * absent months and users default to, is raised past them. Versions therefore never decrease,
+ * and reports computed under a dropped version can no longer be hit.
+ *
+ * Reports are copied on the way in and out, so callers may modify what they get.
+ */
+@Component
+public class ReportCache {
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<MonthKey, Long> monthVersions = new ConcurrentHashMap<>();
+    private final Map<Long, Long> userVersions = new ConcurrentHashMap<>();
+    // Version of months and users without an entry in the maps above
+    private volatile long versionFloor;
+    private final int maxVersions;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final Map<Key, Cached> reports;
+
+    // Time to live of reports of open months or months with unapproved entries (default: 60 s)
+    @Value("${binderua.report-cache.open-ttl-seconds:60}")
+    private long openTtlSeconds;
+
+    public ReportCache(@Value("${binderua.report-cache.max-entries:1000}") int maxEntries, MeterRegistry registry) {
+        // Cached reports reference at most 2 * maxEntries versions, so a prune frees at least half
+        this.maxVersions = 4 * maxEntries;
+        this.reports = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Cached> eldest) {
+                return size() > maxEntries;
+            }
+        };
+        FunctionCounter.builder("binderua.report.cache.requests", hits, LongAdder::doubleValue)
+                .tag("result", "hit").description("Monthly report cache lookups").register(registry);
+        FunctionCounter.builder("binderua.report.cache.requests", misses, LongAdder::doubleValue)
+                .tag("result", "miss").description("Monthly report cache lookups").register(registry);
+        Gauge.builder("binderua.report.cache.hit.ratio", this, ReportCache::hitRatio)
+                .description("Share of monthly report lookups served from the cache").register(registry);
+        Gauge.builder("binderua.report.cache.size", this, ReportCache::size)
+                .description("Cached monthly reports").register(registry);
+    }
+
+    /**
+     * Build the cache key for a report, capturing the current data version of the user's month.
+     * Must be called before the report data is loaded.
+     */
+    public Key key(Long userId, int year, int month, String currency, long rateVersion, boolean summary) {
+        YearMonth period = YearMonth.of(year, month);
+        long floor = versionFloor;
+        long dataVersion = Math.max(
+                monthVersions.getOrDefault(new MonthKey(userId, period), floor),
+                userVersions.getOrDefault(userId, floor));
+        return new Key(userId, period, currency, rateVersion, dataVersion, summary);
+    }
+
+    /**
+     * Copy of the cached report for the key, or null on a miss.
+     */
+    public ReportDto get(Key key) {
+        Cached cached;
+        synchronized (reports) {
+            cached = reports.get(key);
+            if (cached != null && cached.expiresAt() < System.nanoTime()) {
+                reports.remove(key);
+                cached = null;
+            }
+        }
+        if (cached == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return copy(cached.report());
+    }
+
+    /**
+     * Store a report.
+     *
+     * @param settled True if the month is closed and all entries are approved; such reports do not expire
+     */
+    public void put(Key key, ReportDto report, boolean settled) {
+        long expiresAt = settled ? Long.MAX_VALUE : System.nanoTime() + openTtlSeconds * 1_000_000_000L;
+        synchronized (reports) {
+            reports.put(key, new Cached(copy(report), expiresAt));
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTimeEntryChanged(TimeEntryChangedEvent event) {
+        monthVersions.merge(new MonthKey(event.userId(), event.period()), sequence.incrementAndGet(), Math::max);
+        pruneVersionsIfFull();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        userVersions.merge(event.userId(), sequence.incrementAndGet(), Math::max);
+        pruneVersionsIfFull();
+    }
+
+    /**
+     * Drop the versions of months and users without a live cached report once the maps are full.
+     *
+     * Versions of months and users that do have one are first pinned at their current value, then the
+     * floor is raised to the latest version, then the rest is removed. Every effective version stays the
+     * same or grows at each step, so a report can never be served under a version older than its data.
+     */
+    private synchronized void pruneVersionsIfFull() {
+        if (monthVersions.size() + userVersions.size() <= maxVersions) {
+            return;
+        }
+        Set<MonthKey> liveMonths = new HashSet<>();
+        Set<Long> liveUsers = new HashSet<>();
+        long now = System.nanoTime();
+        synchronized (reports) {
+            reports.entrySet().removeIf(e -> e.getValue().expiresAt() < now);
+            for (Key key : reports.keySet()) {
+                liveMonths.add(new MonthKey(key.userId(), key.period()));
+                liveUsers.add(key.userId());
+            }
+        }
+        long oldFloor = versionFloor;
+        // A concurrent bump wins over the pinned value, since it is newer
+        liveMonths.forEach(month -> monthVersions.putIfAbsent(month, oldFloor));
+        liveUsers.forEach(user -> userVersions.putIfAbsent(user, oldFloor));
+        long newFloor = sequence.get();
+        versionFloor = newFloor;
+        // Versions bumped after reading the new floor are above it and stay
+        monthVersions.entrySet().removeIf(e -> !liveMonths.contains(e.getKey()) && e.getValue() <= newFloor);
+        userVersions.entrySet().removeIf(e -> !liveUsers.contains(e.getKey()) && e.getValue() <= newFloor);
+    }
+
+    /**
+     * Copy of a report down to its entries, so the cached instance is never shared with callers.
+     */
+    private static ReportDto copy(ReportDto report) {
+        return report.toBuilder()
+                .items(report.getItems() == null ? null
+                        : report.getItems().stream().map(item -> item.toBuilder().build()).toList())
+                .totals(report.getTotals() == null ? null : report.getTotals().toBuilder().build())
+                .rateInfo(report.getRateInfo() == null ? null : report.getRateInfo().toBuilder().build())
+                .build();
+    }
+
+    double hitRatio() {
+        double total = hits.doubleValue() + misses.doubleValue();
+        return total == 0 ? 0 : hits.doubleValue() / total;
+    }
+
+    int size() {
+        synchronized (reports) {
+            return reports.size();
+        }
+    }
+
+    /**
+     * Cache key; summary distinguishes totals-only reports from reports with all entries.
+     */
+    public record Key(Long userId, YearMonth period, String currency, long rateVersion, long dataVersion,
+                      boolean summary) {
+    }
+
+    private record MonthKey(Long userId, YearMonth period) {
+    }
+
+    private record Cached(ReportDto report, long expiresAt) {
+    }
+}
@@ -0,0 +1,355 @@
+package com.timetracker.service;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.timetracker.config.ReportingDataSource;
+import com.timetracker.dto.ReportDto;
+import com.timetracker.dto.ReportJobDto;
+import com.timetracker.dto.ReportJobRequest;
+import com.timetracker.entity.User;
+import com.timetracker.exception.ConflictException;
+import com.timetracker.exception.InvalidRequestException;
+import com.timetracker.exception.ResourceNotFoundException;
+import com.timetracker.repository.UserRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs long report requests (month ranges, all-user payroll) in the background so they do not
+ * hold a request thread. Jobs run on a bounded executor; each user may have a limited number of
+ * queued or running jobs. Finished results are written as JSON to a local directory, converted to
+ * XLSX on first download, and deleted together with the job after the configured TTL.
+ *
+ * Jobs are kept in memory and are only visible to the user who submitted them.
+ */
+@Slf4j
+@Service
+public class ReportJobService {
+
+    public enum Status {
+        QUEUED, RUNNING, DONE, FAILED, CANCELLED
+    }
+
+    private final ReportService reportService;
+    private final UserRepository userRepository;
+    private final ReportXlsxWriter xlsxWriter;
+    private final ObjectMapper objectMapper;
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor executor;
+    private final Path resultDir;
+
+    // Queued or running jobs allowed per user (default: 2)
+    @Value("${binderua.report-jobs.max-per-user:2}")
+    private int maxJobsPerUser;
+
+    // Months a single job may span (default: 36)
+    @Value("${binderua.report-jobs.max-months:36}")
+    private int maxMonths;
+
+    // Minutes finished jobs and their files are kept (default: 60)
+    @Value("${binderua.report-jobs.ttl-minutes:60}")
+    private long ttlMinutes;
+
+    public ReportJobService(ReportService reportService, UserRepository userRepository, ReportXlsxWriter xlsxWriter,
+                            ObjectMapper objectMapper,
+                            @Value("${binderua.report-jobs.threads:2}") int threads,
+                            @Value("${binderua.report-jobs.queue-capacity:20}") int queueCapacity,
+                            @Value("${binderua.report-jobs.dir:${java.io.tmpdir}/binderua-report-jobs}") String dir) {
+        this.reportService = reportService;
+        this.userRepository = userRepository;
+        this.xlsxWriter = xlsxWriter;
+        this.objectMapper = objectMapper;
+        // Report job threads query through the reporting connection pool
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), ReportingDataSource.threadFactory("report-job-"));
+        this.resultDir = Path.of(dir);
+        try {
+            Files.createDirectories(resultDir);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create report job directory " + resultDir, e);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Submit a report job.
+     *
+     * @param request Month range, currency and optional user
+     * @param owner   Username of the submitting user
+     * @param privileged True if the owner may request reports of all users
+     * @return Status of the queued job
+     * @throws InvalidRequestException if the range is invalid or the currency has no rates
+     * @throws RejectedExecutionException if the owner's job limit or the queue capacity is reached
+     */
+    public ReportJobDto submit(ReportJobRequest request, String owner, boolean privileged) {
+        YearMonth from = YearMonth.of(request.getFromYear(), request.getFromMonth());
+        YearMonth to = YearMonth.of(request.getToYear(), request.getToMonth());
+        if (to.isBefore(from)) {
+            throw new InvalidRequestException("Report range ends before it starts");
+        }
+        long months = from.until(to, ChronoUnit.MONTHS) + 1;
+        if (months > maxMonths) {
+            throw new InvalidRequestException("Report range exceeds " + maxMonths + " months");
+        }
+        if (request.getUserId() == null && !privileged) {
+            throw new AccessDeniedException("Reports of all users require MANAGER or DYREKTOR role");
+        }
+
+        String currency = request.getCurrency() != null ? request.getCurrency() : "PLN";
+        // Fail the request, not every user-month of the job, on an unknown currency
+        reportService.checkCurrency(currency);
+
+        List<Long> userIds = request.getUserId() != null
+                ? List.of(request.getUserId())
+                : userRepository.findAll().stream().filter(u -> Boolean.TRUE.equals(u.getActive()))
+                        .map(User::getId).sorted().toList();
+        Job job = new Job(UUID.randomUUID().toString(), owner, (int) (userIds.size() * months));
+
+        synchronized (jobs) {
+            long active = jobs.values().stream()
+                    .filter(j -> j.owner.equals(owner) && !j.isFinished())
+                    .count();
+            if (active >= maxJobsPerUser) {
+                throw new RejectedExecutionException("Too many report jobs in progress (limit " + maxJobsPerUser + ")");
+            }
+            jobs.put(job.id, job);
+        }
+        try {
+            job.future = executor.submit(() -> run(job, userIds, from, to, currency));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.id);
+            throw new RejectedExecutionException("Report job queue is full");
+        }
+        return job.toDto();
+    }
+
+    /**
+     * Status of a job owned by the given user.
+     */
+    public ReportJobDto getStatus(String id, String owner) {
+        return find(id, owner).toDto();
+    }
+
+    /**
+     * Cancel a queued or running job, or discard a finished one with its result files.
+     */
+    public void cancel(String id, String owner) {
+        Job job = find(id, owner);
+        job.cancel();
+        jobs.remove(id);
+        deleteFiles(job);
+    }
+
+    /**
+     * Result file of a finished job.
+     *
+     * @param format json or xlsx
+     * @return Path of the result in the requested format
+     * @throws ConflictException if the job is not finished successfully
+     * @throws InvalidRequestException if the format is unknown
+     */
+    public Path getResult(String id, String owner, String format) {
+        Job job = find(id, owner);
+        if (job.status != Status.DONE) {
+            throw new ConflictException("Report job is not finished: " + job.status);
+        }
+        Path json = jsonFile(job);
+        if ("json".equalsIgnoreCase(format)) {
+            return json;
+        }
+        if (!"xlsx".equalsIgnoreCase(format)) {
+            throw new InvalidRequestException("Unsupported report format: " + format);
+        }
+        Path xlsx = resultDir.resolve(job.id + ".xlsx");
+        synchronized (job) {
+            if (!Files.exists(xlsx)) {
+                // Reports are read back one at a time, never as a whole list
+                Path tmp = resultDir.resolve(job.id + ".xlsx.tmp");
+                try {
+                    try (MappingIterator<ReportDto> reports = objectMapper.readerFor(ReportDto.class)
+                            .readValues(json.toFile());
+                         OutputStream out = Files.newOutputStream(tmp)) {
+                        xlsxWriter.write(reports, out);
+                    }
+                    Files.move(tmp, xlsx);
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Cannot write XLSX report", e);
+                }
+            }
+        }
+        return xlsx;
+    }
+
+    /**
+     * Remove jobs finished longer than the TTL ago together with their files.
+     */
+    @Scheduled(fixedDelayString = "${binderua.report-jobs.cleanup-interval-ms:300000}")
+    public void cleanup() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(Duration.ofMinutes(ttlMinutes));
+        jobs.values().removeIf(job -> {
+            if (job.isFinished() && job.finishedAt.isBefore(cutoff)) {
+                deleteFiles(job);
+                return true;
+            }
+            return false;
+        });
+    }
+
+    private void run(Job job, List<Long> userIds, YearMonth from, YearMonth to, String currency) {
+        if (!job.start()) {
+            return;
+        }
+        Path tmp = resultDir.resolve(job.id + ".json.tmp");
+        try {
+            if (!writeReports(job, userIds, from, to, currency, tmp)) {
+                Files.deleteIfExists(tmp);
+                return;
+            }
+            Files.move(tmp, jsonFile(job));
+            if (!job.finish(Status.DONE, null)) {
+                // Cancelled while the result was written
+                deleteFiles(job);
+            }
+        } catch (Exception e) {
+            log.error("Report job {} failed", job.id, e);
+            job.finish(Status.FAILED, e.getMessage());
+        }
+    }
+
+    /**
+     * Write the job's reports as a JSON array, each one as soon as it is built, so memory does not
+     * grow with the job. Reports are computed uncached, so exports do not evict interactive reports.
+     *
+     * @return False if the job was cancelled
+     */
+    private boolean writeReports(Job job, List<Long> userIds, YearMonth from, YearMonth to, String currency,
+                                 Path file) throws IOException {
+        try (SequenceWriter out = objectMapper.writer().writeValuesAsArray(file.toFile())) {
+            for (Long userId : userIds) {
+                for (YearMonth ym = from; !ym.isAfter(to); ym = ym.plusMonths(1)) {
+                    if (Thread.currentThread().isInterrupted() || job.status == Status.CANCELLED) {
+                        return false;
+                    }
+                    out.write(reportService.generateUncachedReport(userId, ym.getYear(), ym.getMonthValue(), currency));
+                    job.completed.incrementAndGet();
+                }
+            }
+        }
+        return true;
+    }
+
+    private Job find(String id, String owner) {
+        Job job = jobs.get(id);
+        if (job == null) {
+            throw new ResourceNotFoundException("Report job not found");
+        }
+        if (!job.owner.equals(owner)) {
+            throw new AccessDeniedException("Report job belongs to another user");
+        }
+        return job;
+    }
+
+    private Path jsonFile(Job job) {
+        return resultDir.resolve(job.id + ".json");
+    }
+
+    private void deleteFiles(Job job) {
+        for (String suffix : List.of(".json", ".json.tmp", ".xlsx", ".xlsx.tmp")) {
+            try {
+                Files.deleteIfExists(resultDir.resolve(job.id + suffix));
+            } catch (IOException e) {
+                log.warn("Cannot delete report job file {}{}", job.id, suffix, e);
+            }
+        }
+    }
+
+    private static final class Job {
+        final String id;
+        final String owner;
+        final int total;
+        final AtomicInteger completed = new AtomicInteger();
+        final LocalDateTime createdAt = LocalDateTime.now();
+        volatile Status status = Status.QUEUED;
+        volatile LocalDateTime finishedAt;
+        volatile String error;
+        volatile Future<?> future;
+
+        Job(String id, String owner, int total) {
+            this.id = id;
+            this.owner = owner;
+            this.total = total;
+        }
+
+        synchronized boolean start() {
+            if (status != Status.QUEUED) {
+                return false;
+            }
+            status = Status.RUNNING;
+            return true;
+        }
+
+        synchronized boolean finish(Status result, String message) {
+            if (status != Status.RUNNING) {
+                return false;
+            }
+            status = result;
+            error = message;
+            finishedAt = LocalDateTime.now();
+            return true;
+        }
+
+        synchronized void cancel() {
+            if (!isFinished()) {
+                status = Status.CANCELLED;
+                finishedAt = LocalDateTime.now();
+                if (future != null) {
+                    future.cancel(true);
+                }
+            }
+        }
+
+        boolean isFinished() {
+            return status == Status.DONE || status == Status.FAILED || status == Status.CANCELLED;
+        }
+
+        ReportJobDto toDto() {
+            return ReportJobDto.builder()
+                    .id(id)
+                    .status(status.name())
+                    .completed(completed.get())
+                    .total(total)
+                    .createdAt(createdAt)
+                    .finishedAt(finishedAt)
+                    .error(error)
+                    .build();
+        }
+    }
+}
@@ -4,14 +4,20 @@ import com.timetracker.dto.ReportDto;
 import com.timetracker.dto.TimeEntryDto;
 import com.timetracker.entity.TimeEntry;
 import com.timetracker.entity.User;
+import com.timetracker.exception.InvalidRequestException;
+import com.timetracker.exception.ResourceNotFoundException;
 import com.timetracker.repository.TimeEntryRepository;
+import com.timetracker.repository.TimeEntryTotals;
 import com.timetracker.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 /**
@@ -19,7 +25,7 @@ import java.util.stream.Collectors;
  * Implements contract-specific cost calculation formulas:
  * - UoP (Umowa o Pracę): totalHours * (monthlyGrossRate / 160)
  * - B2B: totalHours * hourlyNetRate
- * Supports currency conversion (PLN, UAH, USD) and locale-specific formatting.
+ * Supports currency conversion (PLN, UAH, USD) with effective-dated rates and locale-specific formatting.
  */
 @Service
 @RequiredArgsConstructor
@@ -28,43 +34,218 @@ public class ReportService {
     private final TimeEntryRepository timeEntryRepository;
     private final UserRepository userRepository;
     private final CurrencyService currencyService;
+    private final ExchangeRateService exchangeRateService;
+    private final ReportCache reportCache;
+    private final SingleFlight singleFlight;
 
     // Standard monthly working hours for UoP cost calculation (default: 160)
     @Value("${binderua.rates.monthly-hours:160}")
     private int monthlyHours;
 
-    // Currency conversion rate from PLN to UAH (configurable in application.yml)
-    @Value("${binderua.rates.pl-to-uah}")
-    private BigDecimal plToUahRate;
+
+    /**
+     * Level of detail of a monthly report.
+     * SUMMARY: totals and rate info only, computed from aggregates without loading entries.
+     * PAGED: totals plus one page of entries with a cursor for the next page.
+     * FULL: totals plus all entries.
+     */
+    public enum Detail {
+        SUMMARY, PAGED, FULL;
+
+        public static Detail parse(String value) {
+            try {
+                return value == null ? FULL : valueOf(value.toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new InvalidRequestException("Unsupported report detail: " + value);
+            }
+        }
+    }
 
     /**
      * Generate a comprehensive monthly report for a user including all time entries and cost calculations.
      * Calculates total hours worked and total cost based on user's contract type (UoP or B2B).
      * Converts currency if requested and formats according to locale.
+     * Results are served from {@link ReportCache} while the month's data and the rates are unchanged;
+     * concurrent identical requests are coalesced through {@link SingleFlight}.
      *
      * @param userId ID of user to generate report for
      * @param year Report year (e.g., 2025)
      * @param month Report month (1-12)
      * @param currency Desired currency for report (PLN, UAH, USD)
      * @return Complete monthly report with entries, totals, and rate information
-     * @throws RuntimeException if user not found
+     * @throws ResourceNotFoundException if user not found
+     * @throws InvalidRequestException if the currency has no rates
      */
     public ReportDto generateMonthlyReport(Long userId, int year, int month, String currency) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        return generateMonthlyReport(userId, year, month, currency, Detail.FULL, null, 0);
+    }
+
+    /**
+     * Generate a monthly report with the requested level of detail.
+     * Totals are identical in all modes; SUMMARY and PAGED never load the whole month's entries.
+     *
+     * @param userId ID of user to generate report for
+     * @param year Report year (e.g., 2025)
+     * @param month Report month (1-12)
+     * @param currency Desired currency for report (PLN, UAH, USD)
+     * @param detail Level of detail
+     * @param cursor PAGED only: nextCursor of the previous page, null for the first page
+     * @param pageSize PAGED only: maximum number of entries in the page
+     * @return Monthly report; in PAGED mode nextCursor is set if more entries follow
+     * @throws ResourceNotFoundException if user not found
+     * @throws InvalidRequestException if the currency has no rates or the cursor is invalid
+     */
+    public ReportDto generateMonthlyReport(Long userId, int year, int month, String currency,
+                                           Detail detail, String cursor, int pageSize) {
+        ExchangeRateSnapshot rates = exchangeRateService.current();
+        checkCurrency(currency, rates);
+        boolean summary = detail != Detail.FULL;
+        ReportCache.Key key = reportCache.key(userId, year, month, currency, rates.getVersion(), summary);
+        ReportDto report = reportCache.get(key);
+        if (report == null) {
+            // Concurrent requests for the same report share one computation
+            report = singleFlight.execute(key, () -> summary
+                    ? buildSummaryReport(key, rates)
+                    : buildMonthlyReport(key, rates, true));
+        }
+        if (detail != Detail.PAGED) {
+            return report;
+        }
+
+        // Page of entries on top of the (cached) summary; the cached instance is not modified
+        YearMonth ym = YearMonth.of(year, month);
+        ReportCursor after = ReportCursor.parse(cursor);
+        List<TimeEntry> page = timeEntryRepository.findPageByUserIdAndDateBetween(userId, ym.atDay(1),
+                ym.atEndOfMonth(), after != null ? after.date() : null, after != null ? after.id() : null,
+                pageSize + 1);
+        boolean more = page.size() > pageSize;
+        List<TimeEntry> items = more ? page.subList(0, pageSize) : page;
+        return ReportDto.builder()
+                .userId(report.getUserId())
+                .year(report.getYear())
+                .month(report.getMonth())
+                .items(items.stream().map(TimeEntryDto::from).collect(Collectors.toList()))
+                .totals(report.getTotals())
+                .currency(report.getCurrency())
+                .rateInfo(report.getRateInfo())
+                .nextCursor(more ? ReportCursor.of(items.get(items.size() - 1)).toString() : null)
+                .build();
+    }
 
-        List<TimeEntry> entries = timeEntryRepository.findByUserIdAndYearAndMonth(userId, year, month);
+    /**
+     * Full monthly report computed from the database without touching {@link ReportCache}.
+     * For bulk exports, whose user-months would otherwise evict the reports of interactive users.
+     *
+     * @param userId ID of user to generate report for
+     * @param year Report year (e.g., 2025)
+     * @param month Report month (1-12)
+     * @param currency Desired currency for report (PLN, UAH, USD)
+     * @return Complete monthly report with entries, totals, and rate information
+     * @throws ResourceNotFoundException if user not found
+     * @throws InvalidRequestException if the currency has no rates
+     */
+    public ReportDto generateUncachedReport(Long userId, int year, int month, String currency) {
+        ExchangeRateSnapshot rates = exchangeRateService.current();
+        checkCurrency(currency, rates);
+        ReportCache.Key key = new ReportCache.Key(userId, YearMonth.of(year, month), currency,
+                rates.getVersion(), 0, false);
+        return buildMonthlyReport(key, rates, false);
+    }
+
+    /**
+     * Reject a report currency without PLN rates before any report work starts.
+     *
+     * @param currency Requested report currency
+     * @throws InvalidRequestException if the currency is neither PLN nor has a PLN rate
+     */
+    public void checkCurrency(String currency) {
+        checkCurrency(currency, exchangeRateService.current());
+    }
+
+    private static void checkCurrency(String currency, ExchangeRateSnapshot rates) {
+        if (currency == null || currency.isBlank()) {
+            throw new InvalidRequestException("Currency is required");
+        }
+        if (!"PLN".equalsIgnoreCase(currency) && !rates.hasPair("PLN", currency)) {
+            throw new InvalidRequestException("Unsupported currency: " + currency);
+        }
+    }
+
+    private ReportDto buildMonthlyReport(ReportCache.Key key, ExchangeRateSnapshot rates, boolean cache) {
+        User user = userRepository.findById(key.userId())
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+
+        List<TimeEntry> entries = timeEntryRepository.findByUserIdAndYearAndMonth(
+                key.userId(), key.period().getYear(), key.period().getMonthValue());
         
         List<TimeEntryDto> entryDtos = entries.stream()
                 .map(TimeEntryDto::from)
                 .collect(Collectors.toList());
 
-        BigDecimal totalHours = entries.stream()
-                .map(TimeEntry::getTotalHours)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        BigDecimal totalHours;
+        BigDecimal totalCostPLN;
+        try {
+            HoursTotal hours = HoursTotal.of(entries);
+            totalHours = hours.toDecimal();
+            totalCostPLN = calculateTotalCost(user, hours);
+        } catch (ArithmeticException e) {
+            // Values outside the fixed-point range: use the BigDecimal formulas
+            totalHours = entries.stream()
+                    .map(TimeEntry::getTotalHours)
+                    .filter(Objects::nonNull)
+                    .reduce(BigDecimal.ZERO, BigDecimal::add);
+            totalCostPLN = calculateTotalCostDecimal(user, totalHours);
+        }
+
+        ReportDto report = assembleReport(key, rates, totalHours, totalCostPLN, entryDtos);
+        if (cache) {
+            boolean allApproved = entries.stream().allMatch(e -> e.getStatus() == TimeEntry.Status.ZATWIERDZONY);
+            reportCache.put(key, report, isSettled(key.period(), entries.size(), allApproved));
+        }
+        return report;
+    }
+
+    /**
+     * Totals-only report from the aggregate query; entries are never loaded.
+     * The hour sum has the same scale as summing the entries, so totals match the FULL report exactly.
+     */
+    private ReportDto buildSummaryReport(ReportCache.Key key, ExchangeRateSnapshot rates) {
+        User user = userRepository.findById(key.userId())
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+
+        TimeEntryTotals sums = timeEntryRepository.sumByUserIdAndDateBetween(
+                key.userId(), key.period().atDay(1), key.period().atEndOfMonth());
+
+        BigDecimal totalHours;
+        BigDecimal totalCostPLN;
+        try {
+            HoursTotal hours = HoursTotal.of(sums.totalHours());
+            totalHours = hours.toDecimal();
+            totalCostPLN = calculateTotalCost(user, hours);
+        } catch (ArithmeticException e) {
+            totalHours = sums.totalHours() != null ? sums.totalHours() : BigDecimal.ZERO;
+            totalCostPLN = calculateTotalCostDecimal(user, totalHours);
+        }
+
+        ReportDto report = assembleReport(key, rates, totalHours, totalCostPLN, null);
+        reportCache.put(key, report,
+                isSettled(key.period(), sums.entryCount(), sums.approvedCount() == sums.entryCount()));
+        return report;
+    }
 
-        BigDecimal totalCostPLN = calculateTotalCost(user, entries);
-        BigDecimal totalCostConverted = convertCurrency(totalCostPLN, currency);
+    /**
+     * Convert the PLN cost with the rates of the report month and build the report.
+     */
+    private ReportDto assembleReport(ReportCache.Key key, ExchangeRateSnapshot rates, BigDecimal totalHours,
+                                     BigDecimal totalCostPLN, List<TimeEntryDto> items) {
+        String currency = key.currency();
+        // Rates of the report month, resolved once from the snapshot the cache key was built with
+        LocalDate rateDate = key.period().atDay(1);
+        ExchangeRateSnapshot.Rate plToUah = rates.rateOn("PLN", "UAH", rateDate);
+        ExchangeRateSnapshot.Rate applied = "PLN".equalsIgnoreCase(currency)
+                ? plToUah
+                : rates.rateOn("PLN", currency, rateDate);
+        BigDecimal totalCostConverted = convertCurrency(totalCostPLN, currency, applied);
 
         ReportDto.ReportTotals totals = ReportDto.ReportTotals.builder()
                 .totalHours(totalHours)
@@ -73,22 +254,32 @@ public class ReportService {
                 .build();
 
         ReportDto.RateInfo rateInfo = ReportDto.RateInfo.builder()
-                .plToUahRate(plToUahRate)
-                .source("config")
-                .updatedAt(java.time.LocalDateTime.now().toString())
+                .plToUahRate(plToUah.rate())
+                .rate("PLN".equalsIgnoreCase(currency) ? null : applied.rate())
+                .effectiveFrom(applied.effectiveFrom().toString())
+                .source(applied.source())
+                .updatedAt(applied.updatedAt().toString())
                 .build();
 
         return ReportDto.builder()
-                .userId(userId)
-                .year(year)
-                .month(month)
-                .items(entryDtos)
+                .userId(key.userId())
+                .year(key.period().getYear())
+                .month(key.period().getMonthValue())
+                .items(items)
                 .totals(totals)
                 .currency(currency)
                 .rateInfo(rateInfo)
                 .build();
     }
 
+    /**
+     * A month is settled when it has ended and all of its entries are approved.
+     * Its report only changes through an explicit write, so it may stay cached indefinitely.
+     */
+    private static boolean isSettled(YearMonth period, long entryCount, boolean allApproved) {
+        return entryCount > 0 && allApproved && period.isBefore(YearMonth.now());
+    }
+
     /**
      * Calculate total cost based on user's contract type and rates.
      * 
@@ -98,23 +289,41 @@ public class ReportService {
      * B2B calculation: totalHours * hourlyNetRate
      * Example: 35 hours * 120 PLN = 4200 PLN
      *
+     * Computed in fixed point (see FixedPointMoney): the UoP hourly rate is rounded HALF_UP to
+     * minor units, the product is exact. The result keeps the scale the BigDecimal formula
+     * would produce (hours scale + rate scale), so totals serialize identically.
+     *
      * @param user User entity with contract type and rates
-     * @param entries List of time entries to calculate cost for
+     * @param hours Sum of hours of the entries to calculate cost for
      * @return Total cost in PLN (base currency)
+     * @throws ArithmeticException if a rate does not fit the fixed-point representation
      */
-    private BigDecimal calculateTotalCost(User user, List<TimeEntry> entries) {
-        BigDecimal totalHours = entries.stream()
-                .map(TimeEntry::getTotalHours)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
+    private BigDecimal calculateTotalCost(User user, HoursTotal hours) {
         if (user.getContractType() == User.ContractType.UOP && user.getUopGrossRate() != null) {
             // UoP: Calculate hourly rate by dividing monthly rate by standard hours (160)
             // Then multiply by actual hours worked
+            long monthlyRate = FixedPointMoney.toFixed(user.getUopGrossRate(), FixedPointMoney.MINOR_SCALE);
+            long hourlyRate = FixedPointMoney.hourlyRate(monthlyRate, monthlyHours);
+            return hours.cost(hourlyRate, FixedPointMoney.MINOR_SCALE);
+        } else if (user.getContractType() == User.ContractType.B2B && user.getB2bHourlyNetRate() != null) {
+            // B2B: Simple multiplication of hours by hourly rate
+            BigDecimal rate = user.getB2bHourlyNetRate();
+            return hours.cost(FixedPointMoney.toFixed(rate, FixedPointMoney.MINOR_SCALE), Math.max(rate.scale(), 0));
+        }
+
+        return BigDecimal.ZERO;
+    }
+
+    /**
+     * BigDecimal variant of {@link #calculateTotalCost(User, HoursTotal)} for values outside the
+     * fixed-point range (more than two fraction digits or long overflow).
+     */
+    private BigDecimal calculateTotalCostDecimal(User user, BigDecimal totalHours) {
+        if (user.getContractType() == User.ContractType.UOP && user.getUopGrossRate() != null) {
             BigDecimal hourlyRate = user.getUopGrossRate()
                     .divide(BigDecimal.valueOf(monthlyHours), 2, RoundingMode.HALF_UP);
             return totalHours.multiply(hourlyRate);
         } else if (user.getContractType() == User.ContractType.B2B && user.getB2bHourlyNetRate() != null) {
-            // B2B: Simple multiplication of hours by hourly rate
             return totalHours.multiply(user.getB2bHourlyNetRate());
         }
 
@@ -122,22 +331,20 @@ public class ReportService {
     }
 
     /**
-     * Convert amount from PLN to requested currency using configured exchange rates.
-     * Note: USD conversion uses simplified rate (1 PLN = 0.25 USD) - should use actual rate in production.
+     * Convert amount from PLN to requested currency using the effective-dated rate of the report month.
+     * Rates are units of target currency per 1 PLN (e.g. USD 0.25 for the former fixed 4.0 PLN per USD).
      *
      * @param amountPLN Amount in PLN (base currency)
      * @param currency Target currency (PLN, UAH, USD)
+     * @param rate PLN to target currency rate in effect for the report month
      * @return Converted amount in target currency
      */
-    private BigDecimal convertCurrency(BigDecimal amountPLN, String currency) {
-        if ("UAH".equalsIgnoreCase(currency)) {
-            return currencyService.convertPLNtoUAH(amountPLN);
-        } else if ("USD".equalsIgnoreCase(currency)) {
-            // Simplified USD conversion (would use actual rate in production)
-            return amountPLN.divide(BigDecimal.valueOf(4.0), 2, RoundingMode.HALF_UP);
+    private BigDecimal convertCurrency(BigDecimal amountPLN, String currency, ExchangeRateSnapshot.Rate rate) {
+        if ("PLN".equalsIgnoreCase(currency)) {
+            // Base currency, no conversion
+            return amountPLN;
         }
-        // Default to PLN (no conversion)
-        return amountPLN;
+        return currencyService.convert(amountPLN, rate.rate());
     }
 
     /**
@@ -157,4 +364,78 @@ public class ReportService {
                 return "PL";
         }
     }
+
+    /**
+     * Sum of entry hours in hundredths, remembering the scale BigDecimal addition would yield
+     * (0 for no entries, otherwise the largest entry scale). Entries without hours (UNIT tasks) are skipped.
+     */
+    record HoursTotal(long hundredths, int scale) {
+
+        static HoursTotal of(List<TimeEntry> entries) {
+            long sum = 0;
+            int scale = 0;
+            for (TimeEntry entry : entries) {
+                BigDecimal hours = entry.getTotalHours();
+                if (hours == null) {
+                    continue;
+                }
+                sum = Math.addExact(sum, FixedPointMoney.toFixed(hours, FixedPointMoney.HOURS_SCALE));
+                scale = Math.max(scale, hours.scale());
+            }
+            return new HoursTotal(sum, scale);
+        }
+
+        /**
+         * From an SQL sum (null when no entry has hours), which has the scale of the column.
+         */
+        static HoursTotal of(BigDecimal sum) {
+            if (sum == null) {
+                return new HoursTotal(0, 0);
+            }
+            return new HoursTotal(FixedPointMoney.toFixed(sum, FixedPointMoney.HOURS_SCALE), Math.max(sum.scale(), 0));
+        }
+
+        BigDecimal toDecimal() {
+            return FixedPointMoney.toDecimal(hundredths, FixedPointMoney.HOURS_SCALE)
+                    .setScale(scale, RoundingMode.UNNECESSARY);
+        }
+
+        /**
+         * Exact cost of these hours at a rate in minor units; rateScale is the scale of the
+         * original rate so the result matches totalHours.multiply(rate).
+         */
+        BigDecimal cost(long rateMinor, int rateScale) {
+            long cost = FixedPointMoney.cost(hundredths, rateMinor);
+            return FixedPointMoney.toDecimal(cost, FixedPointMoney.COST_SCALE)
+                    .setScale(scale + rateScale, RoundingMode.UNNECESSARY);
+        }
+    }
+
+    /**
+     * Keyset position in a report's entry list, serialized as "date:id".
+     */
+    private record ReportCursor(LocalDate date, Long id) {
+
+        static ReportCursor of(TimeEntry entry) {
+            return new ReportCursor(entry.getDate(), entry.getId());
+        }
+
+        static ReportCursor parse(String value) {
+            if (value == null || value.isBlank()) {
+                return null;
+            }
+            try {
+                int separator = value.indexOf(':');
+                return new ReportCursor(LocalDate.parse(value.substring(0, separator)),
+                        Long.parseLong(value.substring(separator + 1)));
+            } catch (RuntimeException e) {
+                throw new InvalidRequestException("Invalid report cursor: " + value);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return date + ":" + id;
+        }
+    }
 }
@@ -0,0 +1,97 @@
+package com.timetracker.service;
+
+import com.timetracker.dto.ReportDto;
+import com.timetracker.dto.TimeEntryDto;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Font;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.springframework.stereotype.Component;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.util.Iterator;
+
+/**
+ * Writes monthly reports as an XLSX workbook with a "Summary" sheet (one row per report)
+ * and an "Entries" sheet (one row per time entry). Uses the streaming POI workbook so
+ * large payroll exports keep only a window of rows in memory.
+ */
+@Component
+public class ReportXlsxWriter {
+
+    private static final String[] SUMMARY_HEADER = {
+            "User ID", "Year", "Month", "Currency", "Total hours", "Total cost", "Formatted cost"
+    };
+    private static final String[] ENTRY_HEADER = {
+            "User ID", "Date", "Project ID", "Task ID", "Hours", "Quantity", "Status", "Description"
+    };
+
+    /**
+     * Write the workbook, consuming the reports one at a time; the caller may stream them from a file.
+     */
+    public void write(Iterator<ReportDto> reports, OutputStream out) throws IOException {
+        try (SXSSFWorkbook workbook = new SXSSFWorkbook(500)) {
+            CellStyle headerStyle = workbook.createCellStyle();
+            Font bold = workbook.createFont();
+            bold.setBold(true);
+            headerStyle.setFont(bold);
+
+            Sheet summary = workbook.createSheet("Summary");
+            header(summary, SUMMARY_HEADER, headerStyle);
+            Sheet entries = workbook.createSheet("Entries");
+            header(entries, ENTRY_HEADER, headerStyle);
+
+            int summaryRow = 1;
+            int entryRow = 1;
+            while (reports.hasNext()) {
+                ReportDto report = reports.next();
+                Row row = summary.createRow(summaryRow++);
+                row.createCell(0).setCellValue(report.getUserId());
+                row.createCell(1).setCellValue(report.getYear());
+                row.createCell(2).setCellValue(report.getMonth());
+                row.createCell(3).setCellValue(report.getCurrency());
+                if (report.getTotals() != null) {
+                    number(row, 4, report.getTotals().getTotalHours());
+                    number(row, 5, report.getTotals().getTotalCost());
+                    row.createCell(6).setCellValue(report.getTotals().getFormattedCost());
+                }
+                if (report.getItems() == null) {
+                    continue;
+                }
+                for (TimeEntryDto entry : report.getItems()) {
+                    Row e = entries.createRow(entryRow++);
+                    e.createCell(0).setCellValue(entry.getUserId());
+                    e.createCell(1).setCellValue(entry.getDate().toString());
+                    if (entry.getProjectId() != null) {
+                        e.createCell(2).setCellValue(entry.getProjectId());
+                    }
+                    e.createCell(3).setCellValue(entry.getTaskId());
+                    number(e, 4, entry.getTotalHours());
+                    number(e, 5, entry.getQuantity());
+                    e.createCell(6).setCellValue(entry.getStatus());
+                    if (entry.getDescription() != null) {
+                        e.createCell(7).setCellValue(entry.getDescription());
+                    }
+                }
+            }
+            workbook.write(out);
+            workbook.dispose();
+        }
+    }
+
+    private static void header(Sheet sheet, String[] titles, CellStyle style) {
+        Row row = sheet.createRow(0);
+        for (int i = 0; i < titles.length; i++) {
+            row.createCell(i).setCellValue(titles[i]);
+            row.getCell(i).setCellStyle(style);
+        }
+    }
+
+    private static void number(Row row, int column, BigDecimal value) {
+        if (value != null) {
+            row.createCell(column).setCellValue(value.doubleValue());
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.timetracker.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Component;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent identical computations. The first caller for a key runs the computation
+ * on its own thread; callers arriving while it is in flight wait for the same result instead of
+ * repeating the work. Once the computation completes the key is released, so later callers
+ * compute again (or hit a cache in front of this).
+ *
+ * Keys must implement equals/hashCode and identify the computation completely (e.g. a record
+ * of all report parameters). Different kinds of computation can share this instance as long as
+ * their key types differ.
+ *
+ * Failures are propagated to every waiting caller. Waiting callers give up after the configured
+ * timeout; the computation itself is not interrupted.
+ */
+@Component
+public class SingleFlight {
+
+    private final Map<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Counter executed;
+    private final Counter coalesced;
+
+    // Maximum time a coalesced caller waits for the in-flight computation (default: 30 s)
+    @Value("${binderua.single-flight.timeout-ms:30000}")
+    private long timeoutMs;
+
+    public SingleFlight(MeterRegistry registry) {
+        this.executed = Counter.builder("binderua.single.flight.calls").tag("result", "executed")
+                .description("Computations run through single-flight coalescing").register(registry);
+        this.coalesced = Counter.builder("binderua.single.flight.calls").tag("result", "coalesced")
+                .description("Computations run through single-flight coalescing").register(registry);
+    }
+
+    /**
+     * Run the computation for the key, or join the one already running for it.
+     *
+     * @param key         Identity of the computation
+     * @param computation Computation to run if none is in flight for the key
+     * @return Result of the (possibly shared) computation
+     * @throws RuntimeException the computation's exception
+     * @throws TaskRejectedException if waiting for the in-flight computation timed out or was interrupted
+     */
+    @SuppressWarnings("unchecked")
+    public <V> V execute(Object key, Supplier<V> computation) {
+        CompletableFuture<Object> own = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, own);
+        if (existing != null) {
+            coalesced.increment();
+            return (V) await(existing);
+        }
+
+        executed.increment();
+        try {
+            V result = computation.get();
+            own.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            own.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, own);
+        }
+    }
+
+    private Object await(CompletableFuture<Object> future) {
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new RuntimeException(e.getCause());
+        } catch (TimeoutException e) {
+            // Answered like other reporting saturation: 503 with Retry-After
+            throw new TaskRejectedException("Timed out waiting for an identical request in progress");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TaskRejectedException("Interrupted while waiting for an identical request in progress");
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.timetracker.service;
+
+import com.timetracker.entity.ExchangeRate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Default rate provider serving the fixed rates from application.yml.
+ * Each rate is valid from 1970-01-01, so every report month resolves to it
+ * until newer effective-dated rows are added to exchange_rates.
+ */
+@Component
+@ConditionalOnProperty(name = "binderua.rates.provider", havingValue = "stub", matchIfMissing = true)
+public class StubExchangeRateProvider implements ExchangeRateProvider {
+
+    private static final LocalDate EFFECTIVE_FROM = LocalDate.of(1970, 1, 1);
+
+    // Exchange rate PLN to UAH (default: 10.5)
+    @Value("${binderua.rates.pl-to-uah}")
+    private BigDecimal plToUahRate;
+
+    // Exchange rate PLN to USD (default: 0.25, i.e. 1 USD = 4 PLN)
+    @Value("${binderua.rates.pl-to-usd:0.25}")
+    private BigDecimal plToUsdRate;
+
+    @Override
+    public List<ExchangeRate> fetchRates() {
+        return List.of(rate("UAH", plToUahRate), rate("USD", plToUsdRate));
+    }
+
+    private static ExchangeRate rate(String quote, BigDecimal rate) {
+        return ExchangeRate.builder()
+                .baseCurrency("PLN")
+                .quoteCurrency(quote)
+                .effectiveFrom(EFFECTIVE_FROM)
+                .rate(rate)
+                .source("config")
+                .build();
+    }
+}
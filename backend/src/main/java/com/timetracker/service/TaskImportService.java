@@ -0,0 +1,236 @@
+package com.timetracker.service;
+
+import com.timetracker.dto.TaskImportResultDto;
+import com.timetracker.entity.Project;
+import com.timetracker.entity.Task;
+import com.timetracker.exception.InvalidRequestException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Bulk import of tasks into a project from JSON or CSV.
+ *
+ * All rows are validated with the same number and billing rules as single task writes.
+ * Duplicate numbers are detected in memory against the project's existing numbers and
+ * earlier rows of the same import, so the unique index is not hit row by row. Valid rows
+ * are inserted in one JDBC batch; rows inserted concurrently by someone else are reported
+ * as duplicates instead of failing the batch.
+ */
+@Service
+@RequiredArgsConstructor
+public class TaskImportService {
+
+    public static final String CREATED = "CREATED";
+    public static final String DUPLICATE = "DUPLICATE";
+    public static final String INVALID = "INVALID";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TaskMetadataCache taskMetadataCache;
+
+    // Maximum rows per import request (default: 5000)
+    @Value("${binderua.task-import.max-rows:5000}")
+    private int maxRows;
+
+    /**
+     * Import tasks given as JSON objects (same fields as a single task create).
+     */
+    @Transactional
+    public TaskImportResultDto importTasks(Project project, List<Task> tasks) {
+        List<ImportRow> rows = new ArrayList<>(tasks.size());
+        for (int i = 0; i < tasks.size(); i++) {
+            rows.add(new ImportRow(i + 1, tasks.get(i), null));
+        }
+        return importRows(project, rows);
+    }
+
+    /**
+     * Import tasks from CSV with a header row. Columns (case-insensitive, in any order):
+     * number, title, description, billingType, unitPrice, unitName, active.
+     */
+    @Transactional
+    public TaskImportResultDto importCsv(Project project, String csv) {
+        return importRows(project, parseCsv(csv));
+    }
+
+    private TaskImportResultDto importRows(Project project, List<ImportRow> rows) {
+        if (rows.size() > maxRows) {
+            throw new InvalidRequestException("Task import exceeds " + maxRows + " rows");
+        }
+        String prefix = TaskValidation.requiredPrefix(project.getNumber());
+        Set<String> numbers = new HashSet<>(jdbcTemplate.queryForList(
+                "select number from tasks where project_id = ? and number is not null", String.class, project.getId()));
+
+        TaskImportResultDto.RowResult[] results = new TaskImportResultDto.RowResult[rows.size()];
+        List<Integer> accepted = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++) {
+            ImportRow row = rows.get(i);
+            Task task = row.task();
+            String error = row.error() != null ? row.error() : check(task, prefix);
+            if (error != null) {
+                results[i] = result(row, INVALID, null, error);
+            } else if (!numbers.add(task.getNumber())) {
+                results[i] = result(row, DUPLICATE, null, "Task number already exists: " + task.getNumber());
+            } else {
+                task.setProjectId(project.getId());
+                accepted.add(i);
+            }
+        }
+
+        if (!accepted.isEmpty()) {
+            insert(rows, results, accepted);
+        }
+
+        int imported = 0;
+        for (TaskImportResultDto.RowResult r : results) {
+            if (CREATED.equals(r.getStatus())) {
+                imported++;
+            }
+        }
+        return TaskImportResultDto.builder()
+                .total(rows.size())
+                .imported(imported)
+                .rejected(rows.size() - imported)
+                .rows(List.of(results))
+                .build();
+    }
+
+    private void insert(List<ImportRow> rows, TaskImportResultDto.RowResult[] results, List<Integer> accepted) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batch = new ArrayList<>(accepted.size());
+        for (int i : accepted) {
+            Task t = rows.get(i).task();
+            batch.add(new Object[] { t.getTitle().trim(), t.getDescription(), t.getProjectId(), t.getNumber(),
+                    t.getBillingType().name(), t.getUnitPrice(), t.getUnitName(), t.isActive(), now, now });
+        }
+        int[] counts = jdbcTemplate.batchUpdate(
+                "insert into tasks (title, description, project_id, number, billing_type, unit_price, unit_name,"
+                        + " active, created_at, updated_at) values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)"
+                        + " on conflict do nothing",
+                batch);
+
+        Long projectId = rows.get(accepted.get(0)).task().getProjectId();
+        Map<String, Long> ids = new HashMap<>();
+        jdbcTemplate.query("select id, number from tasks where project_id = ? and number = any(?)",
+                rs -> {
+                    ids.put(rs.getString("number"), rs.getLong("id"));
+                },
+                projectId, accepted.stream().map(i -> rows.get(i).task().getNumber()).toArray(String[]::new));
+
+        for (int k = 0; k < accepted.size(); k++) {
+            int i = accepted.get(k);
+            ImportRow row = rows.get(i);
+            if (counts[k] == 0) {
+                results[i] = result(row, DUPLICATE, null, "Task number already exists: " + row.task().getNumber());
+                continue;
+            }
+            Task task = row.task();
+            task.setId(ids.get(task.getNumber()));
+            taskMetadataCache.put(task);
+            results[i] = result(row, CREATED, task.getId(), null);
+        }
+    }
+
+    /**
+     * Field checks the single-task endpoints get from bean validation and the column sizes,
+     * followed by the shared number and billing rules.
+     */
+    private static String check(Task task, String prefix) {
+        if (task == null) {
+            return "Empty row";
+        }
+        if (task.getNumber() != null) {
+            task.setNumber(task.getNumber().trim());
+        }
+        if (task.getTitle() == null || task.getTitle().isBlank()) {
+            return "Task title is required";
+        }
+        if (task.getTitle().trim().length() > 255) {
+            return "Task title must be at most 255 characters";
+        }
+        if (task.getDescription() != null && task.getDescription().length() > 1000) {
+            return "Task description must be at most 1000 characters";
+        }
+        if (task.getNumber() != null && task.getNumber().length() > 32) {
+            return "Task number must be at most 32 characters";
+        }
+        if (task.getUnitName() != null && task.getUnitName().length() > 64) {
+            return "Unit name must be at most 64 characters";
+        }
+        BigDecimal price = task.getUnitPrice();
+        if (price != null && (price.signum() < 0 || price.precision() - price.scale() > 8)) {
+            return "Unit price must be between 0 and 99999999.99";
+        }
+        return TaskValidation.check(task, prefix);
+    }
+
+    private static TaskImportResultDto.RowResult result(ImportRow row, String status, Long taskId, String message) {
+        return TaskImportResultDto.RowResult.builder()
+                .line(row.line())
+                .number(row.task() != null ? row.task().getNumber() : null)
+                .status(status)
+                .taskId(taskId)
+                .message(message)
+                .build();
+    }
+
+    private static List<ImportRow> parseCsv(String csv) {
+        List<ImportRow> rows = new ArrayList<>();
+        CsvReader reader = new CsvReader(new StringReader(csv != null ? csv : ""));
+        CsvReader.Record header = reader.next();
+        if (header == null) {
+            return rows;
+        }
+        Map<String, Integer> columns = CsvReader.columns(header);
+        if (!columns.containsKey("number") || !columns.containsKey("title")) {
+            throw new InvalidRequestException("CSV header must contain number and title columns");
+        }
+
+        for (CsvReader.Record record; (record = reader.next()) != null; ) {
+            Task task = new Task();
+            task.setActive(true);
+            try {
+                task.setNumber(record.get(columns, "number"));
+                task.setTitle(record.get(columns, "title"));
+                task.setDescription(record.get(columns, "description"));
+                String billingType = record.get(columns, "billingType");
+                task.setBillingType(billingType != null ? billingType(billingType) : Task.BillingType.HOURLY);
+                String unitPrice = record.get(columns, "unitPrice");
+                task.setUnitPrice(unitPrice != null ? new BigDecimal(unitPrice.replace(',', '.')) : null);
+                task.setUnitName(record.get(columns, "unitName"));
+                String active = record.get(columns, "active");
+                task.setActive(active == null || Boolean.parseBoolean(active));
+                rows.add(new ImportRow(record.line(), task, null));
+            } catch (NumberFormatException e) {
+                rows.add(new ImportRow(record.line(), task, "Invalid unit price"));
+            } catch (IllegalArgumentException e) {
+                rows.add(new ImportRow(record.line(), task, e.getMessage()));
+            }
+        }
+        return rows;
+    }
+
+    private static Task.BillingType billingType(String value) {
+        try {
+            return Task.BillingType.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown billing type: " + value.trim());
+        }
+    }
+
+    private record ImportRow(int line, Task task, String error) {
+    }
+}
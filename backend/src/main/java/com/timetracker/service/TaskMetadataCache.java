@@ -0,0 +1,90 @@
+package com.timetracker.service;
+
+import com.timetracker.entity.Task;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory map of the task fields needed to validate time entry writes
+ * (project, billing type, active flag, unit price), so the write path does not query tasks.
+ *
+ * Loaded at startup and refreshed by TaskController writes. A task missing from the map
+ * (e.g. created by another instance) is loaded once on first use.
+ */
+@Slf4j
+@Component
+public class TaskMetadataCache {
+
+    private static final String SELECT = "select id, project_id, billing_type, active, unit_price from tasks";
+
+    private static final RowMapper<TaskMetadata> MAPPER = (rs, i) -> new TaskMetadata(
+            rs.getLong("id"),
+            rs.getLong("project_id"),
+            Task.BillingType.valueOf(rs.getString("billing_type")),
+            rs.getBoolean("active"),
+            rs.getBigDecimal("unit_price"));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<Long, TaskMetadata> tasks = new ConcurrentHashMap<>();
+
+    public TaskMetadataCache(JdbcTemplate jdbcTemplate, MeterRegistry registry) {
+        this.jdbcTemplate = jdbcTemplate;
+        Gauge.builder("binderua.task.metadata.size", tasks, Map::size)
+                .description("Tasks in the write-path metadata cache").register(registry);
+    }
+
+    @PostConstruct
+    public void reload() {
+        List<TaskMetadata> all = jdbcTemplate.query(SELECT, MAPPER);
+        tasks.clear();
+        all.forEach(t -> tasks.put(t.id(), t));
+        log.info("Task metadata cache loaded: {} tasks", all.size());
+    }
+
+    /**
+     * Metadata of a task, or null if the task does not exist.
+     */
+    public TaskMetadata get(Long taskId) {
+        if (taskId == null) {
+            return null;
+        }
+        TaskMetadata cached = tasks.get(taskId);
+        if (cached != null) {
+            return cached;
+        }
+        List<TaskMetadata> loaded = jdbcTemplate.query(SELECT + " where id = ?", MAPPER, taskId);
+        if (loaded.isEmpty()) {
+            return null;
+        }
+        tasks.put(taskId, loaded.get(0));
+        return loaded.get(0);
+    }
+
+    /**
+     * Record a created or updated task.
+     */
+    public void put(Task task) {
+        tasks.put(task.getId(), new TaskMetadata(task.getId(), task.getProjectId(), task.getBillingType(),
+                task.isActive(), task.getUnitPrice()));
+    }
+
+    /**
+     * Forget a deleted task.
+     */
+    public void evict(Long taskId) {
+        tasks.remove(taskId);
+    }
+
+    public record TaskMetadata(Long id, Long projectId, Task.BillingType billingType, boolean active,
+                               BigDecimal unitPrice) {
+    }
+}
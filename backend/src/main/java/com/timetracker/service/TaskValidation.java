@@ -0,0 +1,60 @@
+package com.timetracker.service;
+
+import com.timetracker.entity.Task;
+
+/**
+ * Task number and billing rules shared by single task writes and bulk import.
+ */
+public final class TaskValidation {
+
+    private TaskValidation() {
+    }
+
+    /**
+     * Prefix every task number of a project must start with: the first segment of the
+     * project number plus a dash (e.g. "20031-00" -> "20031-").
+     */
+    public static String requiredPrefix(String projectNumber) {
+        String number = projectNumber != null ? projectNumber : "";
+        int firstDash = number.indexOf('-');
+        return (firstDash > 0 ? number.substring(0, firstDash) : number) + "-";
+    }
+
+    /**
+     * Check the number and billing fields of a task.
+     *
+     * @param task           Task to check; unit fields are cleared for HOURLY tasks
+     * @param requiredPrefix Prefix from {@link #requiredPrefix(String)}
+     * @return Error message, or null if the task is valid
+     */
+    public static String check(Task task, String requiredPrefix) {
+        if (task.getNumber() == null || task.getNumber().isBlank()) {
+            return "Task number is required";
+        }
+        if (!task.getNumber().startsWith(requiredPrefix)) {
+            return "Task number must start with " + requiredPrefix;
+        }
+        String suffix = task.getNumber().substring(requiredPrefix.length());
+        if (suffix.isEmpty()) {
+            return "Task number suffix is required after " + requiredPrefix;
+        }
+        if (suffix.length() > 5) {
+            return "Task number suffix must be at most 5 characters";
+        }
+
+        if (task.getBillingType() == Task.BillingType.UNIT) {
+            if (task.getUnitPrice() == null) {
+                return "Unit price is required for UNIT billing";
+            }
+            if (task.getUnitName() == null || task.getUnitName().isBlank()) {
+                return "Unit name is required for UNIT billing";
+            }
+        } else {
+            // Clear unit fields for HOURLY
+            task.setBillingType(Task.BillingType.HOURLY);
+            task.setUnitPrice(null);
+            task.setUnitName(null);
+        }
+        return null;
+    }
+}
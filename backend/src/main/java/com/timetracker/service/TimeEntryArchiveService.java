@@ -0,0 +1,181 @@
+package com.timetracker.service;
+
+import com.timetracker.entity.TimeEntry;
+import com.timetracker.repository.TimeEntryArchiveCodec;
+import com.timetracker.repository.TimeEntryRowMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.math.BigDecimal;
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Moves approved time entries of closed months from time_entries into time_entries_archive.
+ * Keeps the hot table and its indexes at the size of the active working set; archived entries
+ * stay readable through TimeEntryRepository, which merges archive rows into its list queries.
+ *
+ * Only entries with status ZATWIERDZONY older than the configured horizon are moved.
+ * Entries still pending or rejected stay in the hot table, so a month may be split between both tables.
+ * Each user/month is archived in its own transaction: the archive upsert and the hot-row delete commit together.
+ */
+@Slf4j
+@Service
+public class TimeEntryArchiveService {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TimeEntryArchiveCodec archiveCodec;
+    private final TransactionTemplate transactionTemplate;
+
+    // Enables the scheduled archival run (default: true)
+    @Value("${binderua.archive.enabled:true}")
+    private boolean enabled;
+
+    // Months kept in the hot table, counted back from the current month (default: 24)
+    @Value("${binderua.archive.horizon-months:24}")
+    private int horizonMonths;
+
+    // Number of user/month groups archived per query round (default: 500)
+    @Value("${binderua.archive.batch-size:500}")
+    private int batchSize;
+
+    public TimeEntryArchiveService(JdbcTemplate jdbcTemplate, TimeEntryArchiveCodec archiveCodec,
+                                   PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.archiveCodec = archiveCodec;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Scheduled archival run. Processes batches of user/month groups until nothing
+     * older than the horizon is left or a group fails.
+     */
+    @Scheduled(cron = "${binderua.archive.cron:0 30 2 * * *}")
+    public void archiveScheduled() {
+        if (!enabled) {
+            return;
+        }
+        int archived = archiveOlderThan(YearMonth.now().minusMonths(horizonMonths).atDay(1));
+        if (archived > 0) {
+            log.info("Archived {} approved time entries older than {} months", archived, horizonMonths);
+        }
+    }
+
+    /**
+     * Archive all approved entries dated before the cutoff.
+     *
+     * @param cutoff First day that stays in the hot table
+     * @return Number of entries moved to the archive
+     */
+    public int archiveOlderThan(LocalDate cutoff) {
+        int total = 0;
+        while (true) {
+            List<Object[]> groups = jdbcTemplate.query(
+                    "select distinct user_id, cast(date_trunc('month', date) as date) as period from time_entries"
+                            + " where status = 'ZATWIERDZONY' and date < ? order by 1, 2 limit ?",
+                    (rs, i) -> new Object[] { rs.getLong("user_id"), rs.getDate("period").toLocalDate() },
+                    cutoff, batchSize);
+            if (groups.isEmpty()) {
+                return total;
+            }
+            for (Object[] group : groups) {
+                Long userId = (Long) group[0];
+                YearMonth period = YearMonth.from((LocalDate) group[1]);
+                try {
+                    Integer moved = transactionTemplate.execute(status -> archiveMonth(userId, period, cutoff));
+                    total += moved != null ? moved : 0;
+                } catch (RuntimeException e) {
+                    log.error("Archiving time entries of user {} for {} failed", userId, period, e);
+                    return total;
+                }
+            }
+            if (groups.size() < batchSize) {
+                return total;
+            }
+        }
+    }
+
+    /**
+     * Archive approved entries of one user and month. Must run inside a transaction.
+     * Entries are grouped per task and project and merged into existing archive rows.
+     */
+    private int archiveMonth(Long userId, YearMonth period, LocalDate cutoff) {
+        LocalDate to = period.atEndOfMonth().isBefore(cutoff) ? period.atEndOfMonth() : cutoff.minusDays(1);
+        List<TimeEntry> entries = jdbcTemplate.query(
+                "select " + TimeEntryRowMapper.COLUMNS + " from time_entries"
+                        + " where user_id = ? and date >= ? and date <= ? and status = 'ZATWIERDZONY'"
+                        + " order by date, id for update",
+                TimeEntryRowMapper.INSTANCE, userId, period.atDay(1), to);
+        if (entries.isEmpty()) {
+            return 0;
+        }
+
+        Map<List<Long>, List<TimeEntry>> byTaskAndProject = new LinkedHashMap<>();
+        for (TimeEntry e : entries) {
+            byTaskAndProject.computeIfAbsent(Arrays.asList(e.getTaskId(), e.getProjectId()),
+                    k -> new ArrayList<>()).add(e);
+        }
+        for (Map.Entry<List<Long>, List<TimeEntry>> group : byTaskAndProject.entrySet()) {
+            upsertArchiveRow(userId, group.getKey().get(0), group.getKey().get(1), period.atDay(1), group.getValue());
+        }
+
+        Long[] ids = entries.stream().map(TimeEntry::getId).toArray(Long[]::new);
+        jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement("delete from time_entries where id = any(?)");
+            Array array = con.createArrayOf("bigint", ids);
+            ps.setArray(1, array);
+            return ps;
+        });
+        return entries.size();
+    }
+
+    private void upsertArchiveRow(Long userId, Long taskId, Long projectId, LocalDate period, List<TimeEntry> entries) {
+        List<Object[]> existing = jdbcTemplate.query(
+                "select id, payload from time_entries_archive"
+                        + " where user_id = ? and period = ? and task_id = ? and coalesce(project_id, 0) = ? for update",
+                (rs, i) -> new Object[] { rs.getLong("id"), rs.getBytes("payload") },
+                userId, period, taskId, projectId != null ? projectId : 0L);
+
+        List<TimeEntry> merged = new ArrayList<>(entries);
+        if (!existing.isEmpty()) {
+            merged.addAll(archiveCodec.decode((byte[]) existing.get(0)[1], userId, taskId));
+            merged.sort(Comparator.comparing(TimeEntry::getDate).thenComparing(TimeEntry::getId));
+        }
+
+        byte[] payload = archiveCodec.encode(merged);
+        BigDecimal totalHours = sum(merged, TimeEntry::getTotalHours);
+        BigDecimal totalQuantity = sum(merged, TimeEntry::getQuantity);
+
+        if (existing.isEmpty()) {
+            jdbcTemplate.update(
+                    "insert into time_entries_archive"
+                            + " (user_id, task_id, project_id, period, entry_count, total_hours, total_quantity, payload)"
+                            + " values (?, ?, ?, ?, ?, ?, ?, ?)",
+                    userId, taskId, projectId, period, merged.size(), totalHours, totalQuantity, payload);
+        } else {
+            jdbcTemplate.update(
+                    "update time_entries_archive set entry_count = ?, total_hours = ?, total_quantity = ?,"
+                            + " payload = ?, archived_at = current_timestamp where id = ?",
+                    merged.size(), totalHours, totalQuantity, payload, existing.get(0)[0]);
+        }
+    }
+
+    private static BigDecimal sum(List<TimeEntry> entries, Function<TimeEntry, BigDecimal> field) {
+        return entries.stream().map(field).filter(Objects::nonNull).reduce(null,
+                (a, b) -> a == null ? b : a.add(b));
+    }
+}
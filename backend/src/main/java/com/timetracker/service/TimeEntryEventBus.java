@@ -0,0 +1,167 @@
+package com.timetracker.service;
+
+import com.timetracker.entity.Project;
+import com.timetracker.entity.User;
+import com.timetracker.event.TimeEntryChangedEvent;
+import com.timetracker.repository.ProjectRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * In-process fan-out of committed time entry changes to Server-Sent Events subscribers.
+ *
+ * Subscribers receive changes of their own entries and, for managers, newly submitted
+ * entries in the projects they manage (directors: all projects). Publishing never blocks:
+ * each subscriber has a bounded queue drained by a small shared pool. When a subscriber
+ * falls behind and its queue overflows, the backlog is dropped and replaced by a single
+ * "resync" event telling the client to reload. A periodic heartbeat keeps idle
+ * connections open through proxies and detects closed clients.
+ */
+@Slf4j
+@Service
+public class TimeEntryEventBus {
+
+    private static final String RESYNC = "resync";
+
+    private final ProjectRepository projectRepository;
+    private final Map<Long, Subscriber> subscribers = new ConcurrentHashMap<>();
+    private final AtomicLong subscriberIds = new AtomicLong();
+    private final ExecutorService drainPool;
+
+    // Events buffered per subscriber before its backlog is replaced by a resync event (default: 64)
+    @Value("${binderua.sse.buffer-size:64}")
+    private int bufferSize;
+
+    // Lifetime of a stream; clients reconnect afterwards (default: 30 min)
+    @Value("${binderua.sse.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    public TimeEntryEventBus(ProjectRepository projectRepository, MeterRegistry registry,
+                             @Value("${binderua.sse.drain-threads:2}") int drainThreads) {
+        this.projectRepository = projectRepository;
+        Gauge.builder("binderua.sse.subscribers", subscribers, Map::size)
+                .description("Open time entry event streams").register(registry);
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.drainPool = Executors.newFixedThreadPool(drainThreads, r -> {
+            Thread t = new Thread(r, "sse-drain-" + threadNumber.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        subscribers.values().forEach(s -> s.emitter.complete());
+        drainPool.shutdownNow();
+    }
+
+    /**
+     * Open a stream for a user.
+     *
+     * @param user Authenticated user
+     * @return Emitter to return from the controller
+     */
+    public SseEmitter subscribe(User user) {
+        Set<Long> projectIds = user.getRole() == User.Role.MANAGER
+                ? Stream.concat(projectRepository.findByManagerId(user.getId()).stream(),
+                                projectRepository.findByManagerUaId(user.getId()).stream())
+                        .map(Project::getId).collect(Collectors.toUnmodifiableSet())
+                : Set.of();
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscriber subscriber = new Subscriber(subscriberIds.incrementAndGet(), user.getId(), user.getRole(),
+                projectIds, emitter, new ArrayBlockingQueue<>(bufferSize));
+        emitter.onCompletion(() -> subscribers.remove(subscriber.id));
+        emitter.onTimeout(() -> subscribers.remove(subscriber.id));
+        emitter.onError(e -> subscribers.remove(subscriber.id));
+        subscribers.put(subscriber.id, subscriber);
+        return emitter;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTimeEntryChanged(TimeEntryChangedEvent event) {
+        for (Subscriber subscriber : subscribers.values()) {
+            if (subscriber.wants(event)) {
+                enqueue(subscriber, SseEmitter.event().name("time-entry").data(event));
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${binderua.sse.heartbeat-ms:15000}")
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers.values()) {
+            enqueue(subscriber, SseEmitter.event().comment("heartbeat"));
+        }
+    }
+
+    private void enqueue(Subscriber subscriber, SseEmitter.SseEventBuilder event) {
+        if (!subscriber.queue.offer(event)) {
+            subscriber.queue.clear();
+            subscriber.queue.offer(SseEmitter.event().name(RESYNC).data(RESYNC));
+        }
+        if (subscriber.draining.compareAndSet(false, true)) {
+            drainPool.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            SseEmitter.SseEventBuilder event;
+            while ((event = subscriber.queue.poll()) != null) {
+                subscriber.emitter.send(event);
+            }
+        } catch (IOException | IllegalStateException e) {
+            // Client went away; the emitter callbacks may not fire for a broken connection
+            log.debug("Time entry event stream {} closed: {}", subscriber.id, e.getMessage());
+            subscribers.remove(subscriber.id);
+            subscriber.emitter.completeWithError(e);
+            return;
+        } finally {
+            subscriber.draining.set(false);
+        }
+        // Events offered after the last poll but before the flag was cleared
+        if (!subscriber.queue.isEmpty() && subscriber.draining.compareAndSet(false, true)) {
+            drainPool.execute(() -> drain(subscriber));
+        }
+    }
+
+    private record Subscriber(long id, Long userId, User.Role role, Set<Long> projectIds, SseEmitter emitter,
+                              BlockingQueue<SseEmitter.SseEventBuilder> queue, AtomicBoolean draining) {
+
+        Subscriber(long id, Long userId, User.Role role, Set<Long> projectIds, SseEmitter emitter,
+                   BlockingQueue<SseEmitter.SseEventBuilder> queue) {
+            this(id, userId, role, projectIds, emitter, queue, new AtomicBoolean());
+        }
+
+        boolean wants(TimeEntryChangedEvent event) {
+            if (userId.equals(event.userId())) {
+                return true;
+            }
+            if (event.type() != TimeEntryChangedEvent.Type.CREATED) {
+                return false;
+            }
+            return role == User.Role.DYREKTOR
+                    || (event.entry().getProjectId() != null && projectIds.contains(event.entry().getProjectId()));
+        }
+    }
+}
@@ -0,0 +1,344 @@
+package com.timetracker.service;
+
+import com.timetracker.dto.TimeEntryImportResultDto;
+import com.timetracker.entity.Task;
+import com.timetracker.entity.TimeEntry;
+import com.timetracker.event.UserChangedEvent;
+import com.timetracker.exception.InvalidRequestException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Bulk import of historical time entries from CSV, for migrating teams from spreadsheets.
+ *
+ * The upload is streamed: records are read and validated in chunks (user, task, date, amount
+ * against the task's billing type) and each chunk of valid rows is loaded into a temporary staging
+ * table through PostgreSQL COPY FROM STDIN. One INSERT ... SELECT then merges the staged rows
+ * into time_entries, skipping rows identical to existing entries, so an interrupted import can be
+ * repeated. The whole import is one transaction.
+ *
+ * Validation uses in-memory user and task maps; no statement runs per row (an unknown task ID
+ * is looked up once). Rejected rows are
+ * reported with their CSV line numbers.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TimeEntryImportService {
+
+    private static final String STAGING_TABLE = "create temp table time_entry_import ("
+            + " line integer not null, user_id bigint not null, project_id bigint not null,"
+            + " task_id bigint not null, date date not null, total_hours numeric(5,2), quantity numeric(10,2),"
+            + " description varchar(1000), status varchar(255) not null) on commit drop";
+
+    // Rows with the same user, task, date, amount and description as an existing entry
+    private static final String EXISTING = "exists (select 1 from time_entries e where e.user_id = s.user_id"
+            + " and e.task_id = s.task_id and e.date = s.date"
+            + " and e.total_hours is not distinct from s.total_hours and e.quantity is not distinct from s.quantity"
+            + " and e.description is not distinct from s.description)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TaskMetadataCache taskMetadataCache;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // Records validated and written to COPY at a time (default: 10000)
+    @Value("${binderua.entry-import.chunk-size:10000}")
+    private int chunkSize;
+
+    // Rejected rows listed in the result; further rejects are only counted (default: 1000)
+    @Value("${binderua.entry-import.max-rejects:1000}")
+    private int maxRejects;
+
+    /**
+     * Import time entries from CSV with a header row. Columns (case-insensitive, in any order):
+     * userId or username, taskId, date (yyyy-MM-dd), hours, quantity, description, status.
+     * HOURLY tasks take hours, UNIT tasks a quantity. Status defaults to ZATWIERDZONY (approved by
+     * the importing user), since historical entries are normally settled.
+     *
+     * @param csv        UTF-8 CSV stream
+     * @param importerId User ID recorded as approver of approved entries
+     * @return Counts, rejected lines and duration
+     * @throws InvalidRequestException if the file is empty or the header lacks required columns
+     * @throws RuntimeException if the import fails
+     */
+    @Transactional
+    public TimeEntryImportResultDto importCsv(InputStream csv, Long importerId) {
+        long started = System.nanoTime();
+        CsvReader reader = new CsvReader(new BufferedReader(new InputStreamReader(csv, StandardCharsets.UTF_8), 1 << 16));
+        CsvReader.Record header = reader.next();
+        if (header == null) {
+            throw new InvalidRequestException("CSV file is empty");
+        }
+        Map<String, Integer> columns = CsvReader.columns(header);
+        if (!(columns.containsKey("userid") || columns.containsKey("username"))
+                || !columns.containsKey("taskid") || !columns.containsKey("date")) {
+            throw new InvalidRequestException("CSV header must contain userId (or username), taskId and date columns");
+        }
+
+        Map<String, Long> usernames = new HashMap<>();
+        Set<Long> userIds = new HashSet<>();
+        jdbcTemplate.query("select id, username from users", rs -> {
+            usernames.put(rs.getString("username").toLowerCase(Locale.ROOT), rs.getLong("id"));
+            userIds.add(rs.getLong("id"));
+        });
+
+        Set<Long> unknownTasks = new HashSet<>();
+        Rejects rejects = new Rejects(maxRejects);
+        long total = 0;
+        long copied = 0;
+        jdbcTemplate.execute(STAGING_TABLE);
+        LocalDate today = LocalDate.now();
+        StringBuilder chunk = new StringBuilder();
+        int rows = 0;
+        for (CsvReader.Record record; (record = reader.next()) != null; ) {
+            total++;
+            String error = stage(record, columns, usernames, userIds, unknownTasks, today, chunk);
+            if (error != null) {
+                rejects.add(record.line(), error);
+            } else if (++rows == chunkSize) {
+                copied += copy(chunk);
+                rows = 0;
+            }
+        }
+        copied += copy(chunk);
+
+        if (copied > 0) {
+            jdbcTemplate.query("select line from time_entry_import s where " + EXISTING + " order by line limit ?",
+                    rs -> {
+                        rejects.add(rs.getInt("line"), "Duplicate of an existing time entry");
+                    },
+                    maxRejects + 1);
+        }
+
+        long imported = 0;
+        if (copied > 0) {
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            List<long[]> perUser = jdbcTemplate.query(
+                    "with inserted as (insert into time_entries (user_id, project_id, task_id, date, total_hours,"
+                            + " quantity, description, status, approved_by, approved_at, created_at, updated_at)"
+                            + " select s.user_id, s.project_id, s.task_id, s.date, s.total_hours, s.quantity,"
+                            + " s.description, s.status,"
+                            + " case when s.status = ? then ?::bigint end, case when s.status = ? then ?::timestamp end,"
+                            + " ?, ?"
+                            + " from time_entry_import s where not " + EXISTING
+                            + " returning user_id)"
+                            + " select user_id, count(*) from inserted group by user_id",
+                    (rs, i) -> new long[] { rs.getLong(1), rs.getLong(2) },
+                    TimeEntry.Status.ZATWIERDZONY.name(), importerId, TimeEntry.Status.ZATWIERDZONY.name(), now,
+                    now, now);
+            for (long[] user : perUser) {
+                imported += user[1];
+                // Invalidates the user's cached reports after commit
+                eventPublisher.publishEvent(new UserChangedEvent(user[0]));
+            }
+        }
+        rejects.listed.sort(Comparator.comparing(TimeEntryImportResultDto.Reject::getLine));
+
+        long durationMs = (System.nanoTime() - started) / 1_000_000;
+        log.info("Imported {} of {} time entries in {} ms", imported, total, durationMs);
+        return TimeEntryImportResultDto.builder()
+                .total(total)
+                .imported(imported)
+                .rejected(total - imported)
+                .rejects(rejects.listed)
+                .rejectsTruncated(total - imported > rejects.listed.size())
+                .durationMs(durationMs)
+                .build();
+    }
+
+    /**
+     * Validate a record and append it to the COPY chunk.
+     *
+     * @return Error message, or null if the record was staged
+     */
+    private String stage(CsvReader.Record record, Map<String, Integer> columns, Map<String, Long> usernames,
+                         Set<Long> userIds, Set<Long> unknownTasks, LocalDate today, StringBuilder chunk) {
+        Long userId;
+        String user = record.get(columns, "userId");
+        if (user != null) {
+            userId = parseLong(user);
+            if (userId == null || !userIds.contains(userId)) {
+                return "Unknown user: " + user;
+            }
+        } else {
+            String username = record.get(columns, "username");
+            if (username == null) {
+                return "User is required";
+            }
+            userId = usernames.get(username.toLowerCase(Locale.ROOT));
+            if (userId == null) {
+                return "Unknown user: " + username;
+            }
+        }
+
+        String taskValue = record.get(columns, "taskId");
+        Long taskId = taskValue != null ? parseLong(taskValue) : null;
+        TaskMetadataCache.TaskMetadata task = taskId != null && !unknownTasks.contains(taskId)
+                ? taskMetadataCache.get(taskId) : null;
+        if (task == null) {
+            if (taskId != null) {
+                unknownTasks.add(taskId);
+            }
+            return taskValue == null ? "Task is required" : "Unknown task: " + taskValue;
+        }
+
+        String dateValue = record.get(columns, "date");
+        if (dateValue == null) {
+            return "Date is required";
+        }
+        LocalDate date;
+        try {
+            date = LocalDate.parse(dateValue);
+        } catch (DateTimeParseException e) {
+            return "Invalid date: " + dateValue;
+        }
+        if (date.isAfter(today)) {
+            return "Date is in the future: " + dateValue;
+        }
+
+        BigDecimal hours;
+        BigDecimal quantity;
+        try {
+            String hoursValue = record.get(columns, "hours");
+            hours = decimal(hoursValue != null ? hoursValue : record.get(columns, "totalHours"));
+            quantity = decimal(record.get(columns, "quantity"));
+        } catch (NumberFormatException e) {
+            return "Invalid number";
+        }
+        if (task.billingType() == Task.BillingType.UNIT) {
+            if (hours != null) {
+                return "UNIT tasks take a quantity, not hours";
+            }
+            if (quantity == null || quantity.signum() <= 0 || quantity.precision() - quantity.scale() > 8) {
+                return "Quantity must be positive and below 100000000";
+            }
+        } else {
+            if (quantity != null) {
+                return "HOURLY tasks take hours, not a quantity";
+            }
+            if (hours == null || hours.signum() <= 0 || hours.compareTo(BigDecimal.valueOf(24)) > 0) {
+                return "Hours must be greater than 0 and at most 24";
+            }
+        }
+
+        String description = record.get(columns, "description");
+        if (description != null && description.length() > 1000) {
+            return "Description must be at most 1000 characters";
+        }
+        String status = record.get(columns, "status");
+        TimeEntry.Status entryStatus;
+        try {
+            entryStatus = status != null
+                    ? TimeEntry.Status.valueOf(status.toUpperCase(Locale.ROOT))
+                    : TimeEntry.Status.ZATWIERDZONY;
+        } catch (IllegalArgumentException e) {
+            return "Unknown status: " + status;
+        }
+
+        chunk.append(record.line()).append(',')
+                .append(userId).append(',')
+                .append(task.projectId()).append(',')
+                .append(task.id()).append(',')
+                .append(date).append(',')
+                .append(hours != null ? hours.toPlainString() : "").append(',')
+                .append(quantity != null ? quantity.toPlainString() : "").append(',');
+        if (description != null) {
+            // Quoted, so an empty description stays distinct from NULL
+            chunk.append('"').append(description.replace("\"", "\"\"")).append('"');
+        }
+        chunk.append(',').append(entryStatus.name()).append('\n');
+        return null;
+    }
+
+    /**
+     * Load a validated chunk into the staging table with one COPY. Each chunk gets its own COPY
+     * because validating the next chunk may query the database (task cache misses), which the
+     * connection cannot do while a COPY is in progress.
+     *
+     * @return Rows copied
+     */
+    private long copy(StringBuilder chunk) {
+        if (chunk.length() == 0) {
+            return 0;
+        }
+        byte[] bytes = chunk.toString().getBytes(StandardCharsets.UTF_8);
+        chunk.setLength(0);
+        Connection connection = DataSourceUtils.getConnection(jdbcTemplate.getDataSource());
+        CopyIn copy = null;
+        try {
+            copy = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(
+                    "copy time_entry_import (line, user_id, project_id, task_id, date, total_hours, quantity,"
+                            + " description, status) from stdin with (format csv)");
+            copy.writeToCopy(bytes, 0, bytes.length);
+            return copy.endCopy();
+        } catch (SQLException e) {
+            throw new RuntimeException("Time entry import failed: " + e.getMessage(), e);
+        } finally {
+            if (copy != null && copy.isActive()) {
+                try {
+                    copy.cancelCopy();
+                } catch (SQLException e) {
+                    log.warn("Cannot cancel time entry import COPY", e);
+                }
+            }
+            DataSourceUtils.releaseConnection(connection, jdbcTemplate.getDataSource());
+        }
+    }
+
+    private static Long parseLong(String value) {
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static BigDecimal decimal(String value) {
+        return value != null ? new BigDecimal(value.replace(',', '.')) : null;
+    }
+
+    /**
+     * Rejected lines, listed up to a limit.
+     */
+    private static final class Rejects {
+        final int limit;
+        final List<TimeEntryImportResultDto.Reject> listed = new ArrayList<>();
+
+        Rejects(int limit) {
+            this.limit = limit;
+        }
+
+        void add(int line, String message) {
+            if (listed.size() < limit) {
+                listed.add(new TimeEntryImportResultDto.Reject(line, message));
+            }
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.timetracker.service;
+
+import com.timetracker.dto.TimeEntrySearchResultDto;
+import com.timetracker.exception.InvalidRequestException;
+import com.timetracker.repository.TimeEntryRepository;
+import com.timetracker.repository.TimeEntrySearchLimits;
+import com.timetracker.repository.TimeEntrySearchPage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Full-text search over time entry descriptions (see migration V19).
+ *
+ * Entries are indexed with the text search configuration of their author's language; the
+ * search words are matched as prefixes in every configuration, which stands in for the missing
+ * Polish and Ukrainian stemmers ("projekt" finds "projektu") and lets the English one stem.
+ * All words must match. The newest matches (up to max-candidates, by date) are ranked and
+ * keyset-paginated by (rank, id); older entries are reached by narrowing the date range.
+ * With a project or user filter, words that are not rare are only looked for in the filter's
+ * newest entries (up to filter-scan-rows), which bounds the cost of words common elsewhere.
+ * Archived entries are not searched. Results say when either cut off matches (truncated).
+ */
+@Service
+@RequiredArgsConstructor
+public class TimeEntrySearchService {
+
+    // Words shorter than this are ignored: their prefixes match too much to be useful
+    private static final int MIN_WORD_LENGTH = 2;
+    private static final int MAX_WORDS = 8;
+
+    private final TimeEntryRepository timeEntryRepository;
+
+    // Newest matches ranked per search (default: 300)
+    @Value("${binderua.search.max-candidates:300}")
+    private int maxCandidates;
+
+    // Newest entries of a project or user filter checked one by one (default: 20000)
+    @Value("${binderua.search.filter-scan-rows:20000}")
+    private int filterScanRows;
+
+    // Estimated word matches up to which filtered searches use the full-text index (default: 1000)
+    @Value("${binderua.search.index-matches:1000}")
+    private long indexMatches;
+
+    /**
+     * Search entry descriptions.
+     *
+     * @param text      Search words
+     * @param projectId Optional project filter
+     * @param userId    Optional author filter
+     * @param from      Optional first date
+     * @param to        Optional last date
+     * @param cursor    nextCursor of the previous page, null for the first page
+     * @param pageSize  Maximum hits per page
+     * @return Hits ordered by rank, flagged if matches were left out; empty if the text has no searchable words
+     * @throws InvalidRequestException if the cursor is invalid
+     */
+    @Transactional
+    public TimeEntrySearchResultDto search(String text, Long projectId, Long userId, LocalDate from, LocalDate to,
+                                           String cursor, int pageSize) {
+        String tsquery = toTsquery(text);
+        if (tsquery == null) {
+            return TimeEntrySearchResultDto.builder().items(List.of()).build();
+        }
+        SearchCursor after = SearchCursor.parse(cursor);
+        TimeEntrySearchPage page = timeEntryRepository.search(tsquery, projectId, userId, from, to,
+                after != null ? after.rank() : null, after != null ? after.id() : null,
+                new TimeEntrySearchLimits(maxCandidates, filterScanRows, indexMatches), pageSize + 1);
+        List<TimeEntrySearchResultDto.Hit> hits = page.hits();
+        boolean more = hits.size() > pageSize;
+        List<TimeEntrySearchResultDto.Hit> items = more ? new ArrayList<>(hits.subList(0, pageSize)) : hits;
+        TimeEntrySearchResultDto.Hit last = more ? items.get(items.size() - 1) : null;
+        return TimeEntrySearchResultDto.builder()
+                .items(items)
+                .nextCursor(last != null ? new SearchCursor(last.getRank(), last.getId()).toString() : null)
+                .truncated(page.truncated() || timeEntryRepository.hasArchivedEntries(projectId, userId, from, to))
+                .build();
+    }
+
+    /**
+     * AND of the text's words as prefix terms ("word:*"), or null if there is no usable word.
+     * Only letters and digits are kept, so the result cannot contain tsquery operators.
+     */
+    private static String toTsquery(String text) {
+        if (text == null) {
+            return null;
+        }
+        Set<String> words = new LinkedHashSet<>();
+        for (String word : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (word.length() >= MIN_WORD_LENGTH && words.size() < MAX_WORDS) {
+                words.add(word);
+            }
+        }
+        if (words.isEmpty()) {
+            return null;
+        }
+        return String.join(" & ", words.stream().map(w -> w + ":*").toList());
+    }
+
+    /**
+     * Keyset position in the ranked hits, serialized as "rank:id".
+     */
+    private record SearchCursor(float rank, long id) {
+
+        static SearchCursor parse(String value) {
+            if (value == null || value.isBlank()) {
+                return null;
+            }
+            try {
+                int separator = value.lastIndexOf(':');
+                return new SearchCursor(Float.parseFloat(value.substring(0, separator)),
+                        Long.parseLong(value.substring(separator + 1)));
+            } catch (RuntimeException e) {
+                throw new InvalidRequestException("Invalid search cursor: " + value);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return rank + ":" + id;
+        }
+    }
+}
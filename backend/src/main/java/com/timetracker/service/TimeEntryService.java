@@ -1,18 +1,32 @@
 package com.timetracker.service;
 
+import com.timetracker.dto.CalendarDayDto;
+import com.timetracker.dto.FieldSet;
+import com.timetracker.dto.TimeEntryImportResultDto;
 import com.timetracker.dto.TimeEntryDto;
 import com.timetracker.entity.TimeEntry;
 import com.timetracker.entity.User;
+import com.timetracker.event.TimeEntryChangedEvent;
+import com.timetracker.exception.ConflictException;
+import com.timetracker.exception.InvalidRequestException;
+import com.timetracker.exception.ResourceNotFoundException;
 import com.timetracker.repository.TimeEntryRepository;
 import com.timetracker.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.lang.NonNull;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import java.io.InputStream;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -22,6 +36,7 @@ import java.util.stream.Collectors;
  * Enforces business rules such as automatic hour calculation from time ranges,
  * status management (ZGLOSZONY/ZATWIERDZONY/ODRZUCONY), and audit trail
  * tracking.
+ * Every write publishes a {@link TimeEntryChangedEvent}.
  */
 @Service
 @RequiredArgsConstructor
@@ -29,21 +44,40 @@ public class TimeEntryService {
 
     private final TimeEntryRepository timeEntryRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TimeEntryEventBus eventBus;
+    private final TimeEntryValidator timeEntryValidator;
+    private final TimeEntryImportService timeEntryImportService;
+    private final ProjectAccessIndex projectAccessIndex;
+
+    // Reject entries on projects the user is not a member or manager of (default: true)
+    @Value("${binderua.security.enforce-project-membership:true}")
+    private boolean enforceProjectMembership;
 
     /**
      * Create a new time entry associated with a task.
      * For HOURLY tasks: totalHours is required.
      * For UNIT tasks: quantity is required.
      * Sets initial status to ZGLOSZONY (submitted).
+     * The project is taken from the task; the user must be allowed to book on it
+     * (see {@link ProjectAccessIndex}). The entry is checked against its task by
+     * {@link TimeEntryValidator} without querying the database.
      *
      * @param dto Time entry data transfer object containing entry details
      * @return Created time entry with generated ID
+     * @throws InvalidRequestException if the entry does not match its task
+     * @throws AccessDeniedException if the user may not book on the task's project
      */
     @Transactional
     public TimeEntryDto createEntry(TimeEntryDto dto) {
+        TaskMetadataCache.TaskMetadata task = timeEntryValidator.validateNew(dto);
+        if (enforceProjectMembership && !projectAccessIndex.canBook(dto.getUserId(), task.projectId())) {
+            throw new AccessDeniedException("User is not a member of the task's project");
+        }
+
         TimeEntry entry = TimeEntry.builder()
                 .userId(dto.getUserId())
-                .projectId(dto.getProjectId())
+                .projectId(task.projectId())
                 .taskId(dto.getTaskId())
                 .date(dto.getDate())
                 .totalHours(dto.getTotalHours())
@@ -53,7 +87,7 @@ public class TimeEntryService {
                 .build();
 
         TimeEntry savedEntry = timeEntryRepository.save(entry);
-        return TimeEntryDto.from(savedEntry);
+        return publish(TimeEntryChangedEvent.Type.CREATED, savedEntry);
     }
 
     /**
@@ -71,6 +105,44 @@ public class TimeEntryService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * A user's entries of a month reading only the selected fields.
+     *
+     * @param fields Selected fields of {@link TimeEntryDto#FIELDS}
+     * @return Entry DTOs with only the selected fields (and id, date) set
+     */
+    public List<TimeEntryDto> getEntriesByUserAndMonth(Long userId, int year, int month,
+                                                       FieldSet.Selection<TimeEntryDto> fields) {
+        YearMonth ym = YearMonth.of(year, month);
+        return timeEntryRepository.findByUserIdAndDateBetween(userId, ym.atDay(1), ym.atEndOfMonth(), fields);
+    }
+
+    /**
+     * Per-day aggregates of a user's month for the calendar view: totals and status counts,
+     * one record per day with entries, computed in the database instead of from the entry list.
+     *
+     * @param userId ID of the user
+     * @param year   Year (e.g., 2025)
+     * @param month  Month (1-12)
+     * @return Calendar days ordered by date
+     */
+    public List<CalendarDayDto> getCalendar(Long userId, int year, int month) {
+        YearMonth ym = YearMonth.of(year, month);
+        return timeEntryRepository.findCalendarDays(userId, ym.atDay(1), ym.atEndOfMonth());
+    }
+
+    /**
+     * Calendar of the currently authenticated user.
+     *
+     * @throws ResourceNotFoundException if authenticated user not found in database
+     */
+    public List<CalendarDayDto> getCurrentUserCalendar(int year, int month) {
+        String username = SecurityContextHolder.getContext().getAuthentication().getName();
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+        return getCalendar(user.getId(), year, month);
+    }
+
     /**
      * Retrieve paginated time entries for a specific user.
      *
@@ -87,24 +159,20 @@ public class TimeEntryService {
      * Approve a time entry. Only MANAGER or DYREKTOR roles can call this (enforced
      * at controller level).
      * Sets status to ZATWIERDZONY (approved), records approver ID and approval
-     * timestamp.
+     * timestamp, in a single UPDATE statement.
      *
-     * @param id         Entry ID to approve
-     * @param approverId ID of user performing approval (MANAGER or DYREKTOR)
+     * @param id              Entry ID to approve
+     * @param approverId      ID of user performing approval (MANAGER or DYREKTOR)
+     * @param expectedVersion Version the approver saw, or null to approve regardless
      * @return Updated time entry DTO with ZATWIERDZONY status
-     * @throws RuntimeException if entry not found
+     * @throws ResourceNotFoundException if entry not found
+     * @throws OptimisticLockingFailureException if the entry changed since the given version
      */
-    @Transactional
-    public TimeEntryDto approveEntry(Long id, Long approverId) {
-        TimeEntry entry = timeEntryRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Time entry not found"));
-
-        entry.setStatus(TimeEntry.Status.ZATWIERDZONY);
-        entry.setApprovedBy(approverId);
-        entry.setApprovedAt(LocalDateTime.now());
-
-        entry = timeEntryRepository.save(entry);
-        return TimeEntryDto.from(entry);
+    public TimeEntryDto approveEntry(Long id, Long approverId, Long expectedVersion) {
+        TimeEntry entry = timeEntryRepository.updateStatus(id, expectedVersion, TimeEntry.Status.ZATWIERDZONY,
+                        approverId, LocalDateTime.now())
+                .orElseThrow(() -> updateFailure(id, null));
+        return publish(TimeEntryChangedEvent.Type.APPROVED, entry);
     }
 
     /**
@@ -112,32 +180,31 @@ public class TimeEntryService {
      * at controller level).
      * Sets status to ODRZUCONY (rejected) without recording approval details.
      *
-     * @param id Entry ID to reject
+     * @param id              Entry ID to reject
+     * @param expectedVersion Version the approver saw, or null to reject regardless
      * @return Updated time entry DTO with ODRZUCONY status
-     * @throws RuntimeException if entry not found
+     * @throws ResourceNotFoundException if entry not found
+     * @throws OptimisticLockingFailureException if the entry changed since the given version
      */
-    @Transactional
-    public TimeEntryDto rejectEntry(Long id) {
-        TimeEntry entry = timeEntryRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Time entry not found"));
-
-        entry.setStatus(TimeEntry.Status.ODRZUCONY);
-        entry = timeEntryRepository.save(entry);
-        return TimeEntryDto.from(entry);
+    public TimeEntryDto rejectEntry(Long id, Long expectedVersion) {
+        TimeEntry entry = timeEntryRepository.updateStatus(id, expectedVersion, TimeEntry.Status.ODRZUCONY,
+                        null, null)
+                .orElseThrow(() -> updateFailure(id, null));
+        return publish(TimeEntryChangedEvent.Type.REJECTED, entry);
     }
 
     /**
      * Delete a time entry permanently.
      *
      * @param id Entry ID to delete
-     * @throws RuntimeException if entry not found
+     * @throws ResourceNotFoundException if entry not found
      */
     @Transactional
     public void deleteEntry(Long id) {
-        if (!timeEntryRepository.existsById(id)) {
-            throw new RuntimeException("Time entry not found");
-        }
-        timeEntryRepository.deleteById(id);
+        TimeEntry entry = timeEntryRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Time entry not found"));
+        timeEntryRepository.delete(entry);
+        publish(TimeEntryChangedEvent.Type.DELETED, entry);
     }
 
     /**
@@ -150,13 +217,13 @@ public class TimeEntryService {
      * @param month Optional month filter (1-12)
      * @param year  Optional year filter (e.g., 2025)
      * @return List of time entry DTOs for current user
-     * @throws RuntimeException if authenticated user not found in database
+     * @throws ResourceNotFoundException if authenticated user not found in database
      */
     public List<TimeEntryDto> getCurrentUserEntries(Integer month, Integer year) {
         // Extract authenticated username from Spring Security context
         String username = SecurityContextHolder.getContext().getAuthentication().getName();
         User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
 
         if (month != null && year != null) {
             return getEntriesByUserAndMonth(user.getId(), year, month);
@@ -170,27 +237,95 @@ public class TimeEntryService {
     }
 
     /**
-     * Update an existing time entry. Only updates non-null fields from DTO.
-     * Does not modify status, approval information, or taskId.
+     * Entries of the currently authenticated user reading only the selected fields,
+     * for a month if month/year are given, otherwise all.
+     *
+     * @param fields Selected fields of {@link TimeEntryDto#FIELDS}
+     * @throws ResourceNotFoundException if authenticated user not found in database
+     */
+    public List<TimeEntryDto> getCurrentUserEntries(Integer month, Integer year,
+                                                    FieldSet.Selection<TimeEntryDto> fields) {
+        String username = SecurityContextHolder.getContext().getAuthentication().getName();
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+        if (month != null && year != null) {
+            return getEntriesByUserAndMonth(user.getId(), year, month, fields);
+        }
+        return timeEntryRepository.findByUserIdAndDateBetween(user.getId(), null, null, fields);
+    }
+
+    /**
+     * Bulk import historical time entries from CSV on behalf of the authenticated user
+     * (see {@link TimeEntryImportService}).
+     *
+     * @param csv UTF-8 CSV stream with a header row
+     * @return Counts and rejected lines
+     * @throws ResourceNotFoundException if authenticated user not found in database
+     */
+    public TimeEntryImportResultDto importEntries(InputStream csv) {
+        String username = SecurityContextHolder.getContext().getAuthentication().getName();
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+        return timeEntryImportService.importCsv(csv, user.getId());
+    }
+
+    /**
+     * Open a Server-Sent Events stream of time entry changes for the currently authenticated user:
+     * changes of the user's own entries and, for managers and directors, newly submitted entries
+     * in their projects.
+     *
+     * @return Emitter streaming TimeEntryChangedEvent payloads
+     * @throws ResourceNotFoundException if authenticated user not found in database
+     */
+    public SseEmitter openEventStream() {
+        String username = SecurityContextHolder.getContext().getAuthentication().getName();
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+        return eventBus.subscribe(user);
+    }
+
+    /**
+     * Update an existing time entry. Only updates non-null fields from DTO, in a single
+     * UPDATE statement that writes just those columns.
+     * Does not modify status, approval information, or taskId; the DTO's taskId must be the
+     * entry's task, since the amounts are validated against it.
+     * If the DTO carries a version, the update only applies to that version of the entry.
      *
      * @param id  Entry ID to update
      * @param dto DTO containing fields to update (null values ignored)
      * @return Updated time entry DTO
-     * @throws RuntimeException if entry not found
+     * @throws ResourceNotFoundException if entry not found
+     * @throws InvalidRequestException if the amount does not match the billing type
+     * @throws ConflictException if the entry does not belong to the DTO's task
+     * @throws OptimisticLockingFailureException if the entry changed since the DTO's version
      */
-    @Transactional
     public TimeEntryDto updateEntry(Long id, TimeEntryDto dto) {
-        TimeEntry entry = timeEntryRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Time entry not found"));
+        timeEntryValidator.validateUpdate(dto);
+        TimeEntry entry = timeEntryRepository.updateAmounts(id, dto.getTaskId(), dto.getVersion(),
+                        dto.getTotalHours(), dto.getQuantity(), dto.getDescription())
+                .orElseThrow(() -> updateFailure(id, dto.getTaskId()));
+        return publish(TimeEntryChangedEvent.Type.UPDATED, entry);
+    }
 
-        if (dto.getTotalHours() != null)
-            entry.setTotalHours(dto.getTotalHours());
-        if (dto.getQuantity() != null)
-            entry.setQuantity(dto.getQuantity());
-        if (dto.getDescription() != null)
-            entry.setDescription(dto.getDescription());
+    /**
+     * Explain why a conditional update matched no row. Only runs on the failure path,
+     * so successful updates stay a single statement.
+     */
+    private RuntimeException updateFailure(Long id, Long taskId) {
+        TimeEntry current = timeEntryRepository.findById(id).orElse(null);
+        if (current == null) {
+            return new ResourceNotFoundException("Time entry not found");
+        }
+        if (taskId != null && !taskId.equals(current.getTaskId())) {
+            return new ConflictException("Time entry does not belong to task " + taskId);
+        }
+        return new OptimisticLockingFailureException(
+                "Time entry " + id + " was changed by someone else (current version " + current.getVersion() + ")");
+    }
 
-        entry = timeEntryRepository.save(entry);
-        return TimeEntryDto.from(entry);
+    private TimeEntryDto publish(TimeEntryChangedEvent.Type type, TimeEntry entry) {
+        TimeEntryDto dto = TimeEntryDto.from(entry);
+        eventPublisher.publishEvent(new TimeEntryChangedEvent(type, dto));
+        return dto;
     }
 }
\ No newline at end of file
@@ -0,0 +1,83 @@
+package com.timetracker.service;
+
+import com.timetracker.dto.TimeEntryDto;
+import com.timetracker.entity.Task;
+import com.timetracker.exception.InvalidRequestException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import java.math.BigDecimal;
+
+/**
+ * Write-path checks of time entries against their task, using {@link TaskMetadataCache}:
+ * the task must exist and be active, a client-supplied project must be the task's project,
+ * and the amount must match the billing type (hours for HOURLY, quantity for UNIT).
+ */
+@Component
+@RequiredArgsConstructor
+public class TimeEntryValidator {
+
+    private final TaskMetadataCache taskMetadataCache;
+
+    /**
+     * Validate a new entry.
+     *
+     * @param dto Entry to create
+     * @return Metadata of the entry's task; its projectId is the project to store
+     * @throws InvalidRequestException if the entry does not match its task
+     */
+    public TaskMetadataCache.TaskMetadata validateNew(TimeEntryDto dto) {
+        TaskMetadataCache.TaskMetadata task = taskMetadataCache.get(dto.getTaskId());
+        if (task == null) {
+            throw new InvalidRequestException("Task not found");
+        }
+        if (!task.active()) {
+            throw new InvalidRequestException("Task is inactive");
+        }
+        if (dto.getProjectId() != null && !dto.getProjectId().equals(task.projectId())) {
+            throw new InvalidRequestException("Task does not belong to project " + dto.getProjectId());
+        }
+        checkAmount(task.billingType(), dto.getTotalHours(), dto.getQuantity(), true);
+        return task;
+    }
+
+    /**
+     * Validate the amount fields of an update (null fields are not changed) against the task the
+     * client says the entry has; the update statement then only matches rows with that task.
+     *
+     * @throws InvalidRequestException if the update does not match the task's billing type
+     */
+    public void validateUpdate(TimeEntryDto dto) {
+        TaskMetadataCache.TaskMetadata task = taskMetadataCache.get(dto.getTaskId());
+        if (task == null) {
+            throw new InvalidRequestException("Task not found");
+        }
+        checkAmount(task.billingType(), dto.getTotalHours(), dto.getQuantity(), false);
+    }
+
+    private static void checkAmount(Task.BillingType billingType, BigDecimal hours, BigDecimal quantity,
+                                    boolean required) {
+        if (billingType == Task.BillingType.UNIT) {
+            if (hours != null) {
+                throw new InvalidRequestException("UNIT tasks take a quantity, not hours");
+            }
+            checkPositive(quantity, "Quantity", required);
+        } else {
+            if (quantity != null) {
+                throw new InvalidRequestException("HOURLY tasks take hours, not a quantity");
+            }
+            checkPositive(hours, "Hours", required);
+        }
+    }
+
+    private static void checkPositive(BigDecimal value, String name, boolean required) {
+        if (value == null) {
+            if (required) {
+                throw new InvalidRequestException(name + " is required");
+            }
+            return;
+        }
+        if (value.signum() <= 0) {
+            throw new InvalidRequestException(name + " must be positive");
+        }
+    }
+}
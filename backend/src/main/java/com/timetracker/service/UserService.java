@@ -1,10 +1,16 @@
 package com.timetracker.service;
 
+import com.timetracker.dto.FieldSet;
 import com.timetracker.dto.UserDto;
 import com.timetracker.entity.User;
+import com.timetracker.event.UserChangedEvent;
+import com.timetracker.exception.ConflictException;
+import com.timetracker.exception.InvalidRequestException;
+import com.timetracker.exception.ResourceNotFoundException;
 import com.timetracker.repository.UserRepository;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -22,6 +28,7 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Retrieve all users with pagination support.
@@ -33,16 +40,27 @@ public class UserService {
         return userRepository.findAll(pageable).map(UserDto::from);
     }
 
+    /**
+     * Retrieve users reading only the selected fields.
+     *
+     * @param fields   Selected fields of {@link UserDto#FIELDS}
+     * @param pageable Pagination parameters (page number, size, sorting by field names)
+     * @return Page of user DTOs with only the selected fields set
+     */
+    public Page<UserDto> getAllUsers(FieldSet.Selection<UserDto> fields, @NonNull Pageable pageable) {
+        return userRepository.findPage(fields, pageable);
+    }
+
     /**
      * Retrieve single user by ID.
      *
      * @param id User ID to retrieve
      * @return User DTO (password excluded)
-     * @throws RuntimeException if user not found
+     * @throws ResourceNotFoundException if user not found
      */
     public UserDto getUserById(@NonNull Long id) {
         User user = userRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
         return UserDto.from(user);
     }
 
@@ -51,11 +69,11 @@ public class UserService {
      *
      * @param username Unique username
      * @return User DTO (password excluded)
-     * @throws RuntimeException if user not found
+     * @throws ResourceNotFoundException if user not found
      */
     public UserDto getUserByUsername(String username) {
         User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
         return UserDto.from(user);
     }
 
@@ -66,30 +84,31 @@ public class UserService {
      *
      * @param userDto User data including username, email, name, role, contract details
      * @return Created user DTO with generated ID
-     * @throws RuntimeException if validation fails or username/email already exists
+     * @throws InvalidRequestException if a required field is missing
+     * @throws ConflictException if username or email already exists
      */
     @Transactional
     public UserDto createUser(UserDto userDto) {
         // Validate required fields
         if (userDto.getUsername() == null || userDto.getUsername().trim().isEmpty()) {
-            throw new RuntimeException("Username is required");
+            throw new InvalidRequestException("Username is required");
         }
         if (userDto.getEmail() == null || userDto.getEmail().trim().isEmpty()) {
-            throw new RuntimeException("Email is required");
+            throw new InvalidRequestException("Email is required");
         }
         if (userDto.getFirstName() == null || userDto.getFirstName().trim().isEmpty()) {
-            throw new RuntimeException("First name is required");
+            throw new InvalidRequestException("First name is required");
         }
         if (userDto.getLastName() == null || userDto.getLastName().trim().isEmpty()) {
-            throw new RuntimeException("Last name is required");
+            throw new InvalidRequestException("Last name is required");
         }
 
         // Check if username or email already exists
         if (userRepository.findByUsername(userDto.getUsername()).isPresent()) {
-            throw new RuntimeException("Username already exists");
+            throw new ConflictException("Username already exists");
         }
         if (userRepository.findByEmail(userDto.getEmail()).isPresent()) {
-            throw new RuntimeException("Email already exists");
+            throw new ConflictException("Email already exists");
         }
 
         // Build user entity with BCrypt-hashed temporary password
@@ -120,12 +139,12 @@ public class UserService {
      * @param id User ID to update
      * @param userDto DTO with fields to update (null values ignored)
      * @return Updated user DTO
-     * @throws RuntimeException if user not found
+     * @throws ResourceNotFoundException if user not found
      */
     @Transactional
     public UserDto updateUser(@NonNull Long id, UserDto userDto) {
         User user = userRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
 
         if (userDto.getEmail() != null) {
             user.setEmail(userDto.getEmail());
@@ -162,6 +181,7 @@ public class UserService {
         }
 
         User savedUser = userRepository.save(user);
+        eventPublisher.publishEvent(new UserChangedEvent(id));
         return UserDto.from(savedUser);
     }
 
@@ -170,14 +190,15 @@ public class UserService {
      * Consider using soft-delete (active=false) instead for audit trail preservation.
      *
      * @param id User ID to delete
-     * @throws RuntimeException if user not found
+     * @throws ResourceNotFoundException if user not found
      */
     @Transactional
     public void deleteUser(@NonNull Long id) {
         if (!userRepository.existsById(id)) {
-            throw new RuntimeException("User not found");
+            throw new ResourceNotFoundException("User not found");
         }
         userRepository.deleteById(id);
+        eventPublisher.publishEvent(new UserChangedEvent(id));
     }
 
     /**
@@ -192,7 +213,7 @@ public class UserService {
      *
      * @param oldPassword Current password for verification
      * @param newPassword New password meeting complexity requirements
-     * @throws RuntimeException if old password incorrect or new password doesn't meet requirements
+     * @throws InvalidRequestException if old password incorrect or new password doesn't meet requirements
      */
     @Transactional
     public void changePassword(@NonNull String oldPassword, @NonNull String newPassword) {
@@ -202,25 +223,25 @@ public class UserService {
         String username = authentication.getName();
 
         User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
 
         // Verify old password
         if (!passwordEncoder.matches(oldPassword, user.getPassword())) {
-            throw new RuntimeException("Old password is incorrect");
+            throw new InvalidRequestException("Old password is incorrect");
         }
 
         // Validate new password strength
         if (newPassword.length() < 8) {
-            throw new RuntimeException("Password must be at least 8 characters long");
+            throw new InvalidRequestException("Password must be at least 8 characters long");
         }
         if (!newPassword.matches(".*[0-9].*")) {
-            throw new RuntimeException("Password must contain at least one digit");
+            throw new InvalidRequestException("Password must contain at least one digit");
         }
         if (!newPassword.matches(".*[a-zA-Z].*")) {
-            throw new RuntimeException("Password must contain at least one letter");
+            throw new InvalidRequestException("Password must contain at least one letter");
         }
         if (!newPassword.matches(".*[!@#$%^&*()].*")) {
-            throw new RuntimeException("Password must contain at least one special character (!@#$%^&*())");
+            throw new InvalidRequestException("Password must contain at least one special character (!@#$%^&*())");
         }
 
         user.setPassword(passwordEncoder.encode(newPassword));
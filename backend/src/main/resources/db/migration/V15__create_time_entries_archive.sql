@@ -0,0 +1,25 @@
+-- V15__create_time_entries_archive.sql
+-- Purpose: Cold storage for approved time entries of closed months.
+-- One row per user/task/project/month; payload is a gzip-compressed JSON array of the
+-- original entries, so every archived entry can be reconstructed losslessly.
+-- Aggregate columns allow totals to be read without decompressing the payload.
+
+CREATE TABLE time_entries_archive (
+    id BIGSERIAL PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    task_id BIGINT NOT NULL,
+    project_id BIGINT,
+    period DATE NOT NULL,
+    entry_count INTEGER NOT NULL,
+    total_hours NUMERIC(8,2),
+    total_quantity NUMERIC(12,2),
+    payload BYTEA NOT NULL,
+    archived_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT ck_time_entries_archive_period CHECK (EXTRACT(DAY FROM period) = 1)
+);
+
+-- Archive rows are merged per key, so the key must be unique (project_id is nullable)
+CREATE UNIQUE INDEX ux_time_entries_archive_key
+  ON time_entries_archive(user_id, period, task_id, COALESCE(project_id, 0));
+
+CREATE INDEX idx_time_entries_archive_project_period ON time_entries_archive(project_id, period);
@@ -0,0 +1,18 @@
+-- V16__create_exchange_rates_table.sql
+-- Purpose: Effective-dated exchange rates per currency pair.
+-- rate = units of quote_currency per 1 unit of base_currency, valid from effective_from
+-- until the next row of the same pair. Rows are written by the rate refresher
+-- (see binderua.rates.provider) and read into an in-memory snapshot.
+
+CREATE TABLE exchange_rates (
+    id BIGSERIAL PRIMARY KEY,
+    base_currency VARCHAR(3) NOT NULL,
+    quote_currency VARCHAR(3) NOT NULL,
+    effective_from DATE NOT NULL,
+    rate NUMERIC(18,6) NOT NULL CHECK (rate > 0),
+    source VARCHAR(64) NOT NULL,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE UNIQUE INDEX ux_exchange_rates_pair_date
+  ON exchange_rates(base_currency, quote_currency, effective_from);
@@ -0,0 +1,2 @@
+-- Prefix search on project number (number LIKE 'ABC%') in the paginated project listing
+CREATE INDEX IF NOT EXISTS idx_projects_number_pattern ON projects (number varchar_pattern_ops);
@@ -0,0 +1,3 @@
+-- Optimistic locking of time entries: every update increments the version,
+-- conditional updates fail when the caller's version is stale
+ALTER TABLE time_entries ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,62 @@
+-- V19__add_time_entries_search.sql
+-- Purpose: Full-text search over time entry descriptions.
+-- Each entry is indexed with the text search configuration of its author's language
+-- (users.language at the time of writing): PL -> binderua_pl, UA -> binderua_ua, EN -> english.
+-- PostgreSQL ships no Polish or Ukrainian stemmer, so binderua_pl and binderua_ua start as
+-- copies of "simple" (lower-cased words, no stop words); searches match word prefixes instead.
+-- They can later get real dictionaries with ALTER TEXT SEARCH CONFIGURATION ... ALTER MAPPING,
+-- followed by an UPDATE of search_config to recompute the stored vectors.
+
+CREATE TEXT SEARCH CONFIGURATION binderua_pl (COPY = simple);
+CREATE TEXT SEARCH CONFIGURATION binderua_ua (COPY = simple);
+
+CREATE FUNCTION binderua_search_config(language VARCHAR) RETURNS regconfig
+LANGUAGE sql IMMUTABLE AS $$
+  SELECT CASE language
+           WHEN 'EN' THEN 'english'::regconfig
+           WHEN 'UA' THEN 'binderua_ua'::regconfig
+           ELSE 'binderua_pl'::regconfig
+         END
+$$;
+
+-- Search words parsed in every configuration; identical queries (the simple copies, or words the
+-- English stemmer leaves alone) are ORed only once
+CREATE FUNCTION binderua_search_query(words TEXT) RETURNS tsquery
+LANGUAGE sql IMMUTABLE AS $$
+  SELECT CASE WHEN en = pl OR en = ua THEN pl_ua ELSE pl_ua || en END
+  FROM (SELECT CASE WHEN ua = pl THEN pl ELSE pl || ua END AS pl_ua, pl, ua, en
+        FROM (SELECT to_tsquery('binderua_pl', words) AS pl, to_tsquery('binderua_ua', words) AS ua,
+                     to_tsquery('english', words) AS en) q) d
+$$;
+
+ALTER TABLE time_entries ADD COLUMN search_config regconfig NOT NULL DEFAULT 'binderua_pl';
+
+UPDATE time_entries t
+SET search_config = binderua_search_config(u.language)
+FROM users u
+WHERE u.id = t.user_id AND u.language <> 'PL';
+
+-- Every write path (JPA, COPY import, restore) gets the author's configuration
+CREATE FUNCTION time_entries_set_search_config() RETURNS trigger
+LANGUAGE plpgsql AS $$
+BEGIN
+  SELECT binderua_search_config(u.language) INTO NEW.search_config FROM users u WHERE u.id = NEW.user_id;
+  NEW.search_config := COALESCE(NEW.search_config, 'binderua_pl'::regconfig);
+  RETURN NEW;
+END
+$$;
+
+CREATE TRIGGER trg_time_entries_search_config
+  BEFORE INSERT OR UPDATE OF user_id ON time_entries
+  FOR EACH ROW EXECUTE FUNCTION time_entries_set_search_config();
+
+ALTER TABLE time_entries ADD COLUMN search_vector tsvector
+  GENERATED ALWAYS AS (to_tsvector(search_config, COALESCE(description, ''))) STORED;
+
+CREATE INDEX idx_time_entries_search ON time_entries USING gin (search_vector);
+
+-- Rare words must not be estimated as common, or the planner scans by date instead of the GIN index
+ALTER TABLE time_entries ALTER COLUMN search_vector SET STATISTICS 1000;
+
+-- Newest matches first when no project or user filter narrows the search
+CREATE INDEX idx_time_entries_date ON time_entries(date);
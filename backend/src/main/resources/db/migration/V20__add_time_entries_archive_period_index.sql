@@ -0,0 +1,5 @@
+-- V20__add_time_entries_archive_period_index.sql
+-- Purpose: Searches without a project or user filter check whether their date range reaches
+-- archived months; the existing archive indexes all start with user_id or project_id.
+
+CREATE INDEX idx_time_entries_archive_period ON time_entries_archive(period);
@@ -0,0 +1,24 @@
+-- V21__add_time_entries_search_estimate.sql
+-- Purpose: Let filtered searches choose between the GIN index and a newest-first scan.
+-- A GIN lookup reads the whole posting list of every prefix term, however few entries the
+-- terms match together or within a project, so its cost follows the sum of the terms' match
+-- counts. The planner's estimates of those counts are summed here (VOLATILE: EXPLAIN is not
+-- allowed in stable functions). Prefixes of rare words are underestimated (up to ~10x), as they
+-- are not among the most common elements the estimate is based on.
+
+CREATE FUNCTION binderua_search_estimate(words TEXT) RETURNS BIGINT
+LANGUAGE plpgsql VOLATILE AS $$
+DECLARE
+  term TEXT;
+  plan JSON;
+  total BIGINT := 0;
+BEGIN
+  FOREACH term IN ARRAY string_to_array(words, '&') LOOP
+    EXECUTE format('EXPLAIN (FORMAT JSON) SELECT 1 FROM time_entries WHERE search_vector @@ binderua_search_query(%L)',
+                   trim(term))
+      INTO plan;
+    total := total + (plan -> 0 -> 'Plan' ->> 'Plan Rows')::BIGINT;
+  END LOOP;
+  RETURN total;
+END
+$$;
@@ -0,0 +1,57 @@
+package com.timetracker.repository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.timetracker.entity.TimeEntry;
+import org.junit.jupiter.api.Test;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimeEntryArchiveCodecTest {
+
+    private final TimeEntryArchiveCodec codec = new TimeEntryArchiveCodec(new ObjectMapper().findAndRegisterModules());
+
+    @Test
+    void decodeRestoresEveryColumn() {
+        TimeEntry entry = TimeEntry.builder()
+                .id(7L)
+                .userId(3L)
+                .taskId(11L)
+                .projectId(2L)
+                .subprojectId(5L)
+                .date(LocalDate.of(2024, 3, 14))
+                .totalHours(new BigDecimal("7.50"))
+                .description("review")
+                .status(TimeEntry.Status.ZATWIERDZONY)
+                .approvedBy(2L)
+                .approvedAt(LocalDateTime.of(2024, 3, 20, 9, 0))
+                .createdAt(LocalDateTime.of(2024, 3, 14, 17, 5))
+                .updatedAt(LocalDateTime.of(2024, 3, 20, 9, 0))
+                .version(4L)
+                .build();
+
+        List<TimeEntry> decoded = codec.decode(codec.encode(List.of(entry)), 3L, 11L);
+
+        assertThat(decoded).singleElement().usingRecursiveComparison().isEqualTo(entry);
+    }
+
+    @Test
+    void payloadsWithoutVersionDecodeWithTheMigrationDefault() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (OutputStream out = new GZIPOutputStream(bytes)) {
+            out.write("[{\"i\":1,\"d\":\"2023-01-02\",\"h\":8,\"s\":\"ZATWIERDZONY\"}]".getBytes(StandardCharsets.UTF_8));
+        }
+
+        List<TimeEntry> decoded = codec.decode(bytes.toByteArray(), 3L, 11L);
+
+        assertThat(decoded).singleElement().extracting(TimeEntry::getVersion).isEqualTo(0L);
+    }
+}
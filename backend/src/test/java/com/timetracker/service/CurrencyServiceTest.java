@@ -0,0 +1,118 @@
+package com.timetracker.service;
+
+import net.jqwik.api.Arbitraries;
+import net.jqwik.api.Arbitrary;
+import net.jqwik.api.Example;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.Provide;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * CurrencyService formatting against the DecimalFormat("#,##0.00") implementation it replaced,
+ * and its fixed-point conversion against the BigDecimal formula.
+ */
+class CurrencyServiceTest {
+
+    private final CurrencyService currencyService = new CurrencyService(null);
+
+    @Property(tries = 5000)
+    void formatMatchesDecimalFormat(@ForAll("amounts") BigDecimal amount, @ForAll("languages") String language) {
+        assertThat(currencyService.formatCurrency(amount, language)).isEqualTo(reference(amount, language));
+    }
+
+    @Example
+    void formatEdgeCases() {
+        assertThat(currencyService.formatCurrency(new BigDecimal("1234.565"), "PL")).isEqualTo("1 234,56 zł");
+        assertThat(currencyService.formatCurrency(new BigDecimal("1234.575"), "UA")).isEqualTo("1 234,58 ₴");
+        assertThat(currencyService.formatCurrency(new BigDecimal("-1234567.891"), "EN")).isEqualTo("$-1,234,567.89");
+        assertThat(currencyService.formatCurrency(new BigDecimal("-0.001"), "PL")).isEqualTo("-0,00 zł");
+        assertThat(currencyService.formatCurrency(BigDecimal.ZERO, "EN")).isEqualTo("$0.00");
+        assertThat(currencyService.formatCurrency(new BigDecimal("999.995"), "PL")).isEqualTo("1 000,00 zł");
+        for (String language : new String[]{"PL", "UA", "EN", "xx"}) {
+            BigDecimal huge = new BigDecimal("123456789012345678901234.505");
+            assertThat(currencyService.formatCurrency(huge, language)).isEqualTo(reference(huge, language));
+        }
+    }
+
+    @Example
+    void appendReusesTheBuffer() {
+        StringBuilder out = new StringBuilder("a=");
+
+        currencyService.appendCurrency(out, new BigDecimal("12.3"), "EN").append(';');
+
+        assertThat(out).hasToString("a=$12.30;");
+    }
+
+    @Example
+    void nullAmountIsRejectedLikeDecimalFormat() {
+        assertThatThrownBy(() -> currencyService.formatCurrency(null, "PL"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Property(tries = 3000)
+    void convertMatchesBigDecimal(@ForAll("amounts") BigDecimal amount, @ForAll("rates") BigDecimal rate) {
+        // Includes amounts beyond four fraction digits and the long range, which take the BigDecimal fallback
+        assertThat(currencyService.convert(amount, rate)).isEqualTo(amount.multiply(rate).setScale(2, RoundingMode.HALF_UP));
+    }
+
+    private static String reference(BigDecimal amount, String language) {
+        DecimalFormatSymbols symbols;
+        String prefix = "";
+        String suffix;
+        switch (language.toUpperCase()) {
+            case "UA":
+                symbols = new DecimalFormatSymbols(new Locale("uk", "UA"));
+                symbols.setGroupingSeparator(' ');
+                symbols.setDecimalSeparator(',');
+                suffix = " ₴";
+                break;
+            case "EN":
+                symbols = new DecimalFormatSymbols(Locale.US);
+                symbols.setGroupingSeparator(',');
+                symbols.setDecimalSeparator('.');
+                prefix = "$";
+                suffix = "";
+                break;
+            default:
+                symbols = new DecimalFormatSymbols(new Locale("pl", "PL"));
+                symbols.setGroupingSeparator(' ');
+                symbols.setDecimalSeparator(',');
+                suffix = " zł";
+                break;
+        }
+        return prefix + new DecimalFormat("#,##0.00", symbols).format(amount) + suffix;
+    }
+
+    @Provide
+    Arbitrary<String> languages() {
+        return Arbitraries.of("PL", "UA", "EN", "pl", "en", "DE");
+    }
+
+    /**
+     * Amounts of either sign with 0 to 6 fraction digits, from cents to beyond the long range.
+     */
+    @Provide
+    Arbitrary<BigDecimal> amounts() {
+        Arbitrary<BigInteger> unscaled = Arbitraries.oneOf(
+                Arbitraries.bigIntegers().between(BigInteger.valueOf(-1_000_000), BigInteger.valueOf(1_000_000)),
+                Arbitraries.bigIntegers().between(BigInteger.valueOf(Long.MIN_VALUE), BigInteger.valueOf(Long.MAX_VALUE)),
+                Arbitraries.bigIntegers().between(BigInteger.TEN.pow(25).negate(), BigInteger.TEN.pow(25)));
+        return unscaled.flatMap(u -> Arbitraries.integers().between(0, 6).map(scale -> new BigDecimal(u, scale)));
+    }
+
+    @Provide
+    Arbitrary<BigDecimal> rates() {
+        return Arbitraries.bigDecimals()
+                .between(new BigDecimal("0.000001"), new BigDecimal("1000"))
+                .ofScale(6);
+    }
+}
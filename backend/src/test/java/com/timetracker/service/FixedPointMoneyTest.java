@@ -0,0 +1,192 @@
+package com.timetracker.service;
+
+import net.jqwik.api.Arbitraries;
+import net.jqwik.api.Arbitrary;
+import net.jqwik.api.Example;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.Provide;
+import net.jqwik.api.constraints.IntRange;
+import net.jqwik.api.constraints.LongRange;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.function.LongSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * FixedPointMoney against the BigDecimal formulas it replaces.
+ */
+class FixedPointMoneyTest {
+
+    @Property(tries = 5000)
+    void divideMatchesBigDecimal(@ForAll("operands") long dividend, @ForAll("divisors") long divisor,
+                                 @ForAll("roundingModes") RoundingMode mode) {
+        BigDecimal expected = BigDecimal.valueOf(dividend).divide(BigDecimal.valueOf(divisor), 0, mode);
+
+        assertThat(FixedPointMoney.divide(dividend, divisor, mode)).isEqualTo(expected.longValueExact());
+    }
+
+    @Property
+    void divideUnnecessaryThrowsOnlyWhenInexact(@ForAll("operands") long dividend, @ForAll("divisors") long divisor) {
+        if (dividend % divisor == 0) {
+            assertThat(FixedPointMoney.divide(dividend, divisor, RoundingMode.UNNECESSARY)).isEqualTo(dividend / divisor);
+        } else {
+            assertThatThrownBy(() -> FixedPointMoney.divide(dividend, divisor, RoundingMode.UNNECESSARY))
+                    .isInstanceOf(ArithmeticException.class);
+        }
+    }
+
+    @Example
+    void halfwayCasesOfBothSigns() {
+        // 2.5, 3.5, -2.5, -3.5 and the tie of a negative divisor
+        assertThat(FixedPointMoney.divide(25, 10, RoundingMode.HALF_UP)).isEqualTo(3);
+        assertThat(FixedPointMoney.divide(25, 10, RoundingMode.HALF_DOWN)).isEqualTo(2);
+        assertThat(FixedPointMoney.divide(25, 10, RoundingMode.HALF_EVEN)).isEqualTo(2);
+        assertThat(FixedPointMoney.divide(35, 10, RoundingMode.HALF_EVEN)).isEqualTo(4);
+        assertThat(FixedPointMoney.divide(-25, 10, RoundingMode.HALF_UP)).isEqualTo(-3);
+        assertThat(FixedPointMoney.divide(-25, 10, RoundingMode.HALF_EVEN)).isEqualTo(-2);
+        assertThat(FixedPointMoney.divide(-35, 10, RoundingMode.HALF_EVEN)).isEqualTo(-4);
+        assertThat(FixedPointMoney.divide(25, -10, RoundingMode.HALF_UP)).isEqualTo(-3);
+        assertThat(FixedPointMoney.divide(-1, 3, RoundingMode.FLOOR)).isEqualTo(-1);
+        assertThat(FixedPointMoney.divide(-1, 3, RoundingMode.CEILING)).isZero();
+    }
+
+    @Example
+    void operandsWithoutLongMagnitudeAreRejected() {
+        assertThatThrownBy(() -> FixedPointMoney.divide(Long.MIN_VALUE, -1, RoundingMode.HALF_UP))
+                .isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> FixedPointMoney.divide(1, Long.MIN_VALUE, RoundingMode.HALF_UP))
+                .isInstanceOf(ArithmeticException.class);
+    }
+
+    @Property
+    void hourlyRateMatchesBigDecimal(@ForAll @LongRange(min = 0, max = 100_000_000_00L) long monthlyRateMinor,
+                                     @ForAll @IntRange(min = 1, max = 400) int monthlyHours) {
+        BigDecimal expected = BigDecimal.valueOf(monthlyRateMinor, 2)
+                .divide(BigDecimal.valueOf(monthlyHours), 2, RoundingMode.HALF_UP);
+
+        assertThat(FixedPointMoney.toDecimal(FixedPointMoney.hourlyRate(monthlyRateMinor, monthlyHours), 2))
+                .isEqualTo(expected);
+    }
+
+    @Property
+    void costIsTheExactProduct(@ForAll @LongRange(min = -99_999_999, max = 99_999_999) long hundredths,
+                               @ForAll @LongRange(min = 0, max = 99_999_999_99L) long rateMinor) {
+        BigDecimal expected = BigDecimal.valueOf(hundredths, 2).multiply(BigDecimal.valueOf(rateMinor, 2));
+
+        assertThat(FixedPointMoney.toDecimal(FixedPointMoney.cost(hundredths, rateMinor), FixedPointMoney.COST_SCALE))
+                .isEqualTo(expected);
+    }
+
+    @Example
+    void costOverflowThrows() {
+        assertThatThrownBy(() -> FixedPointMoney.cost(Long.MAX_VALUE / 2, 3))
+                .isInstanceOf(ArithmeticException.class);
+    }
+
+    @Property(tries = 3000)
+    void multiplyByRateMatchesBigDecimal(@ForAll("amounts") BigDecimal amount, @ForAll("rates") BigDecimal rate,
+                                         @ForAll("roundingModes") RoundingMode mode) {
+        long fixed = FixedPointMoney.toFixed(amount, FixedPointMoney.COST_SCALE);
+        BigDecimal expected = amount.multiply(rate).setScale(2, mode);
+
+        assertMatchesOrOverflows(expected,
+                () -> FixedPointMoney.multiplyByRate(fixed, FixedPointMoney.COST_SCALE, rate, mode));
+    }
+
+    @Property(tries = 3000)
+    void divideByRateMatchesBigDecimal(@ForAll("amounts") BigDecimal amount, @ForAll("rates") BigDecimal rate,
+                                       @ForAll("roundingModes") RoundingMode mode) {
+        long fixed = FixedPointMoney.toFixed(amount, FixedPointMoney.COST_SCALE);
+        BigDecimal expected = amount.divide(rate, 2, mode);
+
+        assertMatchesOrOverflows(expected,
+                () -> FixedPointMoney.divideByRate(fixed, FixedPointMoney.COST_SCALE, rate, mode));
+    }
+
+    @Property
+    void rescaleMatchesSetScale(@ForAll @LongRange(min = -1_000_000_000_000L, max = 1_000_000_000_000L) long unscaled,
+                                @ForAll @IntRange(min = 0, max = 6) int fromScale,
+                                @ForAll @IntRange(min = 0, max = 6) int toScale,
+                                @ForAll("roundingModes") RoundingMode mode) {
+        BigDecimal expected = BigDecimal.valueOf(unscaled, fromScale).setScale(toScale, mode);
+
+        assertThat(FixedPointMoney.rescale(unscaled, fromScale, toScale, mode))
+                .isEqualTo(expected.unscaledValue().longValueExact());
+    }
+
+    @Property
+    void toFixedRoundTrips(@ForAll("amounts") BigDecimal amount) {
+        long fixed = FixedPointMoney.toFixed(amount, FixedPointMoney.COST_SCALE);
+
+        assertThat(FixedPointMoney.toDecimal(fixed, FixedPointMoney.COST_SCALE)).isEqualByComparingTo(amount);
+    }
+
+    @Example
+    void toFixedRejectsValuesThatDoNotFit() {
+        // Too many fraction digits: callers fall back to BigDecimal instead of rounding silently
+        assertThatThrownBy(() -> FixedPointMoney.toFixed(new BigDecimal("1.005"), 2))
+                .isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> FixedPointMoney.toFixed(new BigDecimal("1e20"), 2))
+                .isInstanceOf(ArithmeticException.class);
+        assertThat(FixedPointMoney.toFixed(new BigDecimal("-7.5"), 2)).isEqualTo(-750);
+    }
+
+    /**
+     * The fixed-point result is either exactly the BigDecimal one or an ArithmeticException
+     * (the callers' signal to fall back), never a different number.
+     */
+    private static void assertMatchesOrOverflows(BigDecimal expected, LongSupplier fixedPoint) {
+        long actual;
+        try {
+            actual = fixedPoint.getAsLong();
+        } catch (ArithmeticException e) {
+            return;
+        }
+        assertThat(FixedPointMoney.toDecimal(actual, FixedPointMoney.MINOR_SCALE)).isEqualTo(expected);
+    }
+
+    @Provide
+    Arbitrary<Long> operands() {
+        return Arbitraries.oneOf(
+                Arbitraries.longs().between(-1_000_000, 1_000_000),
+                Arbitraries.longs().between(Long.MIN_VALUE + 1, Long.MAX_VALUE));
+    }
+
+    @Provide
+    Arbitrary<Long> divisors() {
+        return Arbitraries.oneOf(
+                Arbitraries.longs().between(-1_000, 1_000),
+                Arbitraries.longs().between(Long.MIN_VALUE + 1, Long.MAX_VALUE))
+                .filter(d -> d != 0);
+    }
+
+    @Provide
+    Arbitrary<RoundingMode> roundingModes() {
+        return Arbitraries.of(RoundingMode.class).filter(m -> m != RoundingMode.UNNECESSARY);
+    }
+
+    /**
+     * Costs as produced by the report: up to four fraction digits, either sign.
+     */
+    @Provide
+    Arbitrary<BigDecimal> amounts() {
+        return Arbitraries.bigDecimals()
+                .between(new BigDecimal("-100000000"), new BigDecimal("100000000"))
+                .ofScale(4)
+                .map(BigDecimal::stripTrailingZeros)
+                .edgeCases(edges -> edges.add(new BigDecimal("0.0050")));
+    }
+
+    /**
+     * Exchange rates as stored in exchange_rates: NUMERIC(18,6), positive.
+     */
+    @Provide
+    Arbitrary<BigDecimal> rates() {
+        return Arbitraries.bigDecimals()
+                .between(new BigDecimal("0.000001"), new BigDecimal("1000"))
+                .ofScale(6);
+    }
+}
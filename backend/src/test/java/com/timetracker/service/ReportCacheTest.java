@@ -0,0 +1,121 @@
+package com.timetracker.service;
+
+import com.timetracker.dto.ReportDto;
+import com.timetracker.dto.TimeEntryDto;
+import com.timetracker.event.TimeEntryChangedEvent;
+import com.timetracker.event.UserChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReportCacheTest {
+
+    private static final int MAX_ENTRIES = 10;
+
+    private ReportCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ReportCache(MAX_ENTRIES, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(cache, "openTtlSeconds", 60L);
+    }
+
+    @Test
+    void changedMonthGetsANewKey() {
+        ReportCache.Key before = key(1L, 3);
+        cache.put(before, report(1L), false);
+
+        entryChanged(1L, 3);
+
+        assertThat(key(1L, 3)).isNotEqualTo(before);
+        assertThat(cache.get(key(1L, 3))).isNull();
+        assertThat(key(1L, 4)).isEqualTo(key(1L, 4));
+    }
+
+    @Test
+    void versionMapsStayBoundedAndKeepLiveReports() {
+        ReportCache.Key live = key(1L, 1);
+        cache.put(live, report(1L), true);
+
+        // Many users and months touched once, none of them cached
+        for (long user = 2; user < 2000; user++) {
+            entryChanged(user, (int) (user % 12) + 1);
+            cache.onUserChanged(new UserChangedEvent(user));
+        }
+
+        assertThat(versionCount()).isLessThanOrEqualTo(4 * MAX_ENTRIES + 2);
+        assertThat(cache.get(key(1L, 1))).isNotNull();
+        assertThat(key(1L, 1)).isEqualTo(live);
+    }
+
+    @Test
+    void prunedVersionsNeverComeBackLower() {
+        ReportCache.Key stale = key(5L, 6);
+        entryChanged(5L, 6);
+        ReportCache.Key fresh = key(5L, 6);
+
+        for (long user = 100; user < 1000; user++) {
+            cache.onUserChanged(new UserChangedEvent(user));
+        }
+
+        // The month's version was dropped, its default is now at least as new
+        assertThat(key(5L, 6).dataVersion()).isGreaterThanOrEqualTo(fresh.dataVersion());
+        assertThat(key(5L, 6)).isNotEqualTo(stale);
+    }
+
+    @Test
+    void callersCannotModifyTheCachedReport() {
+        ReportCache.Key key = key(1L, 2);
+        ReportDto report = report(1L);
+        cache.put(key, report, true);
+
+        report.getTotals().setTotalCost(BigDecimal.ONE);
+        ReportDto first = cache.get(key);
+        first.getTotals().setFormattedCost("changed");
+        first.getItems().get(0).setDescription("changed");
+        first.setCurrency("USD");
+
+        ReportDto second = cache.get(key);
+        assertThat(second.getTotals().getTotalCost()).isEqualByComparingTo("100.00");
+        assertThat(second.getTotals().getFormattedCost()).isEqualTo("100,00 zł");
+        assertThat(second.getItems().get(0).getDescription()).isEqualTo("work");
+        assertThat(second.getCurrency()).isEqualTo("PLN");
+    }
+
+    private ReportCache.Key key(Long userId, int month) {
+        return cache.key(userId, 2026, month, "PLN", 1, false);
+    }
+
+    private void entryChanged(Long userId, int month) {
+        TimeEntryDto entry = TimeEntryDto.builder().userId(userId).date(LocalDate.of(2026, month, 1)).build();
+        cache.onTimeEntryChanged(new TimeEntryChangedEvent(TimeEntryChangedEvent.Type.UPDATED, entry));
+    }
+
+    private int versionCount() {
+        return ((Map<?, ?>) ReflectionTestUtils.getField(cache, "monthVersions")).size()
+                + ((Map<?, ?>) ReflectionTestUtils.getField(cache, "userVersions")).size();
+    }
+
+    private static ReportDto report(Long userId) {
+        List<TimeEntryDto> items = new ArrayList<>();
+        items.add(TimeEntryDto.builder().id(1L).userId(userId).description("work").build());
+        return ReportDto.builder()
+                .userId(userId)
+                .items(items)
+                .currency("PLN")
+                .totals(ReportDto.ReportTotals.builder()
+                        .totalHours(new BigDecimal("10"))
+                        .totalCost(new BigDecimal("100.00"))
+                        .formattedCost("100,00 zł")
+                        .build())
+                .build();
+    }
+}
@@ -0,0 +1,116 @@
+package com.timetracker.service;
+
+import com.timetracker.entity.TimeEntry;
+import net.jqwik.api.Arbitraries;
+import net.jqwik.api.Arbitrary;
+import net.jqwik.api.Example;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.Provide;
+import net.jqwik.api.constraints.IntRange;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.Objects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Report totals in fixed point (ReportService.HoursTotal) against the BigDecimal formulas
+ * ReportService falls back to: totals must be equal including their scale, since they are
+ * serialized as is.
+ */
+class ReportHoursTotalTest {
+
+    @Property(tries = 2000)
+    void hoursMatchBigDecimalSum(@ForAll("entries") List<TimeEntry> entries) {
+        assertThat(ReportService.HoursTotal.of(entries).toDecimal()).isEqualTo(decimalSum(entries));
+    }
+
+    @Property(tries = 2000)
+    void sqlSumMatchesEntrySum(@ForAll("entries") List<TimeEntry> entries) {
+        BigDecimal sqlSum = entries.stream().allMatch(e -> e.getTotalHours() == null)
+                ? null
+                : decimalSum(entries).setScale(2, RoundingMode.UNNECESSARY);
+
+        ReportService.HoursTotal fromSql = ReportService.HoursTotal.of(sqlSum);
+
+        assertThat(fromSql.hundredths()).isEqualTo(ReportService.HoursTotal.of(entries).hundredths());
+    }
+
+    @Property(tries = 2000)
+    void b2bCostMatchesBigDecimal(@ForAll("entries") List<TimeEntry> entries, @ForAll("rates") BigDecimal rate) {
+        BigDecimal expected = decimalSum(entries).multiply(rate);
+
+        BigDecimal actual = ReportService.HoursTotal.of(entries)
+                .cost(FixedPointMoney.toFixed(rate, FixedPointMoney.MINOR_SCALE), Math.max(rate.scale(), 0));
+
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Property(tries = 2000)
+    void uopCostMatchesBigDecimal(@ForAll("entries") List<TimeEntry> entries, @ForAll("rates") BigDecimal monthlyRate,
+                                  @ForAll @IntRange(min = 1, max = 400) int monthlyHours) {
+        BigDecimal hourlyRate = monthlyRate.divide(BigDecimal.valueOf(monthlyHours), 2, RoundingMode.HALF_UP);
+        BigDecimal expected = decimalSum(entries).multiply(hourlyRate);
+
+        long hourlyMinor = FixedPointMoney.hourlyRate(
+                FixedPointMoney.toFixed(monthlyRate, FixedPointMoney.MINOR_SCALE), monthlyHours);
+        BigDecimal actual = ReportService.HoursTotal.of(entries).cost(hourlyMinor, FixedPointMoney.MINOR_SCALE);
+
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Example
+    void noEntriesGiveUnscaledZero() {
+        assertThat(ReportService.HoursTotal.of(List.of()).toDecimal()).isEqualTo(BigDecimal.ZERO);
+        assertThat(ReportService.HoursTotal.of((BigDecimal) null).toDecimal()).isEqualTo(BigDecimal.ZERO);
+    }
+
+    @Example
+    void valuesOutsideTheFixedPointRangeSignalTheFallback() {
+        // ReportService catches ArithmeticException and recomputes with BigDecimal
+        assertThatThrownBy(() -> ReportService.HoursTotal.of(List.of(entry(new BigDecimal("1.005")))))
+                .isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> ReportService.HoursTotal.of(new BigDecimal("1e18")))
+                .isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> new ReportService.HoursTotal(Long.MAX_VALUE / 10, 2).cost(100, 2))
+                .isInstanceOf(ArithmeticException.class);
+    }
+
+    private static BigDecimal decimalSum(List<TimeEntry> entries) {
+        return entries.stream()
+                .map(TimeEntry::getTotalHours)
+                .filter(Objects::nonNull)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    private static TimeEntry entry(BigDecimal hours) {
+        return TimeEntry.builder().totalHours(hours).build();
+    }
+
+    /**
+     * Entries of one month as stored in time_entries.total_hours NUMERIC(5,2), some without hours
+     * (UNIT tasks) and with scales 0 to 2 as they arrive from the API or import.
+     */
+    @Provide
+    Arbitrary<List<TimeEntry>> entries() {
+        Arbitrary<BigDecimal> hours = Arbitraries.longs().between(0, 999_99).map(ReportHoursTotalTest::withShortestScale);
+        return hours.injectNull(0.1).map(ReportHoursTotalTest::entry).list().ofMaxSize(200);
+    }
+
+    /**
+     * Rates as stored in users.uop_gross_rate / b2b_hourly_net_rate NUMERIC(10,2), any scale up to 2.
+     */
+    @Provide
+    Arbitrary<BigDecimal> rates() {
+        return Arbitraries.longs().between(0, 99_999_999_99L).map(ReportHoursTotalTest::withShortestScale);
+    }
+
+    // 7.50 -> 7.5, 8.00 -> 8, 10.00 -> 10 (never a negative scale)
+    private static BigDecimal withShortestScale(long hundredths) {
+        BigDecimal value = BigDecimal.valueOf(hundredths, 2).stripTrailingZeros();
+        return value.setScale(Math.max(value.scale(), 0), RoundingMode.UNNECESSARY);
+    }
+}
@@ -3,7 +3,7 @@ import { useTranslation } from 'react-i18next';
 import { format, startOfMonth, endOfMonth, startOfWeek, endOfWeek, addDays, isSameMonth, isSameDay } from 'date-fns';
 import { pl, enUS, uk } from 'date-fns/locale';
 import api from '../lib/api';
-import type { TimeEntry, User } from '../types';
+import type { CalendarDay, User } from '../types';
 
 interface MonthCalendarProps {
   currentDate: Date;
@@ -34,7 +34,7 @@ interface Holiday {
  * Displays a calendar view for the current month with time entry status indicators.
  * - Shows entries with total hours (HOURLY) or quantity (UNIT)
  * - Color-codes days by entry status: approved (green), submitted (blue), rejected (red)
- * - Fetches time entries on mount and when month/selectedUserId changes
+ * - Fetches per-day aggregates on mount and when month/selectedUserId changes
  * - Supports viewing specific user's entries via selectedUserId prop
  */
 export default function MonthCalendar({ currentDate, onDayClick, user, selectedUserId }: MonthCalendarProps) {
@@ -46,7 +46,7 @@ export default function MonthCalendar({ currentDate, onDayClick, user, selectedU
   const locale = i18n.language === 'pl' ? pl : i18n.language === 'ua' ? uk : enUS;
 
   /**
-   * Fetch time entries for the current month and build day status map
+   * Fetch per-day aggregates for the current month and build day status map
    */
   const fetchMonthData = async () => {
     setLoading(true);
@@ -54,38 +54,13 @@ export default function MonthCalendar({ currentDate, onDayClick, user, selectedU
       const month = currentDate.getMonth() + 1;
       const year = currentDate.getFullYear();
 
-      // Fetch time entries for current month
-      const { data: entries } = selectedUserId
-        ? await api.get<TimeEntry[]>(`/time-entries/user/${selectedUserId}/month/${year}/${month}`)
-        : await api.get<TimeEntry[]>('/time-entries', {
+      // Fetch per-day aggregates (totals and status mix) for current month
+      const { data: calendarDays } = selectedUserId
+        ? await api.get<CalendarDay[]>(`/time-entries/user/${selectedUserId}/calendar/${year}/${month}`)
+        : await api.get<CalendarDay[]>('/time-entries/calendar', {
           params: { month, year }
         });
 
-      // Fetch all projects and tasks to enrich entries with billing type
-      let taskMap = new Map();
-      try {
-        const { data: projects } = await api.get('/projects');
-        for (const project of projects) {
-          try {
-            const { data: tasks } = await api.get(`/tasks/project/${project.id}`);
-            tasks.forEach((task: any) => {
-              taskMap.set(task.id, task);
-            });
-          } catch (err) {
-            // Ignore if tasks not available for this project
-          }
-        }
-      } catch (err) {
-        console.error('Error fetching tasks:', err);
-      }
-
-      // Enrich entries with billing type and unit name
-      const enrichedEntries = entries.map(entry => ({
-        ...entry,
-        billingType: taskMap.get(entry.taskId)?.billingType || 'HOURLY',
-        unitName: taskMap.get(entry.taskId)?.unitName
-      }));
-
       // TODO: Add holidays endpoint in backend
       const holidayData: Holiday[] = [];
       setHolidays(holidayData);
@@ -110,26 +85,27 @@ export default function MonthCalendar({ currentDate, onDayClick, user, selectedU
         day = addDays(day, 1);
       }
 
-      // Add entry data to status map
-      enrichedEntries.forEach(entry => {
-        const dateKey = entry.date;
-        const existing = statusMap.get(dateKey);
+      // Add per-day aggregates to status map
+      calendarDays.forEach(calendarDay => {
+        const existing = statusMap.get(calendarDay.date);
         if (existing) {
-          // For HOURLY entries use totalHours, for UNIT entries use quantity
-          const value = entry.totalHours !== undefined && entry.totalHours !== null
-            ? Number(entry.totalHours)
-            : (entry.quantity !== undefined && entry.quantity !== null ? Number(entry.quantity) : 0);
+          // For HOURLY days show hours, for UNIT-only days show quantity
+          const value = calendarDay.billingType === 'UNIT'
+            ? Number(calendarDay.totalQuantity ?? 0)
+            : Number(calendarDay.totalHours ?? 0);
 
-          // Store billing type from enriched entry
-          const billingType = entry.billingType || 'HOURLY';
+          // Any rejected entry marks the day rejected, any pending entry marks it submitted
+          const status = calendarDay.rejected > 0
+            ? 'ODRZUCONY'
+            : calendarDay.submitted > 0 ? 'ZGLOSZONY' : 'ZATWIERDZONY';
 
-          statusMap.set(dateKey, {
+          statusMap.set(calendarDay.date, {
             ...existing,
             hasEntry: true,
-            totalHours: (existing.totalHours || 0) + value,
-            status: entry.status,
-            billingType: billingType,
-            unitName: entry.unitName,
+            totalHours: value,
+            status,
+            billingType: calendarDay.billingType,
+            unitName: calendarDay.unitName,
           });
         }
       });
@@ -42,7 +42,7 @@ export default function TimeEntryForm({ onSuccess, initialDate }: TimeEntryFormP
 
   const fetchProjects = async () => {
     try {
-      const { data } = await api.get('/projects');
+      const { data } = await api.get('/projects', { params: { bookable: true } });
       setProjects(data);
     } catch (err) {
       console.error('Error fetching projects:', err);
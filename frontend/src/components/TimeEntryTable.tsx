@@ -27,10 +27,13 @@ export default function TimeEntryTable({ entries, currentUser, onUpdate }: TimeE
     }
   };
 
+  // UNIT entries carry a quantity instead of hours
+  const isUnitEntry = (entry: TimeEntry) => entry.billingType === 'UNIT' || entry.quantity != null;
+
   const handleEdit = (entry: TimeEntry) => {
     setEditingId(entry.id);
     setEditData({
-      hours: (entry.totalHours || entry.hours || 0).toString(),
+      hours: (isUnitEntry(entry) ? entry.quantity || 0 : entry.totalHours || entry.hours || 0).toString(),
       description: entry.description || '',
     });
   };
@@ -44,14 +47,24 @@ export default function TimeEntryTable({ entries, currentUser, onUpdate }: TimeE
       await api.put(`/time-entries/${id}`, {
         userId: user.id,
         projectId: entry.projectId,
+        taskId: entry.taskId,
         date: entry.date,
-        totalHours: parseFloat(editData.hours),
+        version: entry.version,
+        ...(isUnitEntry(entry)
+          ? { quantity: parseFloat(editData.hours) }
+          : { totalHours: parseFloat(editData.hours) }),
         description: editData.description,
       });
       setEditingId(null);
       onUpdate();
-    } catch (err) {
+    } catch (err: any) {
       console.error('Error updating entry:', err);
+      if (err.response?.status === 409) {
+        // Someone else changed the entry meanwhile; reload to show their version
+        alert(t('errors.conflict'));
+        onUpdate();
+        return;
+      }
       alert(t('errors.saveFailed'));
     }
   };
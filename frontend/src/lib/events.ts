@@ -0,0 +1,72 @@
+import type { TimeEntryEvent } from '../types';
+
+/**
+ * Subscribe to time entry changes pushed by the backend (Server-Sent Events).
+ * Uses fetch instead of EventSource so the JWT can be sent in the Authorization header.
+ * Reconnects after errors and stream timeouts; `onResync` is called after reconnecting
+ * and when the server dropped events, so callers should reload their data then.
+ *
+ * @returns Function that closes the stream
+ */
+export function subscribeTimeEntryEvents(
+  onEvent: (event: TimeEntryEvent) => void,
+  onResync: () => void
+): () => void {
+  const controller = new AbortController();
+  let connected = false;
+
+  const connect = async () => {
+    while (!controller.signal.aborted) {
+      try {
+        const response = await fetch('/api/time-entries/stream', {
+          headers: {
+            Authorization: `Bearer ${localStorage.getItem('token')}`,
+            Accept: 'text/event-stream',
+          },
+          signal: controller.signal,
+        });
+        if (response.status === 401 || !response.body) {
+          return;
+        }
+        if (connected) {
+          onResync();
+        }
+        connected = true;
+
+        const reader = response.body.pipeThrough(new TextDecoderStream()).getReader();
+        let buffer = '';
+        for (;;) {
+          const { value, done } = await reader.read();
+          if (done) break;
+          buffer += value;
+          let end;
+          while ((end = buffer.indexOf('\n\n')) >= 0) {
+            dispatch(buffer.slice(0, end), onEvent, onResync);
+            buffer = buffer.slice(end + 2);
+          }
+        }
+      } catch {
+        if (controller.signal.aborted) return;
+      }
+      // Back off before reconnecting
+      await new Promise((resolve) => setTimeout(resolve, 5000));
+    }
+  };
+
+  connect();
+  return () => controller.abort();
+}
+
+function dispatch(block: string, onEvent: (event: TimeEntryEvent) => void, onResync: () => void) {
+  let name = 'message';
+  const data: string[] = [];
+  for (const line of block.split('\n')) {
+    if (line.startsWith('event:')) name = line.slice(6).trim();
+    else if (line.startsWith('data:')) data.push(line.slice(5));
+  }
+  if (name === 'resync') {
+    onResync();
+  } else if (name === 'time-entry' && data.length > 0) {
+    onEvent(JSON.parse(data.join('\n')) as TimeEntryEvent);
+  }
+}
@@ -3,12 +3,13 @@ import { useNavigate } from 'react-router-dom';
 import { useTranslation } from 'react-i18next';
 import { format, addMonths, subMonths } from 'date-fns';
 import api from '../lib/api';
+import { subscribeTimeEntryEvents } from '../lib/events';
 import MonthCalendar from '../components/MonthCalendar';
 import TimeEntryForm from '../components/TimeEntryForm';
 import TimeEntryTable from '../components/TimeEntryTable';
 import UserManagement from '../components/UserManagement';
 import Projects from './Projects';
-import type { User, TimeEntry } from '../types';
+import type { User, TimeEntry, Task, DashboardBootstrap } from '../types';
 
 export default function Dashboard() {
   const [currentDate, setCurrentDate] = useState(new Date());
@@ -17,6 +18,7 @@ export default function Dashboard() {
   const [dayEntries, setDayEntries] = useState<TimeEntry[]>([]);
   const [loadingEntries, setLoadingEntries] = useState(false);
   const [calendarKey, setCalendarKey] = useState(0);
+  const [liveRevision, setLiveRevision] = useState(0);
   const [activeView, setActiveView] = useState<'calendar' | 'users' | 'reports' | 'projects'>('calendar');
   const [users, setUsers] = useState<User[]>([]);
   const [selectedUserId, setSelectedUserId] = useState<number | null>(null);
@@ -53,9 +55,25 @@ export default function Dashboard() {
     }
   }, []);
 
+  // Reload the calendar and the open day when entries change on the server (approvals, new submissions)
+  useEffect(() => {
+    if (!user) return;
+    const bump = () => setLiveRevision(prev => prev + 1);
+    return subscribeTimeEntryEvents(bump, bump);
+  }, []);
+
+  useEffect(() => {
+    if (liveRevision > 0) {
+      handleEntryUpdate();
+    }
+  }, [liveRevision]);
+
   const fetchUsers = async () => {
     try {
-      const { data } = await api.get<{ content: User[] }>('/users');
+      // Only the fields the user picker shows
+      const { data } = await api.get<{ content: User[] }>('/users', {
+        params: { fields: 'id,firstName,lastName,firstNameUa,lastNameUa,email,role' }
+      });
       setUsers(data.content || []);
     } catch (err) {
       console.error('Error fetching users:', err);
@@ -73,26 +91,17 @@ export default function Dashboard() {
       const month = date.getMonth() + 1;
       const year = date.getFullYear();
 
-      const { data: allEntries } = selectedUserId
-        ? await api.get<TimeEntry[]>(`/time-entries/user/${selectedUserId}/month/${year}/${month}`)
-        : await api.get<TimeEntry[]>('/time-entries', {
-          params: { month, year }
-        });
-
-      // Fetch all projects and tasks to enrich entries with billing type
-      const { data: projects } = await api.get<any[]>('/projects');
-      const taskMap = new Map();
-
-      for (const project of projects) {
-        try {
-          const { data: tasks } = await api.get(`/tasks/project/${project.id}`);
-          tasks.forEach((task: any) => {
-            taskMap.set(task.id, task);
-          });
-        } catch (err) {
-          // Ignore if tasks not available for this project
-        }
-      }
+      // Own entries, bookable projects and their tasks in one request
+      const { data: bootstrap } = await api.get<DashboardBootstrap>('/dashboard/bootstrap', {
+        params: { month, year }
+      });
+      const allEntries = selectedUserId
+        ? (await api.get<TimeEntry[]>(`/time-entries/user/${selectedUserId}/month/${year}/${month}`)).data
+        : bootstrap.entries;
+
+      // Tasks by ID to enrich entries with billing type
+      const taskMap = new Map<number, Task>();
+      bootstrap.projects.forEach(({ tasks }) => tasks.forEach(task => taskMap.set(task.id!, task)));
 
       // Enrich entries with billing type and unit name
       const enrichedEntries = allEntries.map(entry => ({
@@ -11,6 +11,8 @@ interface Project {
   description?: string;
   managerId?: number;
   active?: boolean;
+  taskCount?: number;
+  memberCount?: number;
 }
 
 interface Task {
@@ -77,22 +79,12 @@ export default function Projects() {
   const fetchProjects = async () => {
     setLoading(true);
     try {
-      const { data } = await api.get<Project[]>('/projects');
-      setProjects(data || []);
-      // Fetch task counts for all projects
-      const taskPromises = (data || []).map(async (p) => {
-        try {
-          const { data: tasks } = await api.get<Task[]>(`/tasks/project/${p.id}`);
-          return { projectId: p.id!, tasks: tasks || [] };
-        } catch (e) {
-          console.error(`Error fetching tasks for project ${p.id}`, e);
-          return { projectId: p.id!, tasks: [] };
-        }
-      });
-      const results = await Promise.all(taskPromises);
-      const newTaskMap = new Map<number, Task[]>();
-      results.forEach(r => newTaskMap.set(r.projectId, r.tasks));
-      setProjectTasks(newTaskMap);
+      // One request for all rows including task counts; tasks are loaded when a project is expanded
+      const { data } = await api.get<{ content: Project[] }>('/projects/page', { params: { size: 500 } });
+      const rows = data?.content || [];
+      setProjects(rows);
+      setProjectTasks(new Map());
+      await loadTasks(rows.filter(p => expandedProjects.has(p.id!)).map(p => p.id!));
     } catch (err) {
       console.error('Error fetching projects', err);
     } finally {
@@ -100,6 +92,24 @@ export default function Projects() {
     }
   };
 
+  const loadTasks = async (projectIds: number[]) => {
+    if (projectIds.length === 0) return;
+    const results = await Promise.all(projectIds.map(async (projectId) => {
+      try {
+        const { data: tasks } = await api.get<Task[]>(`/tasks/project/${projectId}`);
+        return { projectId, tasks: tasks || [] };
+      } catch (e) {
+        console.error(`Error fetching tasks for project ${projectId}`, e);
+        return { projectId, tasks: [] as Task[] };
+      }
+    }));
+    setProjectTasks(prev => {
+      const next = new Map(prev);
+      results.forEach(r => next.set(r.projectId, r.tasks));
+      return next;
+    });
+  };
+
   const openCreate = () => {
     setEditingProjectId(null);
     setOriginalTaskIds([]);
@@ -389,7 +399,10 @@ export default function Projects() {
 
       <div className="flex gap-2 mb-4">
         <button
-          onClick={() => setExpandedProjects(new Set(projects.map(p => p.id!)))}
+          onClick={() => {
+            setExpandedProjects(new Set(projects.map(p => p.id!)));
+            loadTasks(projects.filter(p => !projectTasks.has(p.id!)).map(p => p.id!));
+          }}
           className="px-4 py-2 bg-primary-600 hover:bg-primary-700 text-white rounded-md text-sm font-medium transition-colors"
         >
           Rozwiń wszystkie
@@ -421,6 +434,7 @@ export default function Projects() {
               {projects.map((p, idx) => {
                 const isExpanded = expandedProjects.has(p.id!);
                 const tasks = projectTasks.get(p.id!) || [];
+                const taskCount = projectTasks.get(p.id!)?.length ?? p.taskCount ?? 0;
                 return (
                   <React.Fragment key={p.id}>
                     <tr className="border-t">
@@ -435,7 +449,7 @@ export default function Projects() {
                           className="px-2 py-1 bg-accent-500 hover:bg-accent-600 text-white rounded-md text-sm flex items-center gap-1 transition-colors"
                         >
                           <span>{isExpanded ? '▼' : '▶'}</span>
-                          <span>Zadania ({tasks.length})</span>
+                          <span>Zadania ({taskCount})</span>
                         </button>
                       </td>
                       <td className="py-2">
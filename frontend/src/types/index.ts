@@ -52,6 +52,24 @@ export interface TimeEntry {
   status?: 'ZGLOSZONY' | 'ZATWIERDZONY' | 'ODRZUCONY';
   approvedBy?: number;
   approvedAt?: string;
+  version?: number;
+}
+
+export interface CalendarDay {
+  date: string;
+  entryCount: number;
+  totalHours?: number;
+  totalQuantity?: number;
+  submitted: number;
+  approved: number;
+  rejected: number;
+  billingType: 'HOURLY' | 'UNIT';
+  unitName?: string;
+}
+
+export interface TimeEntryEvent {
+  type: 'CREATED' | 'UPDATED' | 'APPROVED' | 'REJECTED' | 'DELETED';
+  entry: TimeEntry;
 }
 
 export interface Project {
@@ -63,6 +81,23 @@ export interface Project {
   active: boolean;
 }
 
+export interface DashboardBootstrap {
+  user: User;
+  year: number;
+  month: number;
+  projects: { project: Project; tasks: Task[] }[];
+  entries: TimeEntry[];
+  calendar: CalendarDay[];
+  totals: {
+    entryCount: number;
+    submitted: number;
+    approved: number;
+    rejected: number;
+    totalHours?: number;
+    totalQuantity?: number;
+  };
+}
+
 export interface Report {
   userId: number;
   userFullName: string;